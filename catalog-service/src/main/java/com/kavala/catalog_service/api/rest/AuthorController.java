@@ -1,7 +1,8 @@
 package com.kavala.catalog_service.api.rest;
 
 import java.net.URI;
-import java.util.List;
+import java.time.Instant;
+import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.http.ResponseEntity;
@@ -12,11 +13,14 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import com.kavala.catalog_service.api.rest.dto.AuthorPageResponse;
 import com.kavala.catalog_service.api.rest.dto.AuthorResponse;
 import com.kavala.catalog_service.api.rest.dto.CreateAuthorRequest;
 import com.kavala.catalog_service.application.command.author.CreateAuthorCommand;
 import com.kavala.catalog_service.application.command.author.CreateAuthorCommandHandler;
+import com.kavala.catalog_service.application.query.ResourceVersions;
 import com.kavala.catalog_service.application.query.author.GetAuthorQuery;
 import com.kavala.catalog_service.application.query.author.GetAuthorQueryHandler;
 import com.kavala.catalog_service.application.query.author.ListAuthorQuery;
@@ -39,14 +43,17 @@ public class AuthorController {
     private final CreateAuthorCommandHandler createAuthorCommandHandler;
     private final GetAuthorQueryHandler getAuthorQueryHandler;
     private final ListAuthorQueryHandler listAuthorQueryHandler;
+    private final ResourceVersions resourceVersions;
 
     public AuthorController(
             CreateAuthorCommandHandler createAuthorCommandHandler,
             GetAuthorQueryHandler getAuthorQueryHandler,
-            ListAuthorQueryHandler listAuthorQueryHandler) {
+            ListAuthorQueryHandler listAuthorQueryHandler,
+            ResourceVersions resourceVersions) {
         this.createAuthorCommandHandler = createAuthorCommandHandler;
         this.getAuthorQueryHandler = getAuthorQueryHandler;
         this.listAuthorQueryHandler = listAuthorQueryHandler;
+        this.resourceVersions = resourceVersions;
     }
 
     /**
@@ -75,35 +82,62 @@ public class AuthorController {
     /**
      * Belirtilen ID'ye sahip yazarın bilgilerini getirir.
      * 
+     * Yanıt strong ETag ve Last-Modified taşır; istemcinin sürümü
+     * geçerliyse gövdesiz 304 döner.
+     * 
      * @param id Yazar UUID'si
-     * @return 200 OK - Yazar bilgileri (AuthorResponse)
+     * @return 200 OK - Yazar bilgileri (AuthorResponse), 304 Not Modified
      * @throws IllegalArgumentException Yazar bulunamazsa
      */
     @GetMapping("/{id}")
-    public ResponseEntity<AuthorResponse> getAuthor(@PathVariable UUID id) {
+    public ResponseEntity<AuthorResponse> getAuthor(@PathVariable UUID id, WebRequest request) {
+        Optional<Instant> version = resourceVersions.author(id);
+        if (version.isPresent()
+                && request.checkNotModified(EntityTags.strong(id, version.get()), version.get().toEpochMilli())) {
+            return null;
+        }
+
         GetAuthorQuery query = new GetAuthorQuery(id);
 
         AuthorResponse response = getAuthorQueryHandler.handle(query);
 
-        return ResponseEntity.ok(response);
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        version.ifPresent(createdAt -> builder.eTag(EntityTags.strong(id, createdAt)).lastModified(createdAt));
+        return builder.body(response);
     }
 
     /**
-     * Tüm yazarları sayfalı olarak listeler.
+     * Yazarları ada göre sıralı ve sayfalı olarak listeler.
      * 
-     * @param page Sayfa numarası (0'dan başlar, varsayılan: 0)
-     * @param size Sayfa başına kayıt sayısı (1-100 arası, varsayılan: 20)
-     * @return 200 OK - Yazar listesi (List<AuthorResponse>)
+     * Derin sayfalar için cursor tercih edilmelidir: bir önceki yanıttaki
+     * nextCursor gönderildiğinde offset yerine keyset (seek) sayfalama yapılır.
+     * namePrefix verilirse yalnızca adı bu önekle başlayan yazarlar döner
+     * (büyük/küçük harf duyarlı).
+     * 
+     * @param page       Sayfa numarası (0'dan başlar, varsayılan: 0)
+     * @param size       Sayfa başına kayıt sayısı (1-100 arası, varsayılan: 20)
+     * @param cursor     Önceki sayfanın nextCursor değeri (opsiyonel)
+     * @param namePrefix Ad öneki (opsiyonel)
+     * @return 200 OK - Yazar sayfası ve sonraki sayfa cursor'ı
+     *         (AuthorPageResponse), katalog değişmediyse 304 Not Modified
      */
     @GetMapping
-    public ResponseEntity<List<AuthorResponse>> listAuthors(
+    public ResponseEntity<AuthorPageResponse> listAuthors(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size) {
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String namePrefix,
+            WebRequest request) {
+
+        String etag = EntityTags.collection(resourceVersions.catalog());
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
 
-        ListAuthorQuery query = new ListAuthorQuery(page, size);
+        ListAuthorQuery query = new ListAuthorQuery(page, size, cursor, namePrefix);
 
-        List<AuthorResponse> response = listAuthorQueryHandler.handle(query);
+        AuthorPageResponse response = listAuthorQueryHandler.handle(query);
 
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(etag).body(response);
     }
 }
@@ -1,8 +1,11 @@
 package com.kavala.catalog_service.api.rest;
 
 import java.net.URI;
+import java.util.List;
 import java.util.UUID;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -11,9 +14,15 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
 
+import com.kavala.catalog_service.api.rest.dto.BookImportResponse;
 import com.kavala.catalog_service.api.rest.dto.CreateBookRequest;
 import com.kavala.catalog_service.api.rest.dto.UpdateBookRequest;
+import com.kavala.catalog_service.application.command.book.bulkimport.ImportBooksCommand;
+import com.kavala.catalog_service.application.command.book.bulkimport.ImportBooksCommandHandler;
+import com.kavala.catalog_service.application.command.book.checkout.RecordBookCheckoutCommand;
+import com.kavala.catalog_service.application.command.book.checkout.RecordBookCheckoutCommandHandler;
 import com.kavala.catalog_service.application.command.book.create.CreateBookCommand;
 import com.kavala.catalog_service.application.command.book.create.CreateBookCommandHandler;
 import com.kavala.catalog_service.application.command.book.delete.DeleteBookCommand;
@@ -38,14 +47,23 @@ public class BookCommandController {
     private final CreateBookCommandHandler createBookCommandHandler;
     private final UpdateBookCommandHandler updateBookCommandHandler;
     private final DeleteBookCommandHandler deleteBookCommandHandler;
+    private final ImportBooksCommandHandler importBooksCommandHandler;
+    private final RecordBookCheckoutCommandHandler recordBookCheckoutCommandHandler;
+    private final int importMaxRows;
 
     public BookCommandController(
             CreateBookCommandHandler createBookCommandHandler,
             UpdateBookCommandHandler updateBookCommandHandler,
-            DeleteBookCommandHandler deleteBookCommandHandler) {
+            DeleteBookCommandHandler deleteBookCommandHandler,
+            ImportBooksCommandHandler importBooksCommandHandler,
+            RecordBookCheckoutCommandHandler recordBookCheckoutCommandHandler,
+            @Value("${catalog.import.max-rows:10000}") int importMaxRows) {
         this.createBookCommandHandler = createBookCommandHandler;
         this.updateBookCommandHandler = updateBookCommandHandler;
         this.deleteBookCommandHandler = deleteBookCommandHandler;
+        this.importBooksCommandHandler = importBooksCommandHandler;
+        this.recordBookCheckoutCommandHandler = recordBookCheckoutCommandHandler;
+        this.importMaxRows = importMaxRows;
     }
 
     /**
@@ -77,6 +95,43 @@ public class BookCommandController {
                 .body(bookId);
     }
 
+    /**
+     * Kitapları toplu olarak içe aktarır.
+     * 
+     * İstek gövdesi CreateBookRequest dizisidir. Satırlar tek tek doğrulanır;
+     * hatalı satırlar yanıtta index ve hata mesajı ile raporlanır, geçerli
+     * satırların aktarımı devam eder.
+     * 
+     * @param requests İçe aktarılacak kitaplar (catalog.import.max-rows ile
+     *                 sınırlı)
+     * @return 200 OK - Aktarım özeti ve satır hataları (BookImportResponse)
+     * @throws ResponseStatusException 400 - İzin verilenden fazla satır
+     *                                 gönderilirse
+     */
+    @PostMapping("/import")
+    public ResponseEntity<BookImportResponse> importBooks(@RequestBody List<CreateBookRequest> requests) {
+        if (requests.size() > importMaxRows) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "At most " + importMaxRows + " books can be imported at once, got " + requests.size());
+        }
+        List<CreateBookCommand> commands = requests.stream()
+                .map(request -> request == null ? null
+                        : new CreateBookCommand(
+                                request.title(),
+                                request.categoryId(),
+                                request.publisherId(),
+                                request.publishedDate(),
+                                request.pageCount(),
+                                request.language(),
+                                request.description(),
+                                request.authorIds()))
+                .toList();
+
+        BookImportResponse response = importBooksCommandHandler.handle(new ImportBooksCommand(commands));
+
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Mevcut bir kitabı günceller.
      * 
@@ -128,4 +183,25 @@ public class BookCommandController {
 
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * Kitabın bir kez ödünç verildiğini popülerlik sayacına işler.
+     * 
+     * Ödünç servisi her checkout commit edildikten sonra, envanterden aldığı
+     * kitap id'si ile çağırır. Sayaç bellekte artırılır ve periyodik olarak
+     * veritabanına yazılır; popüler kitaplar listesi ve öneri sıralaması bir
+     * sonraki yazımdan sonra güncellenir.
+     * 
+     * @param id Ödünç verilen kitabın UUID'si
+     * @return 202 Accepted - Kayıt alındı
+     * @throws IllegalArgumentException Kitap bulunamazsa
+     */
+    @PostMapping("/{id}/checkouts")
+    public ResponseEntity<Void> recordCheckout(@PathVariable UUID id) {
+        RecordBookCheckoutCommand command = new RecordBookCheckoutCommand(id);
+
+        recordBookCheckoutCommandHandler.handle(command);
+
+        return ResponseEntity.accepted().build();
+    }
 }
@@ -1,24 +1,57 @@
 package com.kavala.catalog_service.api.rest;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.kavala.catalog_service.api.rest.dto.BatchBookLookupRequest;
 import com.kavala.catalog_service.api.rest.dto.BookDetailResponse;
-import com.kavala.catalog_service.api.rest.dto.BookListResponse;
-import com.kavala.catalog_service.api.rest.dto.BookSearchResponse;
+import com.kavala.catalog_service.api.rest.dto.BookPageResponse;
+import com.kavala.catalog_service.api.rest.dto.BookSearchResultResponse;
+import com.kavala.catalog_service.api.rest.dto.PopularBookResponse;
+import com.kavala.catalog_service.api.rest.dto.SuggestionResponse;
+import com.kavala.catalog_service.application.query.ResourceVersions;
+import com.kavala.catalog_service.application.query.book.batch.BatchGetBooksQuery;
+import com.kavala.catalog_service.application.query.book.batch.BatchGetBooksQueryHandler;
+import com.kavala.catalog_service.application.query.book.export.ExportBooksQuery;
+import com.kavala.catalog_service.application.query.book.export.ExportBooksQueryHandler;
 import com.kavala.catalog_service.application.query.book.get.GetBookQuery;
 import com.kavala.catalog_service.application.query.book.get.GetBookQueryHandler;
 import com.kavala.catalog_service.application.query.book.list.ListBooksQuery;
 import com.kavala.catalog_service.application.query.book.list.ListBooksQueryHandler;
+import com.kavala.catalog_service.application.query.book.popular.ListPopularBooksQuery;
+import com.kavala.catalog_service.application.query.book.popular.ListPopularBooksQueryHandler;
 import com.kavala.catalog_service.application.query.book.search.SearchBooksQuery;
 import com.kavala.catalog_service.application.query.book.search.SearchBooksQueryHandler;
+import com.kavala.catalog_service.application.query.book.suggest.SuggestQuery;
+import com.kavala.catalog_service.application.query.book.suggest.SuggestQueryHandler;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import tools.jackson.databind.ObjectMapper;
 
 /**
  * Kitap okuma işlemlerini yöneten REST Controller.
@@ -33,16 +66,37 @@ import com.kavala.catalog_service.application.query.book.search.SearchBooksQuery
 public class BookQueryController {
 
     private final GetBookQueryHandler getBookQueryHandler;
+    private final BatchGetBooksQueryHandler batchGetBooksQueryHandler;
     private final ListBooksQueryHandler listBooksQueryHandler;
     private final SearchBooksQueryHandler searchBooksQueryHandler;
+    private final ExportBooksQueryHandler exportBooksQueryHandler;
+    private final SuggestQueryHandler suggestQueryHandler;
+    private final ListPopularBooksQueryHandler listPopularBooksQueryHandler;
+    private final ResourceVersions resourceVersions;
+    private final ObjectMapper objectMapper;
+    private final int batchMaxIds;
 
     public BookQueryController(
             GetBookQueryHandler getBookQueryHandler,
+            BatchGetBooksQueryHandler batchGetBooksQueryHandler,
             ListBooksQueryHandler listBooksQueryHandler,
-            SearchBooksQueryHandler searchBooksQueryHandler) {
+            SearchBooksQueryHandler searchBooksQueryHandler,
+            ExportBooksQueryHandler exportBooksQueryHandler,
+            SuggestQueryHandler suggestQueryHandler,
+            ListPopularBooksQueryHandler listPopularBooksQueryHandler,
+            ResourceVersions resourceVersions,
+            ObjectMapper objectMapper,
+            @Value("${catalog.books.batch.max-ids:500}") int batchMaxIds) {
         this.getBookQueryHandler = getBookQueryHandler;
+        this.batchGetBooksQueryHandler = batchGetBooksQueryHandler;
         this.listBooksQueryHandler = listBooksQueryHandler;
         this.searchBooksQueryHandler = searchBooksQueryHandler;
+        this.exportBooksQueryHandler = exportBooksQueryHandler;
+        this.suggestQueryHandler = suggestQueryHandler;
+        this.listPopularBooksQueryHandler = listPopularBooksQueryHandler;
+        this.resourceVersions = resourceVersions;
+        this.objectMapper = objectMapper;
+        this.batchMaxIds = batchMaxIds;
     }
 
     /**
@@ -51,16 +105,63 @@ public class BookQueryController {
      * Dönen response, kitabın tüm detaylarını (title, category, publisher,
      * publishedDate, pageCount, language, description, authors) içerir.
      * 
+     * Yanıt, kitabın updatedAt değerinden türetilen strong ETag ve
+     * Last-Modified taşır. If-None-Match / If-Modified-Since hâlâ geçerliyse
+     * yalnızca updated_at okunur ve gövdesiz 304 döner.
+     * 
      * @param id Kitap UUID'si
-     * @return 200 OK - Kitap detayları (BookDetailResponse)
+     * @return 200 OK - Kitap detayları (BookDetailResponse), 304 Not Modified
      * @throws IllegalArgumentException Kitap bulunamazsa
      */
     @GetMapping("/{id}")
-    public ResponseEntity<BookDetailResponse> getBook(@PathVariable UUID id) {
+    public ResponseEntity<BookDetailResponse> getBook(@PathVariable UUID id, WebRequest request) {
+        Optional<Instant> version = resourceVersions.book(id);
+        if (version.isPresent()
+                && request.checkNotModified(EntityTags.strong(id, version.get()), version.get().toEpochMilli())) {
+            return null;
+        }
+
         GetBookQuery query = new GetBookQuery(id);
 
         BookDetailResponse response = getBookQueryHandler.handle(query);
 
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        version.ifPresent(updatedAt -> builder.eTag(EntityTags.strong(id, updatedAt)).lastModified(updatedAt));
+        return builder.body(response);
+    }
+
+    /**
+     * Birden fazla kitabı id'leriyle tek istekte getirir.
+     * 
+     * Diğer servislerin (ödünç geçmişi, envanter raporları) yüzlerce kitabı
+     * tek tek GET yerine tek çağrıyla zenginleştirmesi içindir. Kitaplar tek
+     * bir IN sorgusuyla okunur. Yanıt, istekteki sırayla id'ye göre
+     * anahtarlanmış bir haritadır; bulunamayan id'ler yer almaz.
+     * 
+     * compact=true verilirse her kitap için yalnızca id, başlık ve yazarlar
+     * (BookSummaryResponse) döner.
+     * 
+     * @param request Kitap id listesi (catalog.books.batch.max-ids ile sınırlı)
+     * @param compact Kompakt görünüm istensin mi (varsayılan: false)
+     * @return 200 OK - id'ye göre BookDetailResponse veya BookSummaryResponse
+     *         haritası
+     * @throws ResponseStatusException 400 - İzin verilenden fazla farklı id
+     *                                 istenirse
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<Map<UUID, ?>> getBooks(
+            @Valid @RequestBody BatchBookLookupRequest request,
+            @RequestParam(defaultValue = "false") boolean compact) {
+        long distinctIds = request.ids().stream().distinct().count();
+        if (distinctIds > batchMaxIds) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "At most " + batchMaxIds + " book ids can be requested at once, got " + distinctIds);
+        }
+
+        BatchGetBooksQuery query = new BatchGetBooksQuery(request.ids(), compact);
+
+        Map<UUID, ?> response = batchGetBooksQueryHandler.handle(query);
+
         return ResponseEntity.ok(response);
     }
 
@@ -71,20 +172,34 @@ public class BookQueryController {
      * Her bir kitap için temel bilgiler (title, category, publisher,
      * publishedDate, pageCount, language, authors) döner.
      * 
-     * @param page Sayfa numarası (0'dan başlar, varsayılan: 0)
-     * @param size Sayfa başına kayıt sayısı (1-100 arası, varsayılan: 20)
-     * @return 200 OK - Kitap listesi (List<BookListResponse>)
+     * Derin sayfalar için cursor tercih edilmelidir: bir önceki yanıttaki
+     * nextCursor gönderildiğinde offset yerine keyset (seek) sayfalama yapılır.
+     * 
+     * Yanıt, katalog değişiklik sayacından türetilen weak ETag taşır;
+     * katalog değişmediyse sorgu çalışmadan 304 döner.
+     * 
+     * @param page   Sayfa numarası (0'dan başlar, varsayılan: 0)
+     * @param size   Sayfa başına kayıt sayısı (1-100 arası, varsayılan: 20)
+     * @param cursor Önceki sayfanın nextCursor değeri (opsiyonel)
+     * @return 200 OK - Kitap sayfası ve sonraki sayfa cursor'ı (BookPageResponse)
      */
     @GetMapping
-    public ResponseEntity<List<BookListResponse>> listBooks(
+    public ResponseEntity<BookPageResponse> listBooks(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size) {
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String cursor,
+            WebRequest request) {
 
-        ListBooksQuery query = new ListBooksQuery(page, size);
+        String etag = EntityTags.collection(resourceVersions.catalog());
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
 
-        List<BookListResponse> response = listBooksQueryHandler.handle(query);
+        ListBooksQuery query = new ListBooksQuery(page, size, cursor);
 
-        return ResponseEntity.ok(response);
+        BookPageResponse response = listBooksQueryHandler.handle(query);
+
+        return ResponseEntity.ok().eTag(etag).body(response);
     }
 
     /**
@@ -97,28 +212,125 @@ public class BookQueryController {
      * - maxPageCount: Maksimum sayfa sayısı filtresi
      * 
      * Tüm parametreler opsiyoneldir ve kombinasyon halinde AND mantığıyla çalışır.
+     * Sonuç sayısı limit parametresi ile sınırlandırılır.
+     * 
+     * facets=true verilirse yanıt, tüm eşleşmeler üzerinden dil, kategori,
+     * yayınevi ve sayfa aralığı başına kitap sayılarını da içerir.
+     * 
+     * fuzzy=true verilirse keyword, başlık ve yazar adlarında yazım hatalarına
+     * toleranslı (trigram benzerliği, aksan katlamalı) aranır; sonuçlar
+     * benzerliğe göre sıralanır ve facet hesaplanmaz.
      * 
      * @param keyword      Aranacak anahtar kelime (opsiyonel)
      * @param language     Dil filtresi (opsiyonel)
      * @param minPageCount Minimum sayfa sayısı (opsiyonel)
      * @param maxPageCount Maksimum sayfa sayısı (opsiyonel)
-     * @return 200 OK - Arama sonuçları (List<BookSearchResponse>)
+     * @param limit        Maksimum sonuç sayısı (1-100 arası, varsayılan: 50)
+     * @param facets       Facet sayıları hesaplansın mı (varsayılan: false)
+     * @param fuzzy        Bulanık arama yapılsın mı (varsayılan: false)
+     * @return 200 OK - Arama sonuçları ve istenirse facet'ler
+     *         (BookSearchResultResponse)
      */
     @GetMapping("/search")
-    public ResponseEntity<List<BookSearchResponse>> searchBooks(
+    public ResponseEntity<BookSearchResultResponse> searchBooks(
             @RequestParam(required = false) String keyword,
             @RequestParam(required = false) String language,
             @RequestParam(required = false) Integer minPageCount,
-            @RequestParam(required = false) Integer maxPageCount) {
+            @RequestParam(required = false) Integer maxPageCount,
+            @RequestParam(defaultValue = "50") @Min(1) @Max(100) int limit,
+            @RequestParam(defaultValue = "false") boolean facets,
+            @RequestParam(defaultValue = "false") boolean fuzzy) {
 
         SearchBooksQuery query = new SearchBooksQuery(
                 keyword,
                 language,
                 minPageCount,
-                maxPageCount);
+                maxPageCount,
+                limit,
+                facets,
+                fuzzy);
+
+        BookSearchResultResponse response = searchBooksQueryHandler.handle(query);
+
+        return ResponseEntity.ok(response);
+    }
 
-        List<BookSearchResponse> response = searchBooksQueryHandler.handle(query);
+    /**
+     * Yazılan metne göre kitap başlığı ve yazar adı önerir (typeahead).
+     * 
+     * Öneriler bellek içi önek indeksinden gelir, veritabanına gidilmez.
+     * Önek, başlık veya adın herhangi bir kelimesinin başıyla eşleşebilir.
+     * 
+     * @param prefix Kullanıcının yazdığı metin
+     * @param limit  Maksimum öneri sayısı (1-20 arası, varsayılan: 10)
+     * @return 200 OK - Popülerliğe göre sıralı öneriler (List<SuggestionResponse>),
+     *         400 Bad Request - Önek boşsa veya limit aralık dışındaysa
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<List<SuggestionResponse>> suggest(
+            @RequestParam @NotBlank String prefix,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(20) int limit) {
+
+        SuggestQuery query = new SuggestQuery(prefix, limit);
+
+        List<SuggestionResponse> response = suggestQueryHandler.handle(query);
 
         return ResponseEntity.ok(response);
     }
+
+    /**
+     * En çok ödünç verilen kitapları listeler.
+     * 
+     * Sıralama bellek içi popülerlik sayaçlarından gelir ve periyodik olarak
+     * yenilenir; ödünç veritabanında sorgu çalıştırılmaz. Diğer instance'ların
+     * kaydettiği ödünçler catalog.popularity.reload-interval içinde yansır.
+     * 
+     * @param category Kategori UUID'si (opsiyonel)
+     * @param limit    Maksimum sonuç sayısı (1-100 arası, varsayılan: 10)
+     * @return 200 OK - Ödünç sayısına göre azalan sıralı kitaplar
+     *         (List<PopularBookResponse>), 400 Bad Request - limit aralık
+     *         dışındaysa
+     */
+    @GetMapping("/popular")
+    public ResponseEntity<List<PopularBookResponse>> popularBooks(
+            @RequestParam(required = false) UUID category,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(100) int limit) {
+
+        ListPopularBooksQuery query = new ListPopularBooksQuery(category, limit);
+
+        List<PopularBookResponse> response = listPopularBooksQueryHandler.handle(query);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Tüm kataloğu NDJSON (satır başına bir JSON kitap) olarak akıtır.
+     * 
+     * Kitaplar veritabanı cursor'ından okundukça yanıta yazılır; katalog
+     * boyutundan bağımsız olarak bellek kullanımı sabit kalır. İstemci
+     * Accept-Encoding: gzip gönderirse yanıt sunucu tarafında anında
+     * sıkıştırılır (server.compression).
+     * 
+     * @return 200 OK - application/x-ndjson gövdesi (her satır bir
+     *         BookDetailResponse)
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportBooks() {
+        StreamingResponseBody body = outputStream -> {
+            OutputStream out = new BufferedOutputStream(outputStream);
+            exportBooksQueryHandler.handle(new ExportBooksQuery(book -> {
+                try {
+                    out.write(objectMapper.writeValueAsBytes(book));
+                    out.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }));
+            out.flush();
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
 }
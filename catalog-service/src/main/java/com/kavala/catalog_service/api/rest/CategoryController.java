@@ -1,7 +1,6 @@
 package com.kavala.catalog_service.api.rest;
 
 import java.net.URI;
-import java.util.List;
 import java.util.UUID;
 
 import org.springframework.http.ResponseEntity;
@@ -11,11 +10,13 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
-import com.kavala.catalog_service.api.rest.dto.CategoryResponse;
+import com.kavala.catalog_service.api.rest.dto.CategoryPageResponse;
 import com.kavala.catalog_service.api.rest.dto.CreateCategoryRequest;
 import com.kavala.catalog_service.application.command.category.CreateCategoryCommand;
 import com.kavala.catalog_service.application.command.category.CreateCategoryCommandHandler;
+import com.kavala.catalog_service.application.query.ResourceVersions;
 import com.kavala.catalog_service.application.query.category.ListCategoriesQuery;
 import com.kavala.catalog_service.application.query.category.ListCategoriesQueryHandler;
 
@@ -35,12 +36,15 @@ public class CategoryController {
 
     private final CreateCategoryCommandHandler createCategoryCommandHandler;
     private final ListCategoriesQueryHandler listCategoriesQueryHandler;
+    private final ResourceVersions resourceVersions;
 
     public CategoryController(
             CreateCategoryCommandHandler createCategoryCommandHandler,
-            ListCategoriesQueryHandler listCategoriesQueryHandler) {
+            ListCategoriesQueryHandler listCategoriesQueryHandler,
+            ResourceVersions resourceVersions) {
         this.createCategoryCommandHandler = createCategoryCommandHandler;
         this.listCategoriesQueryHandler = listCategoriesQueryHandler;
+        this.resourceVersions = resourceVersions;
     }
 
     /**
@@ -64,24 +68,37 @@ public class CategoryController {
     }
 
     /**
-     * Tüm kategorileri sayfalı olarak listeler.
+     * Kategorileri ada göre sıralı ve sayfalı olarak listeler.
      * 
-     * Kategoriler kitaplara atanmak üzere listelenir.
-     * Sayfalama ile büyük veri setlerinde performans sağlanır.
+     * Kategoriler kitaplara atanmak üzere listelenir. Liste, kategorilerin
+     * bellek içi değişmez snapshot'ından karşılanır; veritabanına gidilmez.
+     * nextCursor gönderildiğinde keyset (seek) sayfalama yapılır; namePrefix
+     * verilirse yalnızca adı bu önekle başlayan kategoriler döner.
      * 
-     * @param page Sayfa numarası (0'dan başlar, varsayılan: 0)
-     * @param size Sayfa başına kayıt sayısı (1-100 arası, varsayılan: 20)
-     * @return 200 OK - Kategori listesi (List<CategoryResponse>)
+     * @param page       Sayfa numarası (0'dan başlar, varsayılan: 0)
+     * @param size       Sayfa başına kayıt sayısı (1-100 arası, varsayılan: 20)
+     * @param cursor     Önceki sayfanın nextCursor değeri (opsiyonel)
+     * @param namePrefix Ad öneki (opsiyonel)
+     * @return 200 OK - Kategori sayfası ve sonraki sayfa cursor'ı
+     *         (CategoryPageResponse), katalog değişmediyse 304 Not Modified
      */
     @GetMapping
-    public ResponseEntity<List<CategoryResponse>> listCategories(
+    public ResponseEntity<CategoryPageResponse> listCategories(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size) {
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String namePrefix,
+            WebRequest request) {
 
-        ListCategoriesQuery query = new ListCategoriesQuery(page, size);
+        String etag = EntityTags.collection(resourceVersions.catalog());
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
 
-        List<CategoryResponse> response = listCategoriesQueryHandler.handle(query);
+        ListCategoriesQuery query = new ListCategoriesQuery(page, size, cursor, namePrefix);
 
-        return ResponseEntity.ok(response);
+        CategoryPageResponse response = listCategoriesQueryHandler.handle(query);
+
+        return ResponseEntity.ok().eTag(etag).body(response);
     }
 }
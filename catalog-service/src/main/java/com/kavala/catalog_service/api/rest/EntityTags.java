@@ -0,0 +1,26 @@
+package com.kavala.catalog_service.api.rest;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Catalog kaynakları için ETag değerleri üretir.
+ *
+ * Tekil kaynaklar kimlik + sürüm zamanından türetilen strong ETag alır.
+ * Listeler, veritabanındaki paylaşılan katalog revizyonundan türetilen weak
+ * ETag alır; aynı katalog durumu her instance'ta aynı etiketi üretir.
+ */
+final class EntityTags {
+
+    private EntityTags() {
+    }
+
+    static String strong(UUID id, Instant version) {
+        return "\"" + id + "-" + Long.toString(version.getEpochSecond(), 36) + "."
+                + Integer.toString(version.getNano(), 36) + "\"";
+    }
+
+    static String collection(long catalogRevision) {
+        return "W/\"catalog-" + Long.toString(catalogRevision, 36) + "\"";
+    }
+}
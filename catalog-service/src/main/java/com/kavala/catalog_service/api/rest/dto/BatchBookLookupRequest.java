@@ -0,0 +1,12 @@
+package com.kavala.catalog_service.api.rest.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+public record BatchBookLookupRequest(
+        @NotEmpty List<@NotNull UUID> ids) {
+
+}
@@ -0,0 +1,17 @@
+package com.kavala.catalog_service.api.rest.dto;
+
+import java.util.List;
+
+public record BookImportResponse(
+        int received,
+        int imported,
+        List<RowError> errors) {
+
+    /**
+     * İçe aktarılamayan bir satır. index, istekteki 0 tabanlı sıradır.
+     */
+    public record RowError(
+            int index,
+            String message) {
+    }
+}
@@ -0,0 +1,11 @@
+package com.kavala.catalog_service.api.rest.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+public record BookSummaryResponse(
+        UUID id,
+        String title,
+        List<AuthorResponse> authors) {
+
+}
@@ -0,0 +1,9 @@
+package com.kavala.catalog_service.api.rest.dto;
+
+import java.util.List;
+
+public record CategoryPageResponse(
+        List<CategoryResponse> categories,
+        String nextCursor) {
+
+}
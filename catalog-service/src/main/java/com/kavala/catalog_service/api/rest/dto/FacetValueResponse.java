@@ -0,0 +1,8 @@
+package com.kavala.catalog_service.api.rest.dto;
+
+public record FacetValueResponse(
+        String value,
+        String label,
+        long count) {
+
+}
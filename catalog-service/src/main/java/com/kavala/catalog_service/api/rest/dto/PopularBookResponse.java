@@ -0,0 +1,13 @@
+package com.kavala.catalog_service.api.rest.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+public record PopularBookResponse(
+        UUID id,
+        String title,
+        CategoryResponse category,
+        List<AuthorResponse> authors,
+        long checkoutCount) {
+
+}
@@ -0,0 +1,11 @@
+package com.kavala.catalog_service.api.rest.dto;
+
+import java.util.List;
+
+public record SearchFacetsResponse(
+        List<FacetValueResponse> languages,
+        List<FacetValueResponse> categories,
+        List<FacetValueResponse> publishers,
+        List<FacetValueResponse> pageCounts) {
+
+}
@@ -0,0 +1,10 @@
+package com.kavala.catalog_service.api.rest.dto;
+
+import java.util.UUID;
+
+public record SuggestionResponse(
+        String type,
+        UUID id,
+        String text) {
+
+}
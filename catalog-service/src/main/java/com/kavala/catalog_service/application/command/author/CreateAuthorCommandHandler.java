@@ -5,7 +5,9 @@ import java.util.UUID;
 import com.kavala.catalog_service.core.cqrs.CommandHandler;
 import com.kavala.catalog_service.domain.author.Author;
 import com.kavala.catalog_service.domain.author.AuthorId;
+import com.kavala.catalog_service.domain.event.AuthorCreated;
 import com.kavala.catalog_service.domain.port.AuthorRepository;
+import com.kavala.catalog_service.domain.port.EventPublisher;
 
 import org.springframework.stereotype.Component;
 
@@ -13,9 +15,11 @@ import org.springframework.stereotype.Component;
 public class CreateAuthorCommandHandler implements CommandHandler<CreateAuthorCommand, UUID> {
 
     private final AuthorRepository authorRepository;
+    private final EventPublisher eventPublisher;
 
-    public CreateAuthorCommandHandler(AuthorRepository authorRepository) {
+    public CreateAuthorCommandHandler(AuthorRepository authorRepository, EventPublisher eventPublisher) {
         this.authorRepository = authorRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -23,6 +27,8 @@ public class CreateAuthorCommandHandler implements CommandHandler<CreateAuthorCo
         AuthorId authorId = AuthorId.generate();
         Author author = Author.createAuthor(authorId, command.name(), command.birthDate(), command.nationality());
         authorRepository.save(author);
+
+        eventPublisher.publish(new AuthorCreated(author.getAuthorId(), author.getFullName(), author.getCreatedAt()));
         return authorId.value();
     }
 }
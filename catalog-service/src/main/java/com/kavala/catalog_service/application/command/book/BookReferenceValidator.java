@@ -0,0 +1,74 @@
+package com.kavala.catalog_service.application.command.book;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import com.kavala.catalog_service.domain.author.Author;
+import com.kavala.catalog_service.domain.author.AuthorId;
+import com.kavala.catalog_service.domain.category.CategoryId;
+import com.kavala.catalog_service.domain.port.AuthorRepository;
+import com.kavala.catalog_service.domain.port.CategoryRepository;
+import com.kavala.catalog_service.domain.port.PublisherRepository;
+import com.kavala.catalog_service.domain.publisher.PublisherId;
+
+/**
+ * Kitap komutlarının referans verdiği Category, Publisher ve Author
+ * kayıtlarının varlığını doğrular.
+ *
+ * Yazarlar tek bir "WHERE id IN (...)" sorgusu ile kontrol edilir; yazar
+ * sayısı ne olursa olsun doğrulama tip başına en fazla bir sorgudur (cache
+ * isabetinde hiç sorgu yoktur). Doğrulanmış referanslar BookRepository
+ * tarafından tekrar okunmaz.
+ */
+@Component
+public class BookReferenceValidator {
+
+    private final CategoryRepository categoryRepository;
+    private final PublisherRepository publisherRepository;
+    private final AuthorRepository authorRepository;
+
+    public BookReferenceValidator(CategoryRepository categoryRepository, PublisherRepository publisherRepository,
+            AuthorRepository authorRepository) {
+        this.categoryRepository = categoryRepository;
+        this.publisherRepository = publisherRepository;
+        this.authorRepository = authorRepository;
+    }
+
+    /**
+     * null verilen referanslar (patch'te değişmeyen alanlar) atlanır.
+     */
+    public void validate(UUID categoryId, UUID publisherId, Collection<UUID> authorIds) {
+        if (categoryId != null && categoryRepository.findById(CategoryId.of(categoryId)).isEmpty()) {
+            throw new IllegalArgumentException("Category not found: " + categoryId);
+        }
+
+        if (publisherId != null && publisherRepository.findById(PublisherId.of(publisherId)).isEmpty()) {
+            throw new IllegalArgumentException("Publisher not found: " + publisherId);
+        }
+
+        if (authorIds != null && !authorIds.isEmpty()) {
+            validateAuthors(authorIds);
+        }
+    }
+
+    private void validateAuthors(Collection<UUID> authorIds) {
+        Set<AuthorId> requested = authorIds.stream()
+                .map(AuthorId::of)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        Set<AuthorId> found = authorRepository.findAllById(requested).stream()
+                .map(Author::getAuthorId)
+                .collect(Collectors.toSet());
+
+        for (AuthorId authorId : requested) {
+            if (!found.contains(authorId)) {
+                throw new IllegalArgumentException("Author not found: " + authorId.value());
+            }
+        }
+    }
+}
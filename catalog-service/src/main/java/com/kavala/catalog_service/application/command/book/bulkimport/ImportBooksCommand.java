@@ -0,0 +1,19 @@
+package com.kavala.catalog_service.application.command.book.bulkimport;
+
+import java.util.List;
+
+import com.kavala.catalog_service.api.rest.dto.BookImportResponse;
+import com.kavala.catalog_service.application.command.book.create.CreateBookCommand;
+import com.kavala.catalog_service.core.cqrs.Command;
+
+import jakarta.validation.constraints.NotEmpty;
+
+/**
+ * Çok sayıda kitabı tek istekte içe aktarır.
+ * Satırlar tek tek doğrulanır; hatalı satırlar raporlanır ve diğerlerinin
+ * aktarımını engellemez.
+ */
+public record ImportBooksCommand(
+                @NotEmpty List<CreateBookCommand> books) implements Command<BookImportResponse> {
+
+}
@@ -0,0 +1,223 @@
+package com.kavala.catalog_service.application.command.book.bulkimport;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.kavala.catalog_service.api.rest.dto.BookImportResponse;
+import com.kavala.catalog_service.api.rest.dto.BookImportResponse.RowError;
+import com.kavala.catalog_service.application.command.book.create.CreateBookCommand;
+import com.kavala.catalog_service.core.cqrs.CommandHandler;
+import com.kavala.catalog_service.domain.author.Author;
+import com.kavala.catalog_service.domain.author.AuthorId;
+import com.kavala.catalog_service.domain.book.model.Book;
+import com.kavala.catalog_service.domain.book.model.BookId;
+import com.kavala.catalog_service.domain.category.Category;
+import com.kavala.catalog_service.domain.category.CategoryId;
+import com.kavala.catalog_service.domain.event.BookCreated;
+import com.kavala.catalog_service.domain.port.AuthorRepository;
+import com.kavala.catalog_service.domain.port.BookRepository;
+import com.kavala.catalog_service.domain.port.CategoryRepository;
+import com.kavala.catalog_service.domain.port.EventPublisher;
+import com.kavala.catalog_service.domain.port.PublisherRepository;
+import com.kavala.catalog_service.domain.publisher.Publisher;
+import com.kavala.catalog_service.domain.publisher.PublisherId;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+/**
+ * Toplu kitap aktarımı.
+ *
+ * Referanslar satır başına değil, tüm istek için tip başına tek bir
+ * IN sorgusuyla doğrulanır. Geçerli satırlar chunk-size büyüklüğünde
+ * parçalar halinde, her parça kendi transaction'ında JDBC batch insert
+ * ile yazılır. Bir parça veritabanı hatasıyla geri alınırsa satırları
+ * tek tek yeniden denenir; böylece hata sadece sorunlu satıra yazılır.
+ */
+@Component
+public class ImportBooksCommandHandler implements CommandHandler<ImportBooksCommand, BookImportResponse> {
+
+    private static final int LOOKUP_BATCH_SIZE = 1000;
+
+    private final BookRepository bookRepository;
+    private final CategoryRepository categoryRepository;
+    private final PublisherRepository publisherRepository;
+    private final AuthorRepository authorRepository;
+    private final EventPublisher eventPublisher;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public ImportBooksCommandHandler(BookRepository bookRepository, CategoryRepository categoryRepository,
+            PublisherRepository publisherRepository, AuthorRepository authorRepository,
+            EventPublisher eventPublisher, Validator validator, PlatformTransactionManager transactionManager,
+            @Value("${catalog.import.chunk-size:1000}") int chunkSize) {
+        this.bookRepository = bookRepository;
+        this.categoryRepository = categoryRepository;
+        this.publisherRepository = publisherRepository;
+        this.authorRepository = authorRepository;
+        this.eventPublisher = eventPublisher;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public BookImportResponse handle(ImportBooksCommand command) {
+        List<CreateBookCommand> rows = command.books();
+        List<RowError> errors = new ArrayList<>();
+
+        Set<CategoryId> existingCategories = existing(rows, CreateBookCommand::categoryId, CategoryId::of,
+                categoryRepository::findAllById, Category::getCategoryId);
+        Set<PublisherId> existingPublishers = existing(rows, CreateBookCommand::publisherId, PublisherId::of,
+                publisherRepository::findAllById, Publisher::getPublisherId);
+        Set<AuthorId> existingAuthors = existingAuthors(rows);
+
+        List<PendingBook> pending = new ArrayList<>();
+        for (int index = 0; index < rows.size(); index++) {
+            CreateBookCommand row = rows.get(index);
+            String error = validate(row, existingCategories, existingPublishers, existingAuthors);
+            if (error != null) {
+                errors.add(new RowError(index, error));
+                continue;
+            }
+
+            try {
+                pending.add(new PendingBook(index, toBook(row)));
+            } catch (IllegalArgumentException e) {
+                errors.add(new RowError(index, e.getMessage()));
+            }
+        }
+
+        int imported = 0;
+        for (int from = 0; from < pending.size(); from += chunkSize) {
+            List<PendingBook> chunk = pending.subList(from, Math.min(from + chunkSize, pending.size()));
+            try {
+                insert(chunk);
+                imported += chunk.size();
+            } catch (RuntimeException chunkFailure) {
+                // Parça geri alındı; hatalı satırı bulmak için satırlar tek tek denenir
+                for (PendingBook book : chunk) {
+                    try {
+                        insert(List.of(book));
+                        imported++;
+                    } catch (RuntimeException rowFailure) {
+                        errors.add(new RowError(book.index(), rowFailure.getMessage()));
+                    }
+                }
+            }
+        }
+
+        errors.sort(Comparator.comparingInt(RowError::index));
+        return new BookImportResponse(rows.size(), imported, errors);
+    }
+
+    private void insert(List<PendingBook> chunk) {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Book> books = chunk.stream().map(PendingBook::book).toList();
+            bookRepository.saveAll(books);
+
+            for (Book book : books) {
+                eventPublisher.publish(new BookCreated(book.getId(), book.getTitle(), book.getCategoryId(),
+                        book.getPublisherId(), book.getPublishedDate(), book.getPageCount(), book.getLanguage(),
+                        book.getDescription(), book.getAuthorIds(), book.getCreatedAt()));
+            }
+        });
+    }
+
+    private String validate(CreateBookCommand row, Set<CategoryId> existingCategories,
+            Set<PublisherId> existingPublishers, Set<AuthorId> existingAuthors) {
+        if (row == null) {
+            return "Row is empty";
+        }
+
+        Set<ConstraintViolation<CreateBookCommand>> violations = validator.validate(row);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+        }
+
+        if (!existingCategories.contains(CategoryId.of(row.categoryId()))) {
+            return "Category not found: " + row.categoryId();
+        }
+        if (!existingPublishers.contains(PublisherId.of(row.publisherId()))) {
+            return "Publisher not found: " + row.publisherId();
+        }
+        for (UUID authorId : row.authorIds()) {
+            if (authorId == null || !existingAuthors.contains(AuthorId.of(authorId))) {
+                return "Author not found: " + authorId;
+            }
+        }
+        return null;
+    }
+
+    private Book toBook(CreateBookCommand row) {
+        return Book.createNewBook(
+                BookId.generate(),
+                row.title(),
+                CategoryId.of(row.categoryId()),
+                PublisherId.of(row.publisherId()),
+                row.publishedDate(),
+                row.pageCount(),
+                row.language(),
+                row.description(),
+                row.authorIds().stream().map(AuthorId::of).toList());
+    }
+
+    private <I, T> Set<I> existing(List<CreateBookCommand> rows, Function<CreateBookCommand, UUID> idOf,
+            Function<UUID, I> wrap, Function<Collection<I>, List<T>> findAllById, Function<T, I> idGetter) {
+        Set<I> ids = rows.stream()
+                .filter(Objects::nonNull)
+                .map(idOf)
+                .filter(Objects::nonNull)
+                .map(wrap)
+                .collect(Collectors.toSet());
+        return findExisting(ids, findAllById, idGetter);
+    }
+
+    private Set<AuthorId> existingAuthors(List<CreateBookCommand> rows) {
+        Set<AuthorId> ids = new HashSet<>();
+        for (CreateBookCommand row : rows) {
+            if (row != null && row.authorIds() != null) {
+                row.authorIds().stream().filter(Objects::nonNull).map(AuthorId::of).forEach(ids::add);
+            }
+        }
+        return findExisting(ids, authorRepository::findAllById, Author::getAuthorId);
+    }
+
+    /**
+     * Verilen ID'lerden veritabanında var olanları IN sorgularıyla bulur.
+     * PostgreSQL'in bind parametre sınırına takılmamak için ID'ler
+     * LOOKUP_BATCH_SIZE'lık gruplar halinde sorgulanır.
+     */
+    private <I, T> Set<I> findExisting(Set<I> ids, Function<Collection<I>, List<T>> findAllById,
+            Function<T, I> idGetter) {
+        List<I> remaining = new ArrayList<>(ids);
+        Set<I> existing = new HashSet<>();
+        for (int from = 0; from < remaining.size(); from += LOOKUP_BATCH_SIZE) {
+            List<I> batch = remaining.subList(from, Math.min(from + LOOKUP_BATCH_SIZE, remaining.size()));
+            findAllById.apply(batch).stream()
+                    .map(idGetter)
+                    .forEach(existing::add);
+        }
+        return existing;
+    }
+
+    private record PendingBook(int index, Book book) {
+    }
+}
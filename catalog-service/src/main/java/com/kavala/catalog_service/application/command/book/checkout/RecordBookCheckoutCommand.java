@@ -0,0 +1,12 @@
+package com.kavala.catalog_service.application.command.book.checkout;
+
+import java.util.UUID;
+
+import com.kavala.catalog_service.core.cqrs.Command;
+
+import jakarta.validation.constraints.NotNull;
+
+public record RecordBookCheckoutCommand(
+        @NotNull UUID bookId) implements Command<Void> {
+
+}
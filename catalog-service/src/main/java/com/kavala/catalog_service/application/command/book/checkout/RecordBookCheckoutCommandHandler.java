@@ -0,0 +1,35 @@
+package com.kavala.catalog_service.application.command.book.checkout;
+
+import com.kavala.catalog_service.core.cqrs.CommandHandler;
+import com.kavala.catalog_service.domain.book.model.BookId;
+import com.kavala.catalog_service.domain.port.BookPopularity;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Ödünç verilen bir kitabı popülerlik sayacına işler.
+ * Sayaç bellekte artırılır; kalıcı hale getirme periyodik olarak toplu yapılır.
+ * Kitabın varlığı önce bellekteki kayıtlardan, orada yoksa veritabanından
+ * doğrulanır.
+ */
+@Component
+public class RecordBookCheckoutCommandHandler implements CommandHandler<RecordBookCheckoutCommand, Void> {
+
+    private final BookPopularity bookPopularity;
+
+    public RecordBookCheckoutCommandHandler(BookPopularity bookPopularity) {
+        this.bookPopularity = bookPopularity;
+    }
+
+    @Override
+    public Void handle(RecordBookCheckoutCommand command) {
+        BookId bookId = BookId.of(command.bookId());
+        if (!bookPopularity.isKnownBook(bookId)) {
+            throw new IllegalArgumentException("Book not found: " + command.bookId());
+        }
+
+        bookPopularity.recordCheckouts(bookId, 1);
+        return null;
+    }
+
+}
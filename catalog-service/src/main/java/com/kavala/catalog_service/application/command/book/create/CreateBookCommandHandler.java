@@ -3,51 +3,39 @@ package com.kavala.catalog_service.application.command.book.create;
 import java.util.List;
 import java.util.UUID;
 
+import com.kavala.catalog_service.application.command.book.BookReferenceValidator;
 import com.kavala.catalog_service.core.cqrs.CommandHandler;
 import com.kavala.catalog_service.domain.author.AuthorId;
 import com.kavala.catalog_service.domain.book.model.Book;
 import com.kavala.catalog_service.domain.book.model.BookId;
 import com.kavala.catalog_service.domain.category.CategoryId;
-import com.kavala.catalog_service.domain.port.AuthorRepository;
+import com.kavala.catalog_service.domain.event.BookCreated;
 import com.kavala.catalog_service.domain.port.BookRepository;
-import com.kavala.catalog_service.domain.port.CategoryRepository;
-import com.kavala.catalog_service.domain.port.PublisherRepository;
+import com.kavala.catalog_service.domain.port.EventPublisher;
 import com.kavala.catalog_service.domain.publisher.PublisherId;
 
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 @Component
 public class CreateBookCommandHandler implements CommandHandler<CreateBookCommand, UUID> {
 
     private final BookRepository bookRepository;
-    private final AuthorRepository authorRepository;
-    private final PublisherRepository publisherRepository;
-    private final CategoryRepository categoryRepository;
+    private final BookReferenceValidator referenceValidator;
+    private final EventPublisher eventPublisher;
 
-    public CreateBookCommandHandler(BookRepository bookRepository, AuthorRepository authorRepository,
-            PublisherRepository publisherRepository, CategoryRepository categoryRepository) {
+    public CreateBookCommandHandler(BookRepository bookRepository, BookReferenceValidator referenceValidator,
+            EventPublisher eventPublisher) {
         this.bookRepository = bookRepository;
-        this.authorRepository = authorRepository;
-        this.publisherRepository = publisherRepository;
-        this.categoryRepository = categoryRepository;
+        this.referenceValidator = referenceValidator;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
+    @Transactional
     public UUID handle(CreateBookCommand command) {
 
-        if (!categoryRepository.existsById(CategoryId.of(command.categoryId()))) {
-            throw new IllegalArgumentException("Category not found" + command.categoryId());
-        }
-
-        if (!publisherRepository.existsById(PublisherId.of(command.publisherId()))) {
-            throw new IllegalArgumentException("Publisher not found" + command.publisherId());
-        }
-
-        for (UUID authorId : command.authorIds()) {
-            if (!authorRepository.existsById(AuthorId.of(authorId))) {
-                throw new IllegalArgumentException("Author not found" + authorId);
-            }
-        }
+        referenceValidator.validate(command.categoryId(), command.publisherId(), command.authorIds());
 
         BookId bookId = BookId.generate();
         List<AuthorId> authorIds = command.authorIds().stream().map(AuthorId::of).toList();
@@ -63,6 +51,10 @@ public class CreateBookCommandHandler implements CommandHandler<CreateBookComman
                 command.description(),
                 authorIds);
         bookRepository.save(book);
+
+        eventPublisher.publish(new BookCreated(book.getId(), book.getTitle(), book.getCategoryId(),
+                book.getPublisherId(), book.getPublishedDate(), book.getPageCount(), book.getLanguage(),
+                book.getDescription(), book.getAuthorIds(), book.getCreatedAt()));
         return bookId.value();
     }
 
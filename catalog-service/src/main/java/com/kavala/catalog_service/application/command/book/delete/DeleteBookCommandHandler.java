@@ -3,26 +3,34 @@ package com.kavala.catalog_service.application.command.book.delete;
 import com.kavala.catalog_service.core.cqrs.CommandHandler;
 import com.kavala.catalog_service.domain.book.model.Book;
 import com.kavala.catalog_service.domain.book.model.BookId;
+import com.kavala.catalog_service.domain.event.BookDeleted;
 import com.kavala.catalog_service.domain.port.BookRepository;
+import com.kavala.catalog_service.domain.port.EventPublisher;
 
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 @Component
 public class DeleteBookCommandHandler implements CommandHandler<DeleteBookCommand, Void> {
 
     private final BookRepository bookRepository;
+    private final EventPublisher eventPublisher;
 
-    public DeleteBookCommandHandler(BookRepository bookRepository) {
+    public DeleteBookCommandHandler(BookRepository bookRepository, EventPublisher eventPublisher) {
         this.bookRepository = bookRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
+    @Transactional
     public Void handle(DeleteBookCommand command) {
 
         Book book = bookRepository.findById(BookId.of(command.bookId()))
                 .orElseThrow(() -> new IllegalArgumentException("Book not found" + command.bookId()));
 
         bookRepository.delete(book);
+
+        eventPublisher.publish(new BookDeleted(book.getId()));
         return null;
     }
 
@@ -5,6 +5,8 @@ import java.util.UUID;
 import com.kavala.catalog_service.core.cqrs.CommandHandler;
 import com.kavala.catalog_service.domain.category.Category;
 import com.kavala.catalog_service.domain.category.CategoryId;
+import com.kavala.catalog_service.domain.event.CategoryCreated;
+import com.kavala.catalog_service.domain.port.EventPublisher;
 import com.kavala.catalog_service.domain.port.CategoryRepository;
 
 import org.springframework.stereotype.Component;
@@ -13,9 +15,11 @@ import org.springframework.stereotype.Component;
 public class CreateCategoryCommandHandler implements CommandHandler<CreateCategoryCommand, UUID> {
 
     private final CategoryRepository categoryRepository;
+    private final EventPublisher eventPublisher;
 
-    public CreateCategoryCommandHandler(CategoryRepository categoryRepository) {
+    public CreateCategoryCommandHandler(CategoryRepository categoryRepository, EventPublisher eventPublisher) {
         this.categoryRepository = categoryRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -23,6 +27,8 @@ public class CreateCategoryCommandHandler implements CommandHandler<CreateCatego
         CategoryId categoryId = CategoryId.generate();
         Category category = Category.createCategory(categoryId, command.name());
         categoryRepository.save(category);
+
+        eventPublisher.publish(new CategoryCreated(category.getCategoryId(), category.getName(), category.getCreatedAt()));
         return categoryId.value();
     }
 
@@ -5,6 +5,8 @@ import java.util.UUID;
 import com.kavala.catalog_service.core.cqrs.CommandHandler;
 import com.kavala.catalog_service.domain.publisher.Publisher;
 import com.kavala.catalog_service.domain.publisher.PublisherId;
+import com.kavala.catalog_service.domain.event.PublisherCreated;
+import com.kavala.catalog_service.domain.port.EventPublisher;
 import com.kavala.catalog_service.domain.port.PublisherRepository;
 
 import org.springframework.stereotype.Component;
@@ -13,9 +15,11 @@ import org.springframework.stereotype.Component;
 public class CreatePublisherCommandHandler implements CommandHandler<CreatePublisherCommand, UUID> {
 
     private final PublisherRepository publisherRepository;
+    private final EventPublisher eventPublisher;
 
-    public CreatePublisherCommandHandler(PublisherRepository publisherRepository) {
+    public CreatePublisherCommandHandler(PublisherRepository publisherRepository, EventPublisher eventPublisher) {
         this.publisherRepository = publisherRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -23,6 +27,8 @@ public class CreatePublisherCommandHandler implements CommandHandler<CreatePubli
         PublisherId publisherId = PublisherId.generate();
         Publisher publisher = Publisher.createPublisher(publisherId, command.name());
         publisherRepository.save(publisher);
+
+        eventPublisher.publish(new PublisherCreated(publisher.getPublisherId(), publisher.getName(), publisher.getCreatedAt()));
         return publisherId.value();
     }
 
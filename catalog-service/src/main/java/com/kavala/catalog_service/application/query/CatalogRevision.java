@@ -0,0 +1,59 @@
+package com.kavala.catalog_service.application.query;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.kavala.catalog_service.domain.event.DomainEvent;
+import com.kavala.catalog_service.domain.port.CatalogRevisionRepository;
+
+/**
+ * Kataloğun tüm instance'larca paylaşılan revizyonu.
+ *
+ * CatalogVersion yalnızca bu sürecin bellek içi cache'leri içindir; başka
+ * bir instance'ta yapılan yazmayı görmez. Liste ETag'leri bunun yerine
+ * veritabanındaki revizyondan türetilir.
+ *
+ * Revizyon, domain event'ini yayınlayan yazmanın transaction'ı içinde ve
+ * commit'ten hemen önce artırılır: yazma geri alınırsa artış da geri alınır,
+ * satır kilidi yalnızca commit süresince tutulur. Çok sayıda event yayınlayan
+ * bir transaction (toplu içe aktarma gibi) revizyonu bir kez artırır.
+ */
+@Component
+public class CatalogRevision {
+
+    private final CatalogRevisionRepository repository;
+
+    public CatalogRevision(CatalogRevisionRepository repository) {
+        this.repository = repository;
+    }
+
+    public long current() {
+        return repository.current();
+    }
+
+    @EventListener
+    public void on(DomainEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            repository.increment();
+            return;
+        }
+        if (TransactionSynchronizationManager.hasResource(this)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                repository.increment();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResource(CatalogRevision.this);
+            }
+        });
+    }
+}
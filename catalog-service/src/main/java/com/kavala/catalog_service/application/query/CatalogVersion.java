@@ -0,0 +1,51 @@
+package com.kavala.catalog_service.application.query;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.kavala.catalog_service.domain.event.DomainEvent;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Kataloğun monoton artan sürüm numarası.
+ *
+ * Kitap, yazar, kategori veya yayınevi üzerinde değişiklik yapan her komutun
+ * yayınladığı domain event'i sürümü bir artırır. Sorgu sonucu cache'leri
+ * anahtarlarına sürümü ekler; sürüm değiştiğinde eski kayıtlara bir daha
+ * erişilemez.
+ *
+ * Sayaç süreç belleğindedir ve yalnızca bu instance'ın cache'leri için
+ * geçerlidir; instance'lar arası karşılaştırma (ETag) için CatalogRevision
+ * kullanılır.
+ *
+ * Artış commit sonrasında ve diğer commit sonrası dinleyicilerden (bellek
+ * içi indeksler) sonra yapılır. Böylece yeni sürümle hesaplanan bir sonuç
+ * her zaman güncel indeksi görür.
+ */
+@Component
+public class CatalogVersion {
+
+    private final AtomicLong version = new AtomicLong();
+
+    public CatalogVersion(MeterRegistry meterRegistry) {
+        Gauge.builder("catalog.version", version, AtomicLong::get)
+                .description("Monotonically increasing catalog version")
+                .register(meterRegistry);
+    }
+
+    public long current() {
+        return version.get();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void on(DomainEvent event) {
+        version.incrementAndGet();
+    }
+}
@@ -0,0 +1,33 @@
+package com.kavala.catalog_service.application.query;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Ada göre sıralı listelerde (yazar, kategori) keyset (seek) sayfalama için
+ * konum bilgisi. Son görülen kaydın (name, id) ikilisini taşır; istemciye
+ * opak bir Base64 metin olarak verilir.
+ */
+public record NameCursor(String name, UUID id) {
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = name + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static NameCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            // Ad ayırıcıyı içerebilir, UUID içeremez
+            int separatorIndex = raw.lastIndexOf(SEPARATOR);
+            return new NameCursor(
+                    raw.substring(0, separatorIndex),
+                    UUID.fromString(raw.substring(separatorIndex + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+}
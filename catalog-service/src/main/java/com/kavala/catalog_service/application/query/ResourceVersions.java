@@ -0,0 +1,56 @@
+package com.kavala.catalog_service.application.query;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+
+import com.kavala.catalog_service.domain.author.Author;
+import com.kavala.catalog_service.domain.author.AuthorId;
+import com.kavala.catalog_service.domain.book.model.BookId;
+import com.kavala.catalog_service.domain.port.AuthorRepository;
+import com.kavala.catalog_service.domain.port.BookReadModelRepository;
+
+/**
+ * Koşullu GET'ler (ETag / Last-Modified) için kaynak sürümlerini verir.
+ *
+ * Sürümler asıl sorgudan çok daha ucuza okunur: kitap için yalnızca
+ * updated_at sütunu, yazar için cache'teki kayıt. İstemcinin elindeki
+ * sürüm hâlâ geçerliyse yanıt, zenginleştirme ve serileştirme hiç
+ * çalışmadan 304 ile kısa devre edilir.
+ */
+@Component
+public class ResourceVersions {
+
+    private final BookReadModelRepository bookReadModelRepository;
+    private final AuthorRepository authorRepository;
+    private final CatalogRevision catalogRevision;
+
+    public ResourceVersions(BookReadModelRepository bookReadModelRepository, AuthorRepository authorRepository,
+            CatalogRevision catalogRevision) {
+        this.bookReadModelRepository = bookReadModelRepository;
+        this.authorRepository = authorRepository;
+        this.catalogRevision = catalogRevision;
+    }
+
+    public Optional<Instant> book(UUID bookId) {
+        return bookReadModelRepository.findUpdatedAtById(BookId.of(bookId));
+    }
+
+    /**
+     * Yazarlar oluşturulduktan sonra değiştirilmez; sürümleri oluşturulma
+     * zamanlarıdır.
+     */
+    public Optional<Instant> author(UUID authorId) {
+        return authorRepository.findById(AuthorId.of(authorId)).map(Author::getCreatedAt);
+    }
+
+    /**
+     * Liste uçları için katalog genelindeki değişiklik sayacı. Tüm
+     * instance'larda aynıdır; tek satırlık birincil anahtar okumasıdır.
+     */
+    public long catalog() {
+        return catalogRevision.current();
+    }
+}
@@ -1,15 +1,23 @@
 package com.kavala.catalog_service.application.query.author;
 
-import java.util.List;
-
-import com.kavala.catalog_service.api.rest.dto.AuthorResponse;
+import com.kavala.catalog_service.api.rest.dto.AuthorPageResponse;
 import com.kavala.catalog_service.core.cqrs.Query;
 
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 
+/**
+ * Yazarları (ad, id) sırasıyla sayfalı listeler.
+ * cursor verilirse page yok sayılır ve keyset (seek) sayfalama yapılır;
+ * namePrefix verilirse yalnızca adı bu önekle başlayan yazarlar döner.
+ */
 public record ListAuthorQuery(
         @Min(0) int page,
-        @Min(1) @Max(100) int size) implements Query<List<AuthorResponse>> {
+        @Min(1) @Max(100) int size,
+        String cursor,
+        String namePrefix) implements Query<AuthorPageResponse> {
 
+    public ListAuthorQuery(int page, int size) {
+        this(page, size, null, null);
+    }
 }
@@ -4,19 +4,23 @@ import java.util.List;
 
 import org.springframework.stereotype.Component;
 
+import com.kavala.catalog_service.api.rest.dto.AuthorPageResponse;
 import com.kavala.catalog_service.api.rest.dto.AuthorResponse;
+import com.kavala.catalog_service.application.query.NameCursor;
 import com.kavala.catalog_service.core.cqrs.QueryHandler;
 import com.kavala.catalog_service.domain.author.Author;
+import com.kavala.catalog_service.domain.author.AuthorId;
 import com.kavala.catalog_service.domain.port.AuthorRepository;
 
 /**
- * Tüm yazarları listeleyen Query Handler.
+ * Yazarları listeleyen Query Handler.
  * 
- * ListAuthorQuery'yi işleyerek sayfalı AuthorResponse listesi döndürür.
- * Sayfalama repository seviyesinde uygulanabilir.
+ * ListAuthorQuery'yi işleyerek ada göre sıralı bir AuthorResponse sayfası
+ * döndürür. Sayfalama ve önek filtresi veritabanında uygulanır; tüm yazarlar
+ * belleğe alınmaz.
  */
 @Component
-public class ListAuthorQueryHandler implements QueryHandler<ListAuthorQuery, List<AuthorResponse>> {
+public class ListAuthorQueryHandler implements QueryHandler<ListAuthorQuery, AuthorPageResponse> {
 
     private final AuthorRepository authorRepository;
 
@@ -25,21 +29,31 @@ public class ListAuthorQueryHandler implements QueryHandler<ListAuthorQuery, Lis
     }
 
     @Override
-    public List<AuthorResponse> handle(ListAuthorQuery query) {
-        List<Author> authors = authorRepository.findAll();
-
-        // Basit sayfalama (repository seviyesinde optimize edilebilir)
-        int start = query.page() * query.size();
-        int end = Math.min(start + query.size(), authors.size());
+    public AuthorPageResponse handle(ListAuthorQuery query) {
+        String namePrefix = query.namePrefix() == null || query.namePrefix().isBlank() ? null : query.namePrefix();
+
+        List<Author> authors;
+        if (query.cursor() != null && !query.cursor().isBlank()) {
+            NameCursor cursor = NameCursor.decode(query.cursor());
+            authors = authorRepository.findPageByNameAfter(namePrefix, cursor.name(), AuthorId.of(cursor.id()),
+                    query.size());
+        } else {
+            authors = authorRepository.findPageByName(namePrefix, query.page(), query.size());
+        }
 
-        if (start >= authors.size()) {
-            return List.of();
+        // Sayfa doluysa devamı olabilir; son yazarın konumu bir sonraki cursor olur
+        String nextCursor = null;
+        if (authors.size() == query.size()) {
+            Author last = authors.get(authors.size() - 1);
+            nextCursor = new NameCursor(last.getFullName(), last.getAuthorId().value()).encode();
         }
 
-        return authors.subList(start, end).stream()
+        List<AuthorResponse> responses = authors.stream()
                 .map(author -> new AuthorResponse(
                         author.getAuthorId().value(),
                         author.getFullName()))
                 .toList();
+
+        return new AuthorPageResponse(responses, nextCursor);
     }
 }
@@ -0,0 +1,141 @@
+package com.kavala.catalog_service.application.query.book;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.kavala.catalog_service.api.rest.dto.AuthorResponse;
+import com.kavala.catalog_service.application.query.book.BookReferenceLoader.BookReferences;
+import com.kavala.catalog_service.domain.author.AuthorId;
+import com.kavala.catalog_service.domain.book.model.Book;
+import com.kavala.catalog_service.domain.book.model.BookId;
+import com.kavala.catalog_service.domain.book.model.BookReadModel;
+import com.kavala.catalog_service.domain.book.model.BookReadModel.AuthorEntry;
+import com.kavala.catalog_service.domain.category.CategoryId;
+import com.kavala.catalog_service.domain.event.BookCreated;
+import com.kavala.catalog_service.domain.event.BookDeleted;
+import com.kavala.catalog_service.domain.event.BookUpdated;
+import com.kavala.catalog_service.domain.port.BookReadModelRepository;
+import com.kavala.catalog_service.domain.port.BookRepository;
+import com.kavala.catalog_service.domain.publisher.PublisherId;
+
+/**
+ * book_read_model projeksiyonunu kitap event'lerinden güncel tutar.
+ *
+ * Event'ler komut transaction'ı içinde senkron dinlenir; kitap ve
+ * projeksiyonu birlikte commit edilir. Uygulama ayağa kalktığında,
+ * projeksiyonu olmayan kitaplar (örneğin projeksiyondan önce eklenenler)
+ * parça parça tamamlanır; her parça kendi transaction'ında commit edilir.
+ * Yarıda kalan bir backfill, sonraki açılışta kaldığı yerden devam eder.
+ */
+@Component
+public class BookReadModelProjector {
+
+    private static final int BACKFILL_CHUNK_SIZE = 500;
+
+    private final BookReadModelRepository readModelRepository;
+    private final BookRepository bookRepository;
+    private final BookReferenceLoader bookReferenceLoader;
+    private final TransactionTemplate transactionTemplate;
+
+    public BookReadModelProjector(BookReadModelRepository readModelRepository, BookRepository bookRepository,
+            BookReferenceLoader bookReferenceLoader, PlatformTransactionManager transactionManager) {
+        this.readModelRepository = readModelRepository;
+        this.bookRepository = bookRepository;
+        this.bookReferenceLoader = bookReferenceLoader;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // Projeksiyondan kurulan bellek içi indekslerden önce tamamlanır
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void backfill() {
+        boolean more;
+        do {
+            more = Boolean.TRUE.equals(transactionTemplate.execute(status -> backfillChunk()));
+        } while (more);
+    }
+
+    /**
+     * Projeksiyonu olmayan en fazla BACKFILL_CHUNK_SIZE kitabı projekte eder;
+     * işlenecek kitap kalmadıysa false döner.
+     */
+    private boolean backfillChunk() {
+        List<BookId> bookIds = readModelRepository.findUnprojectedBookIds(BACKFILL_CHUNK_SIZE);
+        if (bookIds.isEmpty()) {
+            return false;
+        }
+        List<Book> books = bookRepository.findAllById(bookIds);
+        BookReferences references = bookReferenceLoader.load(books);
+        for (Book book : books) {
+            readModelRepository.insert(project(book.getId(), book.getTitle(), book.getCategoryId(),
+                    book.getPublisherId(), book.getPublishedDate(), book.getPageCount(), book.getLanguage(),
+                    book.getDescription(), book.getAuthorIds(), book.getCreatedAt(), book.getUpdatedAt(),
+                    references));
+        }
+        return true;
+    }
+
+    @EventListener
+    public void on(BookCreated event) {
+        BookReferences references = bookReferenceLoader.load(Set.of(event.categoryId()),
+                Set.of(event.publisherId()), event.authorIds());
+        readModelRepository.insert(project(event.bookId(), event.title(), event.categoryId(), event.publisherId(),
+                event.publishedDate(), event.pageCount(), event.language(), event.description(),
+                event.authorIds(), event.createdAt(), event.createdAt(), references));
+    }
+
+    @EventListener
+    public void on(BookUpdated event) {
+        // createdAt event'te yok; mevcut projeksiyondan, o da yoksa kitaptan alınır
+        Instant createdAt = readModelRepository.findById(event.bookId())
+                .map(BookReadModel::createdAt)
+                .orElseGet(() -> bookRepository.findById(event.bookId())
+                        .map(Book::getCreatedAt)
+                        .orElse(event.updatedAt()));
+
+        BookReferences references = bookReferenceLoader.load(Set.of(event.newCategoryId()),
+                Set.of(event.newPublisherId()), event.newAuthorIds());
+        readModelRepository.save(project(event.bookId(), event.newTitle(), event.newCategoryId(),
+                event.newPublisherId(), event.newPublishedDate(), event.newPageCount(), event.newLanguage(),
+                event.newDescription(), event.newAuthorIds(), createdAt, event.updatedAt(), references));
+    }
+
+    @EventListener
+    public void on(BookDeleted event) {
+        readModelRepository.deleteById(event.bookId());
+    }
+
+    private BookReadModel project(BookId bookId, String title, CategoryId categoryId, PublisherId publisherId,
+            LocalDate publishedDate, Integer pageCount, String language, String description,
+            List<AuthorId> authorIds, Instant createdAt, Instant updatedAt, BookReferences references) {
+        List<AuthorResponse> authors = references.authors(authorIds);
+        List<AuthorEntry> authorEntries = authors.stream()
+                .map(author -> new AuthorEntry(AuthorId.of(author.id()), author.name()))
+                .toList();
+
+        return new BookReadModel(
+                bookId,
+                title,
+                categoryId,
+                references.category(categoryId).name(),
+                publisherId,
+                references.publisher(publisherId).name(),
+                publishedDate,
+                pageCount,
+                language,
+                description,
+                authorEntries,
+                createdAt,
+                updatedAt);
+    }
+}
@@ -0,0 +1,45 @@
+package com.kavala.catalog_service.application.query.book;
+
+import java.util.List;
+
+import com.kavala.catalog_service.api.rest.dto.AuthorResponse;
+import com.kavala.catalog_service.api.rest.dto.BookDetailResponse;
+import com.kavala.catalog_service.api.rest.dto.CategoryResponse;
+import com.kavala.catalog_service.api.rest.dto.PublisherResponse;
+import com.kavala.catalog_service.domain.book.model.BookReadModel;
+
+/**
+ * BookReadModel'den cevap DTO'larının ortak parçalarını üretir.
+ */
+public final class BookReadModelResponses {
+
+    private BookReadModelResponses() {
+    }
+
+    public static BookDetailResponse detail(BookReadModel book) {
+        return new BookDetailResponse(
+                book.bookId().value(),
+                book.title(),
+                category(book),
+                publisher(book),
+                book.publishedDate(),
+                book.pageCount(),
+                book.language(),
+                book.description(),
+                authors(book));
+    }
+
+    public static CategoryResponse category(BookReadModel book) {
+        return new CategoryResponse(book.categoryId().value(), book.categoryName());
+    }
+
+    public static PublisherResponse publisher(BookReadModel book) {
+        return new PublisherResponse(book.publisherId().value(), book.publisherName());
+    }
+
+    public static List<AuthorResponse> authors(BookReadModel book) {
+        return book.authors().stream()
+                .map(author -> new AuthorResponse(author.authorId().value(), author.name()))
+                .toList();
+    }
+}
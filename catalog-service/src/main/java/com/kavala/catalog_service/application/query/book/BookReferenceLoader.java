@@ -0,0 +1,114 @@
+package com.kavala.catalog_service.application.query.book;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import com.kavala.catalog_service.api.rest.dto.AuthorResponse;
+import com.kavala.catalog_service.api.rest.dto.CategoryResponse;
+import com.kavala.catalog_service.api.rest.dto.PublisherResponse;
+import com.kavala.catalog_service.domain.author.Author;
+import com.kavala.catalog_service.domain.author.AuthorId;
+import com.kavala.catalog_service.domain.book.model.Book;
+import com.kavala.catalog_service.domain.category.Category;
+import com.kavala.catalog_service.domain.category.CategoryId;
+import com.kavala.catalog_service.domain.port.AuthorRepository;
+import com.kavala.catalog_service.domain.port.CategoryRepository;
+import com.kavala.catalog_service.domain.port.PublisherRepository;
+import com.kavala.catalog_service.domain.publisher.Publisher;
+import com.kavala.catalog_service.domain.publisher.PublisherId;
+
+/**
+ * Bir kitap listesinin ihtiyaç duyduğu Category, Publisher ve Author
+ * bilgilerini toplu (batch) olarak yükler.
+ *
+ * Sonuçtaki tüm ID'ler önce toplanır, ardından her tip için tek bir
+ * "WHERE id IN (...)" sorgusu çalışır. Böylece bir sayfa kitap, kitap
+ * sayısından bağımsız olarak sabit sayıda sorgu ile zenginleştirilir.
+ */
+@Component
+public class BookReferenceLoader {
+
+    private final CategoryRepository categoryRepository;
+    private final PublisherRepository publisherRepository;
+    private final AuthorRepository authorRepository;
+
+    public BookReferenceLoader(CategoryRepository categoryRepository, PublisherRepository publisherRepository,
+            AuthorRepository authorRepository) {
+        this.categoryRepository = categoryRepository;
+        this.publisherRepository = publisherRepository;
+        this.authorRepository = authorRepository;
+    }
+
+    public BookReferences load(Collection<Book> books) {
+        Set<CategoryId> categoryIds = new HashSet<>();
+        Set<PublisherId> publisherIds = new HashSet<>();
+        Set<AuthorId> authorIds = new HashSet<>();
+        for (Book book : books) {
+            categoryIds.add(book.getCategoryId());
+            publisherIds.add(book.getPublisherId());
+            authorIds.addAll(book.getAuthorIds());
+        }
+        return load(categoryIds, publisherIds, authorIds);
+    }
+
+    public BookReferences load(Collection<CategoryId> categoryIds, Collection<PublisherId> publisherIds,
+            Collection<AuthorId> authorIds) {
+        Map<CategoryId, CategoryResponse> categories = categoryRepository.findAllById(categoryIds).stream()
+                .collect(Collectors.toMap(Category::getCategoryId,
+                        category -> new CategoryResponse(category.getCategoryId().value(), category.getName())));
+
+        Map<PublisherId, PublisherResponse> publishers = publisherRepository.findAllById(publisherIds).stream()
+                .collect(Collectors.toMap(Publisher::getPublisherId,
+                        publisher -> new PublisherResponse(publisher.getPublisherId().value(), publisher.getName())));
+
+        Map<AuthorId, AuthorResponse> authors = authorRepository.findAllById(authorIds).stream()
+                .collect(Collectors.toMap(Author::getAuthorId,
+                        author -> new AuthorResponse(author.getAuthorId().value(), author.getFullName())));
+
+        return new BookReferences(categories, publishers, authors);
+    }
+
+    /**
+     * Toplu yüklenmiş referans verisi. Eksik bir referans, tekil
+     * findById akışındaki gibi IllegalArgumentException fırlatır.
+     */
+    public record BookReferences(
+            Map<CategoryId, CategoryResponse> categories,
+            Map<PublisherId, PublisherResponse> publishers,
+            Map<AuthorId, AuthorResponse> authors) {
+
+        public CategoryResponse category(CategoryId categoryId) {
+            CategoryResponse category = categories.get(categoryId);
+            if (category == null) {
+                throw new IllegalArgumentException("Category not found");
+            }
+            return category;
+        }
+
+        public PublisherResponse publisher(PublisherId publisherId) {
+            PublisherResponse publisher = publishers.get(publisherId);
+            if (publisher == null) {
+                throw new IllegalArgumentException("Publisher not found");
+            }
+            return publisher;
+        }
+
+        public List<AuthorResponse> authors(List<AuthorId> authorIds) {
+            return authorIds.stream()
+                    .map(authorId -> {
+                        AuthorResponse author = authors.get(authorId);
+                        if (author == null) {
+                            throw new IllegalArgumentException("Author not found");
+                        }
+                        return author;
+                    })
+                    .toList();
+        }
+    }
+}
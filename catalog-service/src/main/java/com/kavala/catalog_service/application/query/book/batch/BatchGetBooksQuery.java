@@ -0,0 +1,21 @@
+package com.kavala.catalog_service.application.query.book.batch;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import com.kavala.catalog_service.core.cqrs.Query;
+
+/**
+ * Birden fazla kitabı id'leriyle tek seferde getirir.
+ * compact verilirse değerler BookSummaryResponse (id, başlık, yazarlar),
+ * aksi halde BookDetailResponse olur.
+ */
+public record BatchGetBooksQuery(
+        List<UUID> bookIds,
+        boolean compact) implements Query<Map<UUID, ?>> {
+
+    public BatchGetBooksQuery {
+        bookIds = List.copyOf(bookIds);
+    }
+}
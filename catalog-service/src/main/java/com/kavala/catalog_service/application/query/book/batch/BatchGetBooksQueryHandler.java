@@ -0,0 +1,81 @@
+package com.kavala.catalog_service.application.query.book.batch;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.kavala.catalog_service.api.rest.dto.AuthorResponse;
+import com.kavala.catalog_service.api.rest.dto.BookSummaryResponse;
+import com.kavala.catalog_service.application.query.book.BookReadModelResponses;
+import com.kavala.catalog_service.core.cqrs.QueryHandler;
+import com.kavala.catalog_service.domain.book.model.BookId;
+import com.kavala.catalog_service.domain.book.model.BookReadModel;
+import com.kavala.catalog_service.domain.book.model.BookSummary;
+import com.kavala.catalog_service.domain.port.BookReadModelRepository;
+
+/**
+ * Toplu kitap okuma Query Handler'ı.
+ *
+ * Tüm id'ler book_read_model üzerinde tek bir IN sorgusuyla okunur;
+ * kategori, yayınevi ve yazar adları projeksiyonda hazır olduğu için ek
+ * referans sorgusu yapılmaz. Sonuç, istekteki sırayı koruyan ve id ile
+ * anahtarlanan bir haritadır; bulunamayan id'ler haritada yer almaz.
+ */
+@Component
+public class BatchGetBooksQueryHandler implements QueryHandler<BatchGetBooksQuery, Map<UUID, ?>> {
+
+    private final BookReadModelRepository bookReadModelRepository;
+    private final int maxIds;
+
+    public BatchGetBooksQueryHandler(BookReadModelRepository bookReadModelRepository,
+            @Value("${catalog.books.batch.max-ids:500}") int maxIds) {
+        this.bookReadModelRepository = bookReadModelRepository;
+        this.maxIds = maxIds;
+    }
+
+    @Override
+    public Map<UUID, ?> handle(BatchGetBooksQuery query) {
+        Set<BookId> bookIds = new LinkedHashSet<>();
+        for (UUID id : query.bookIds()) {
+            bookIds.add(BookId.of(id));
+        }
+        if (bookIds.size() > maxIds) {
+            throw new IllegalArgumentException(
+                    "At most " + maxIds + " book ids can be requested at once, got " + bookIds.size());
+        }
+
+        Map<UUID, Object> found = new LinkedHashMap<>();
+        if (query.compact()) {
+            for (BookSummary book : bookReadModelRepository.findSummariesById(bookIds)) {
+                found.put(book.bookId().value(), toSummaryResponse(book));
+            }
+        } else {
+            for (BookReadModel book : bookReadModelRepository.findAllById(bookIds)) {
+                found.put(book.bookId().value(), BookReadModelResponses.detail(book));
+            }
+        }
+
+        // Veritabanı sırası yerine istek sırası
+        Map<UUID, Object> result = new LinkedHashMap<>();
+        for (BookId bookId : bookIds) {
+            Object book = found.get(bookId.value());
+            if (book != null) {
+                result.put(bookId.value(), book);
+            }
+        }
+        return result;
+    }
+
+    private BookSummaryResponse toSummaryResponse(BookSummary book) {
+        List<AuthorResponse> authors = book.authors().stream()
+                .map(author -> new AuthorResponse(author.authorId().value(), author.name()))
+                .toList();
+        return new BookSummaryResponse(book.bookId().value(), book.title(), authors);
+    }
+}
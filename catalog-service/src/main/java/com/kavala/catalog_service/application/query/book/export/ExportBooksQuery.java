@@ -0,0 +1,18 @@
+package com.kavala.catalog_service.application.query.book.export;
+
+import java.util.function.Consumer;
+
+import com.kavala.catalog_service.api.rest.dto.BookDetailResponse;
+import com.kavala.catalog_service.core.cqrs.Query;
+
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Tüm kataloğu sırayla verilen sink'e aktarır.
+ * Sonuç liste olarak toplanmaz; her kitap okunduğu anda sink'e yazılır.
+ * Dönen değer aktarılan kitap sayısıdır.
+ */
+public record ExportBooksQuery(
+        @NotNull Consumer<BookDetailResponse> sink) implements Query<Long> {
+
+}
@@ -0,0 +1,41 @@
+package com.kavala.catalog_service.application.query.book.export;
+
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.kavala.catalog_service.application.query.book.BookReadModelResponses;
+import com.kavala.catalog_service.core.cqrs.QueryHandler;
+import com.kavala.catalog_service.domain.book.model.BookReadModel;
+import com.kavala.catalog_service.domain.port.BookReadModelRepository;
+
+@Component
+public class ExportBooksQueryHandler implements QueryHandler<ExportBooksQuery, Long> {
+
+    private final BookReadModelRepository bookReadModelRepository;
+
+    public ExportBooksQueryHandler(BookReadModelRepository bookReadModelRepository) {
+        this.bookReadModelRepository = bookReadModelRepository;
+    }
+
+    /**
+     * Cursor transaction boyunca açık kalır; export süresince tek bir
+     * read-only transaction kullanılır.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Long handle(ExportBooksQuery query) {
+        long count = 0;
+        try (Stream<BookReadModel> books = bookReadModelRepository.streamAll()) {
+            Iterator<BookReadModel> iterator = books.iterator();
+            while (iterator.hasNext()) {
+                query.sink().accept(BookReadModelResponses.detail(iterator.next()));
+                count++;
+            }
+        }
+        return count;
+    }
+
+}
@@ -1,14 +1,20 @@
 package com.kavala.catalog_service.application.query.book.list;
 
-import java.util.List;
-
-import com.kavala.catalog_service.api.rest.dto.BookListResponse;
+import com.kavala.catalog_service.api.rest.dto.BookPageResponse;
 import com.kavala.catalog_service.core.cqrs.Query;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 
+/**
+ * Kitapları (createdAt, id) sırasıyla sayfalı listeler.
+ * cursor verilirse page yok sayılır ve keyset (seek) sayfalama yapılır.
+ */
 public record ListBooksQuery(
                 @Min(0) int page,
-                @Min(1) @Max(100) int size) implements Query<List<BookListResponse>> {
+                @Min(1) @Max(100) int size,
+                String cursor) implements Query<BookPageResponse> {
 
+        public ListBooksQuery(int page, int size) {
+                this(page, size, null);
+        }
 }
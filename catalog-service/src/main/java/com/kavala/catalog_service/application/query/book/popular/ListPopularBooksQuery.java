@@ -0,0 +1,20 @@
+package com.kavala.catalog_service.application.query.book.popular;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.kavala.catalog_service.api.rest.dto.PopularBookResponse;
+import com.kavala.catalog_service.core.cqrs.Query;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+
+/**
+ * En çok ödünç verilen kitapları listeler.
+ * categoryId verilirse yalnızca o kategorinin kitapları sıralanır.
+ */
+public record ListPopularBooksQuery(
+        UUID categoryId,
+        @Min(1) @Max(100) int limit) implements Query<List<PopularBookResponse>> {
+
+}
@@ -0,0 +1,65 @@
+package com.kavala.catalog_service.application.query.book.popular;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import com.kavala.catalog_service.api.rest.dto.PopularBookResponse;
+import com.kavala.catalog_service.application.query.book.BookReadModelResponses;
+import com.kavala.catalog_service.core.cqrs.QueryHandler;
+import com.kavala.catalog_service.domain.book.model.BookId;
+import com.kavala.catalog_service.domain.book.model.BookReadModel;
+import com.kavala.catalog_service.domain.category.CategoryId;
+import com.kavala.catalog_service.domain.port.BookPopularity;
+import com.kavala.catalog_service.domain.port.BookPopularity.PopularBook;
+import com.kavala.catalog_service.domain.port.BookReadModelRepository;
+
+/**
+ * En popüler kitapları listeleyen Query Handler.
+ *
+ * Sıralama bellek içi popülerlik sıralamasından gelir; yalnızca seçilen
+ * kitaplar projeksiyondan tek bir IN sorgusuyla okunur.
+ */
+@Component
+public class ListPopularBooksQueryHandler implements QueryHandler<ListPopularBooksQuery, List<PopularBookResponse>> {
+
+    private final BookPopularity bookPopularity;
+    private final BookReadModelRepository bookReadModelRepository;
+
+    public ListPopularBooksQueryHandler(BookPopularity bookPopularity,
+            BookReadModelRepository bookReadModelRepository) {
+        this.bookPopularity = bookPopularity;
+        this.bookReadModelRepository = bookReadModelRepository;
+    }
+
+    @Override
+    public List<PopularBookResponse> handle(ListPopularBooksQuery query) {
+        CategoryId categoryId = query.categoryId() == null ? null : CategoryId.of(query.categoryId());
+        List<PopularBook> popular = bookPopularity.top(categoryId, query.limit());
+        if (popular.isEmpty()) {
+            return List.of();
+        }
+
+        Map<BookId, BookReadModel> booksById = bookReadModelRepository
+                .findAllById(popular.stream().map(PopularBook::bookId).toList()).stream()
+                .collect(Collectors.toMap(BookReadModel::bookId, Function.identity()));
+
+        // Sıralamadan sonra silinmiş kitaplar atlanır
+        return popular.stream()
+                .filter(entry -> booksById.containsKey(entry.bookId()))
+                .map(entry -> toResponse(booksById.get(entry.bookId()), entry.checkouts()))
+                .toList();
+    }
+
+    private PopularBookResponse toResponse(BookReadModel book, long checkouts) {
+        return new PopularBookResponse(
+                book.bookId().value(),
+                book.title(),
+                BookReadModelResponses.category(book),
+                BookReadModelResponses.authors(book),
+                checkouts);
+    }
+}
@@ -1,23 +1,29 @@
 package com.kavala.catalog_service.application.query.book.search;
 
-import java.util.List;
-
-import com.kavala.catalog_service.api.rest.dto.BookSearchResponse;
+import com.kavala.catalog_service.api.rest.dto.BookSearchResultResponse;
 import com.kavala.catalog_service.core.cqrs.Query;
 
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+
 public record SearchBooksQuery(
                 String keyword,
                 String language,
                 Integer minPageCount,
-                Integer maxPageCount) implements Query<List<BookSearchResponse>> {
+                Integer maxPageCount,
+                @Min(1) @Max(100) int limit,
+                boolean facets,
+                boolean fuzzy) implements Query<BookSearchResultResponse> {
+
+        public static final int DEFAULT_LIMIT = 50;
 
         // Sadece keyword ile arama için constructor
         public SearchBooksQuery(String keyword) {
-                this(keyword, null, null, null);
+                this(keyword, null, null, null, DEFAULT_LIMIT, false, false);
         }
 
         // Keyword ve language ile arama için constructor
         public SearchBooksQuery(String keyword, String language) {
-                this(keyword, language, null, null);
+                this(keyword, language, null, null, DEFAULT_LIMIT, false, false);
         }
 }
@@ -1,119 +1,153 @@
 package com.kavala.catalog_service.application.query.book.search;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Component;
 
 import com.kavala.catalog_service.api.rest.dto.BookSearchResponse;
-import com.kavala.catalog_service.api.rest.dto.CategoryResponse;
-import com.kavala.catalog_service.api.rest.dto.PublisherResponse;
-import com.kavala.catalog_service.api.rest.dto.AuthorResponse;
+import com.kavala.catalog_service.api.rest.dto.BookSearchResultResponse;
+import com.kavala.catalog_service.api.rest.dto.FacetValueResponse;
+import com.kavala.catalog_service.api.rest.dto.SearchFacetsResponse;
+import com.kavala.catalog_service.application.query.book.BookReadModelResponses;
 import com.kavala.catalog_service.core.cqrs.QueryHandler;
-import com.kavala.catalog_service.domain.author.Author;
-import com.kavala.catalog_service.domain.book.model.Book;
+import com.kavala.catalog_service.domain.book.model.BookId;
+import com.kavala.catalog_service.domain.book.model.BookReadModel;
 import com.kavala.catalog_service.domain.category.Category;
-import com.kavala.catalog_service.domain.publisher.Publisher;
-import com.kavala.catalog_service.domain.port.BookRepository;
+import com.kavala.catalog_service.domain.category.CategoryId;
+import com.kavala.catalog_service.domain.port.BookQueryPort;
+import com.kavala.catalog_service.domain.port.BookReadModelRepository;
+import com.kavala.catalog_service.domain.port.BookSearchIndex;
+import com.kavala.catalog_service.domain.port.BookSearchIndex.FacetCounts;
+import com.kavala.catalog_service.domain.port.BookSearchIndex.SearchHits;
 import com.kavala.catalog_service.domain.port.CategoryRepository;
+import com.kavala.catalog_service.domain.port.FuzzyBookSearchIndex;
 import com.kavala.catalog_service.domain.port.PublisherRepository;
-import com.kavala.catalog_service.domain.port.AuthorRepository;
+import com.kavala.catalog_service.domain.publisher.Publisher;
+import com.kavala.catalog_service.domain.publisher.PublisherId;
 
 @Component
-public class SearchBooksQueryHandler implements QueryHandler<SearchBooksQuery, List<BookSearchResponse>> {
+public class SearchBooksQueryHandler implements QueryHandler<SearchBooksQuery, BookSearchResultResponse> {
 
-    private final BookRepository bookRepository;
+    private final BookReadModelRepository bookReadModelRepository;
+    private final BookSearchIndex bookSearchIndex;
+    private final FuzzyBookSearchIndex fuzzyBookSearchIndex;
+    private final BookQueryPort bookQueryPort;
     private final CategoryRepository categoryRepository;
     private final PublisherRepository publisherRepository;
-    private final AuthorRepository authorRepository;
+    private final SearchResultCache searchResultCache;
 
     public SearchBooksQueryHandler(
-            BookRepository bookRepository,
+            BookReadModelRepository bookReadModelRepository,
+            BookSearchIndex bookSearchIndex,
+            FuzzyBookSearchIndex fuzzyBookSearchIndex,
+            BookQueryPort bookQueryPort,
             CategoryRepository categoryRepository,
             PublisherRepository publisherRepository,
-            AuthorRepository authorRepository) {
-        this.bookRepository = bookRepository;
+            SearchResultCache searchResultCache) {
+        this.bookReadModelRepository = bookReadModelRepository;
+        this.bookSearchIndex = bookSearchIndex;
+        this.fuzzyBookSearchIndex = fuzzyBookSearchIndex;
+        this.bookQueryPort = bookQueryPort;
         this.categoryRepository = categoryRepository;
         this.publisherRepository = publisherRepository;
-        this.authorRepository = authorRepository;
+        this.searchResultCache = searchResultCache;
     }
 
     @Override
-    public List<BookSearchResponse> handle(SearchBooksQuery query) {
-        List<Book> books = bookRepository.findAll();
+    public BookSearchResultResponse handle(SearchBooksQuery query) {
+        // Aynı sorgu, katalog değişmediği sürece cache'ten döner
+        return searchResultCache.get(query, this::search);
+    }
 
-        // Keyword ile filtreleme
-        if (query.keyword() != null && !query.keyword().isBlank()) {
-            String keyword = query.keyword().toLowerCase();
-            books = books.stream()
-                    .filter(book -> book.getTitle().toLowerCase().contains(keyword) ||
-                            book.getDescription().toLowerCase().contains(keyword))
-                    .toList();
+    private BookSearchResultResponse search(SearchBooksQuery query) {
+        // Bulanık mod: başlık ve yazar adlarında trigram benzerliği, facet hesaplanmaz
+        if (query.fuzzy() && query.keyword() != null && !query.keyword().isBlank()) {
+            List<BookId> bookIds = fuzzyBookSearchIndex.search(query.keyword(), query.language(),
+                    query.minPageCount(), query.maxPageCount(), query.limit());
+            return new BookSearchResultResponse(toBookSearchResponses(loadInRankOrder(bookIds)), null);
         }
 
-        // Language ile filtreleme
-        if (query.language() != null && !query.language().isBlank()) {
-            books = books.stream()
-                    .filter(book -> book.getLanguage().equalsIgnoreCase(query.language()))
-                    .toList();
-        }
+        // Keyword varsa tüm filtreler ters indekste uygulanır, sadece eşleşenler yüklenir.
+        // Facet sayıları aynı geçişte eşleşme kümesi üzerinden hesaplanır.
+        if (query.keyword() != null && !query.keyword().isBlank()) {
+            SearchHits hits = bookSearchIndex.search(query.keyword(), query.language(),
+                    query.minPageCount(), query.maxPageCount(), query.limit(), query.facets());
 
-        // Min page count ile filtreleme
-        if (query.minPageCount() != null) {
-            books = books.stream()
-                    .filter(book -> book.getPageCount() >= query.minPageCount())
-                    .toList();
+            return new BookSearchResultResponse(
+                    toBookSearchResponses(loadInRankOrder(hits.bookIds())),
+                    query.facets() ? toFacetsResponse(hits.facets()) : null);
         }
 
-        // Max page count ile filtreleme
-        if (query.maxPageCount() != null) {
-            books = books.stream()
-                    .filter(book -> book.getPageCount() <= query.maxPageCount())
-                    .toList();
-        }
+        // Diğer filtreler tek bir sorgu olarak veritabanına itilir
+        List<BookReadModel> books = bookQueryPort.search(null, query.language(), query.minPageCount(),
+                query.maxPageCount(), query.limit());
+        SearchFacetsResponse facets = query.facets()
+                ? toFacetsResponse(bookSearchIndex.facets(query.language(), query.minPageCount(),
+                        query.maxPageCount()))
+                : null;
+
+        return new BookSearchResultResponse(toBookSearchResponses(books), facets);
+    }
 
+    private List<BookSearchResponse> toBookSearchResponses(List<BookReadModel> books) {
         return books.stream()
                 .map(this::toBookSearchResponse)
                 .toList();
     }
 
-    private BookSearchResponse toBookSearchResponse(Book book) {
-        // Category bilgisi
-        Category category = categoryRepository.findById(book.getCategoryId())
-                .orElseThrow(() -> new IllegalArgumentException("Category not found"));
-
-        CategoryResponse categoryResponse = new CategoryResponse(
-                category.getCategoryId().value(),
-                category.getName());
-
-        // Publisher bilgisi
-        Publisher publisher = publisherRepository.findById(book.getPublisherId())
-                .orElseThrow(() -> new IllegalArgumentException("Publisher not found"));
-
-        PublisherResponse publisherResponse = new PublisherResponse(
-                publisher.getPublisherId().value(),
-                publisher.getName());
-
-        // Author bilgileri
-        List<AuthorResponse> authorResponses = book.getAuthorIds().stream()
-                .map(authorId -> {
-                    Author author = authorRepository.findById(authorId)
-                            .orElseThrow(() -> new IllegalArgumentException("Author not found"));
-                    return new AuthorResponse(
-                            author.getAuthorId().value(),
-                            author.getFullName());
-                })
+    private List<BookReadModel> loadInRankOrder(List<BookId> rankedIds) {
+        if (rankedIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<BookId, BookReadModel> booksById = bookReadModelRepository.findAllById(rankedIds).stream()
+                .collect(Collectors.toMap(BookReadModel::bookId, Function.identity()));
+
+        return rankedIds.stream()
+                .map(booksById::get)
+                .filter(Objects::nonNull)
                 .toList();
+    }
+
+    private SearchFacetsResponse toFacetsResponse(FacetCounts facets) {
+        // Kategori ve yayınevi adları referans verisi cache'inden gelir
+        Map<CategoryId, String> categoryNames = categoryRepository.findAllById(facets.categories().keySet())
+                .stream()
+                .collect(Collectors.toMap(Category::getCategoryId, Category::getName));
+        Map<PublisherId, String> publisherNames = publisherRepository.findAllById(facets.publishers().keySet())
+                .stream()
+                .collect(Collectors.toMap(Publisher::getPublisherId, Publisher::getName));
+
+        return new SearchFacetsResponse(
+                toFacetValues(facets.languages(), Function.identity(), Function.identity()),
+                toFacetValues(facets.categories(), id -> id.value().toString(), categoryNames::get),
+                toFacetValues(facets.publishers(), id -> id.value().toString(), publisherNames::get),
+                toFacetValues(facets.pageCountBuckets(), Function.identity(), Function.identity()));
+    }
+
+    private static <K> List<FacetValueResponse> toFacetValues(Map<K, Long> counts, Function<K, String> value,
+            Function<K, String> label) {
+        return counts.entrySet().stream()
+                .map(entry -> new FacetValueResponse(value.apply(entry.getKey()), label.apply(entry.getKey()),
+                        entry.getValue()))
+                .toList();
+    }
 
+    private BookSearchResponse toBookSearchResponse(BookReadModel book) {
         return new BookSearchResponse(
-                book.getId().value(),
-                book.getTitle(),
-                categoryResponse,
-                publisherResponse,
-                book.getPublishedDate(),
-                book.getPageCount(),
-                book.getLanguage(),
-                book.getDescription(),
-                authorResponses);
+                book.bookId().value(),
+                book.title(),
+                BookReadModelResponses.category(book),
+                BookReadModelResponses.publisher(book),
+                book.publishedDate(),
+                book.pageCount(),
+                book.language(),
+                book.description(),
+                BookReadModelResponses.authors(book));
     }
 
 }
@@ -0,0 +1,118 @@
+package com.kavala.catalog_service.application.query.book.search;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kavala.catalog_service.api.rest.dto.AuthorResponse;
+import com.kavala.catalog_service.api.rest.dto.BookSearchResponse;
+import com.kavala.catalog_service.api.rest.dto.BookSearchResultResponse;
+import com.kavala.catalog_service.api.rest.dto.FacetValueResponse;
+import com.kavala.catalog_service.api.rest.dto.SearchFacetsResponse;
+import com.kavala.catalog_service.application.query.CatalogRevision;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Arama sonuçları için boyutu bayt cinsinden sınırlı cache.
+ *
+ * Anahtar, normalize edilmiş SearchBooksQuery ile tüm instance'larca
+ * paylaşılan katalog revizyonudur (CatalogRevision). Herhangi bir instance'ta
+ * katalog değiştiğinde revizyon artar ve eski sonuçlara bir daha erişilemez;
+ * yalnızca bu instance'ın yazmalarını gören CatalogVersion bu yüzden
+ * kullanılmaz. Bunun bedeli her aramada tek satırlık bir okumadır. Erişilmeyen
+ * eski kayıtlar ağırlık sınırı dolduğunda tahliye edilir.
+ *
+ * Hit/miss/eviction sayıları "cache" tag'i ile, hit oranı ve tahmini bellek
+ * kullanımı catalog.search.cache.* gauge'ları ile yayınlanır.
+ */
+@Component
+public class SearchResultCache {
+
+    private final CatalogRevision catalogRevision;
+    private final Cache<Key, BookSearchResultResponse> cache;
+
+    public SearchResultCache(CatalogRevision catalogRevision, MeterRegistry meterRegistry,
+            @Value("${catalog.cache.search.maximum-weight-bytes:67108864}") long maximumWeightBytes) {
+        this.catalogRevision = catalogRevision;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumWeightBytes)
+                .weigher((Key key, BookSearchResultResponse result) -> estimateBytes(result))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "bookSearchResults");
+        Gauge.builder("catalog.search.cache.hit.ratio", cache, c -> c.stats().hitRate())
+                .description("Search result cache hit ratio since startup")
+                .register(meterRegistry);
+        Gauge.builder("catalog.search.cache.weight", cache,
+                c -> c.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0)).orElse(0L))
+                .description("Estimated memory held by cached search results")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    public BookSearchResultResponse get(SearchBooksQuery query,
+            Function<SearchBooksQuery, BookSearchResultResponse> search) {
+        // Normalize edilmiş sorgu sadece anahtardır; arama motoruna orijinal sorgu gider
+        return cache.get(new Key(catalogRevision.current(), normalize(query)), key -> search.apply(query));
+    }
+
+    /**
+     * Aynı sonucu üreten sorguları tek anahtara indirger. Anahtar kelime
+     * aramada küçük/büyük harf ve boşluk farkı sonucu değiştirmez. Küçük
+     * harfe çevirme Locale.ROOT ile yapılır: Türkçe kurallarıyla "INDIA"
+     * "ındıa" olur ve PostgreSQL motorunda farklı sonuç veren bir sorguyla
+     * aynı anahtara düşerdi. Dil filtresi sadece kırpılır.
+     */
+    private static SearchBooksQuery normalize(SearchBooksQuery query) {
+        String keyword = query.keyword() == null || query.keyword().isBlank()
+                ? null
+                : query.keyword().strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+        String language = query.language() == null || query.language().isBlank()
+                ? null
+                : query.language().strip();
+        return new SearchBooksQuery(keyword, language, query.minPageCount(), query.maxPageCount(),
+                query.limit(), query.facets(), query.fuzzy());
+    }
+
+    /**
+     * Bir sonucun bellekte kapladığı alanın kaba tahmini: sabit nesne
+     * başlıkları ve metin alanlarının UTF-16 boyutu.
+     */
+    private static int estimateBytes(BookSearchResultResponse result) {
+        long bytes = 64;
+        for (BookSearchResponse book : result.books()) {
+            bytes += 256 + chars(book.title()) * 2L + chars(book.description()) * 2L
+                    + chars(book.language()) * 2L
+                    + chars(book.category().name()) * 2L + chars(book.publisher().name()) * 2L;
+            for (AuthorResponse author : book.authors()) {
+                bytes += 64 + chars(author.name()) * 2L;
+            }
+        }
+        SearchFacetsResponse facets = result.facets();
+        if (facets != null) {
+            for (List<FacetValueResponse> values : List.of(facets.languages(), facets.categories(),
+                    facets.publishers(), facets.pageCounts())) {
+                for (FacetValueResponse value : values) {
+                    bytes += 96 + chars(value.value()) * 2L + chars(value.label()) * 2L;
+                }
+            }
+        }
+        return (int) Math.min(bytes, Integer.MAX_VALUE);
+    }
+
+    private static int chars(String value) {
+        return value == null ? 0 : value.length();
+    }
+
+    private record Key(long catalogRevision, SearchBooksQuery query) {
+    }
+}
@@ -0,0 +1,16 @@
+package com.kavala.catalog_service.application.query.book.suggest;
+
+import java.util.List;
+
+import com.kavala.catalog_service.api.rest.dto.SuggestionResponse;
+import com.kavala.catalog_service.core.cqrs.Query;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+
+public record SuggestQuery(
+                @NotBlank String prefix,
+                @Min(1) @Max(20) int limit) implements Query<List<SuggestionResponse>> {
+
+}
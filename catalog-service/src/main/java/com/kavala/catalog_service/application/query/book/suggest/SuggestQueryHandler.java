@@ -0,0 +1,29 @@
+package com.kavala.catalog_service.application.query.book.suggest;
+
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import com.kavala.catalog_service.api.rest.dto.SuggestionResponse;
+import com.kavala.catalog_service.core.cqrs.QueryHandler;
+import com.kavala.catalog_service.domain.port.SuggestionIndex;
+
+@Component
+public class SuggestQueryHandler implements QueryHandler<SuggestQuery, List<SuggestionResponse>> {
+
+    private final SuggestionIndex suggestionIndex;
+
+    public SuggestQueryHandler(SuggestionIndex suggestionIndex) {
+        this.suggestionIndex = suggestionIndex;
+    }
+
+    @Override
+    public List<SuggestionResponse> handle(SuggestQuery query) {
+        // Veritabanına gidilmez; öneriler tamamen bellek içi indeksten gelir
+        return suggestionIndex.suggest(query.prefix(), query.limit()).stream()
+                .map(suggestion -> new SuggestionResponse(suggestion.type().name(), suggestion.id(),
+                        suggestion.text()))
+                .toList();
+    }
+
+}
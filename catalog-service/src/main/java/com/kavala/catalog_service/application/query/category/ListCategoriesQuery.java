@@ -1,15 +1,23 @@
 package com.kavala.catalog_service.application.query.category;
 
-import java.util.List;
-
-import com.kavala.catalog_service.api.rest.dto.CategoryResponse;
+import com.kavala.catalog_service.api.rest.dto.CategoryPageResponse;
 import com.kavala.catalog_service.core.cqrs.Query;
 
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 
+/**
+ * Kategorileri (ad, id) sırasıyla sayfalı listeler.
+ * cursor verilirse page yok sayılır ve keyset (seek) sayfalama yapılır;
+ * namePrefix verilirse yalnızca adı bu önekle başlayan kategoriler döner.
+ */
 public record ListCategoriesQuery(
         @Min(0) int page,
-        @Min(1) @Max(100) int size) implements Query<List<CategoryResponse>> {
+        @Min(1) @Max(100) int size,
+        String cursor,
+        String namePrefix) implements Query<CategoryPageResponse> {
 
+    public ListCategoriesQuery(int page, int size) {
+        this(page, size, null, null);
+    }
 }
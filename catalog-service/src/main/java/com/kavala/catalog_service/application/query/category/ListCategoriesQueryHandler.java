@@ -4,13 +4,16 @@ import java.util.List;
 
 import org.springframework.stereotype.Component;
 
+import com.kavala.catalog_service.api.rest.dto.CategoryPageResponse;
 import com.kavala.catalog_service.api.rest.dto.CategoryResponse;
+import com.kavala.catalog_service.application.query.NameCursor;
 import com.kavala.catalog_service.core.cqrs.QueryHandler;
 import com.kavala.catalog_service.domain.category.Category;
+import com.kavala.catalog_service.domain.category.CategoryId;
 import com.kavala.catalog_service.domain.port.CategoryRepository;
 
 @Component
-public class ListCategoriesQueryHandler implements QueryHandler<ListCategoriesQuery, List<CategoryResponse>> {
+public class ListCategoriesQueryHandler implements QueryHandler<ListCategoriesQuery, CategoryPageResponse> {
 
     private final CategoryRepository categoryRepository;
 
@@ -19,13 +22,29 @@ public class ListCategoriesQueryHandler implements QueryHandler<ListCategoriesQu
     }
 
     @Override
-    public List<CategoryResponse> handle(ListCategoriesQuery query) {
-
-        List<Category> categories = categoryRepository.findAll();
-
-        return categories.stream()
+    public CategoryPageResponse handle(ListCategoriesQuery query) {
+        String namePrefix = query.namePrefix() == null || query.namePrefix().isBlank() ? null : query.namePrefix();
+
+        List<Category> categories;
+        if (query.cursor() != null && !query.cursor().isBlank()) {
+            NameCursor cursor = NameCursor.decode(query.cursor());
+            categories = categoryRepository.findPageByNameAfter(namePrefix, cursor.name(),
+                    CategoryId.of(cursor.id()), query.size());
+        } else {
+            categories = categoryRepository.findPageByName(namePrefix, query.page(), query.size());
+        }
+
+        String nextCursor = null;
+        if (categories.size() == query.size()) {
+            Category last = categories.get(categories.size() - 1);
+            nextCursor = new NameCursor(last.getName(), last.getCategoryId().value()).encode();
+        }
+
+        List<CategoryResponse> responses = categories.stream()
                 .map(category -> new CategoryResponse(category.getCategoryId().value(), category.getName()))
                 .toList();
+
+        return new CategoryPageResponse(responses, nextCursor);
     }
 
 }
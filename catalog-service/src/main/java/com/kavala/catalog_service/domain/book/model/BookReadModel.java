@@ -0,0 +1,37 @@
+package com.kavala.catalog_service.domain.book.model;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import com.kavala.catalog_service.domain.author.AuthorId;
+import com.kavala.catalog_service.domain.category.CategoryId;
+import com.kavala.catalog_service.domain.publisher.PublisherId;
+
+/**
+ * Kitabın sorgu tarafı için düzleştirilmiş (denormalize) görünümü.
+ * Kategori, yayınevi ve yazar adları önceden birleştirilmiş olarak tutulur;
+ * okuma tarafı join veya ek sorgu yapmadan cevap üretir.
+ */
+public record BookReadModel(
+        BookId bookId,
+        String title,
+        CategoryId categoryId,
+        String categoryName,
+        PublisherId publisherId,
+        String publisherName,
+        LocalDate publishedDate,
+        Integer pageCount,
+        String language,
+        String description,
+        List<AuthorEntry> authors,
+        Instant createdAt,
+        Instant updatedAt) {
+
+    public BookReadModel {
+        authors = List.copyOf(authors);
+    }
+
+    public record AuthorEntry(AuthorId authorId, String name) {
+    }
+}
@@ -0,0 +1,20 @@
+package com.kavala.catalog_service.domain.book.model;
+
+import java.util.List;
+
+import com.kavala.catalog_service.domain.book.model.BookReadModel.AuthorEntry;
+
+/**
+ * Kitabın yalnızca kimlik, başlık ve yazarlarından oluşan kompakt görünümü.
+ * Başka servislerin toplu zenginleştirme ihtiyacı için projeksiyonun bu
+ * kolonları okunur.
+ */
+public record BookSummary(
+        BookId bookId,
+        String title,
+        List<AuthorEntry> authors) {
+
+    public BookSummary {
+        authors = List.copyOf(authors);
+    }
+}
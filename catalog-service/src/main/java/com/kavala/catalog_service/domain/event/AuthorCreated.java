@@ -0,0 +1,9 @@
+package com.kavala.catalog_service.domain.event;
+
+import java.time.Instant;
+
+import com.kavala.catalog_service.domain.author.AuthorId;
+
+public record AuthorCreated(AuthorId authorId, String fullName, Instant createdAt) implements DomainEvent {
+
+}
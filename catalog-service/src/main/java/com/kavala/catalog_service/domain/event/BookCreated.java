@@ -12,6 +12,6 @@ import com.kavala.catalog_service.domain.publisher.PublisherId;
 public record BookCreated(BookId bookId, String title, CategoryId categoryId,
                 PublisherId publisherId, LocalDate publishedDate,
                 Integer pageCount, String language, String description,
-                List<AuthorId> authorIds, Instant createdAt) {
+                List<AuthorId> authorIds, Instant createdAt) implements DomainEvent {
 
 }
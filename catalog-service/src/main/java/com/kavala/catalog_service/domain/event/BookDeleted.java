@@ -2,6 +2,6 @@ package com.kavala.catalog_service.domain.event;
 
 import com.kavala.catalog_service.domain.book.model.BookId;
 
-public record BookDeleted(BookId bookId) {
+public record BookDeleted(BookId bookId) implements DomainEvent {
 
 }
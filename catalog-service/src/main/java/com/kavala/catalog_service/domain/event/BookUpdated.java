@@ -12,6 +12,6 @@ import com.kavala.catalog_service.domain.publisher.PublisherId;
 public record BookUpdated(BookId bookId, String newTitle, CategoryId newCategoryId,
                 PublisherId newPublisherId, LocalDate newPublishedDate,
                 Integer newPageCount, String newLanguage, String newDescription,
-                List<AuthorId> newAuthorIds, Instant updatedAt) {
+                List<AuthorId> newAuthorIds, Instant updatedAt) implements DomainEvent {
 
 }
@@ -0,0 +1,9 @@
+package com.kavala.catalog_service.domain.event;
+
+import java.time.Instant;
+
+import com.kavala.catalog_service.domain.category.CategoryId;
+
+public record CategoryCreated(CategoryId categoryId, String name, Instant createdAt) implements DomainEvent {
+
+}
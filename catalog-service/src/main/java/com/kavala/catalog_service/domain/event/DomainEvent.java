@@ -0,0 +1,9 @@
+package com.kavala.catalog_service.domain.event;
+
+/**
+ * Catalog domain event'leri için işaretçi (marker) arayüz.
+ * EventPublisher port'u üzerinden yayınlanan tüm event'ler bunu uygular.
+ */
+public interface DomainEvent {
+
+}
@@ -0,0 +1,9 @@
+package com.kavala.catalog_service.domain.event;
+
+import java.time.Instant;
+
+import com.kavala.catalog_service.domain.publisher.PublisherId;
+
+public record PublisherCreated(PublisherId publisherId, String name, Instant createdAt) implements DomainEvent {
+
+}
@@ -1,5 +1,6 @@
 package com.kavala.catalog_service.domain.port;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,6 +16,21 @@ public interface AuthorRepository {
 
     List<Author> findAll();
 
+    /**
+     * Yazarları (fullName, id) sırasıyla offset tabanlı sayfalı getirir.
+     * namePrefix verilirse yalnızca adı bu önekle başlayanlar döner
+     * (büyük/küçük harf duyarlı).
+     */
+    List<Author> findPageByName(String namePrefix, int page, int size);
+
+    /**
+     * (fullName, id) sırasıyla verilen konumdan sonraki yazarları getirir.
+     * Offset kullanmadığı için derin sayfalar da ilk sayfa kadar ucuzdur.
+     */
+    List<Author> findPageByNameAfter(String namePrefix, String afterName, AuthorId afterId, int size);
+
+    List<Author> findAllById(Collection<AuthorId> authorIds);
+
     void delete(Author author);
 
     boolean existsById(AuthorId authorId);
@@ -0,0 +1,46 @@
+package com.kavala.catalog_service.domain.port;
+
+import java.util.List;
+import java.util.Map;
+
+import com.kavala.catalog_service.domain.book.model.BookId;
+import com.kavala.catalog_service.domain.category.CategoryId;
+
+/**
+ * Kitap başına ödünç (checkout) sayısı üzerinden popülerlik sinyali.
+ *
+ * Kayıtlar önce bellekte biriktirilir ve periyodik olarak kalıcı hale
+ * getirilir; okumalar son yenilemedeki değişmez sıralamadan karşılanır.
+ */
+public interface BookPopularity {
+
+    /**
+     * Kitap için ödünç verilme sayısını artırır. Çağrı başına veritabanına
+     * gidilmez.
+     */
+    void recordCheckouts(BookId bookId, long count);
+
+    /**
+     * Kitabın katalogda olup olmadığını yanıtlar. Bellekte bilinen kitaplar
+     * için veritabanına gidilmez; bilinmeyenler (örneğin başka bir
+     * instance'ta eklenenler) veritabanından doğrulanır ve hatırlanır.
+     */
+    boolean isKnownBook(BookId bookId);
+
+    /**
+     * En çok ödünç verilen kitapları azalan sırayla döner.
+     *
+     * @param categoryId Kategori filtresi; null ise tüm katalog
+     * @param limit      Maksimum sonuç sayısı
+     */
+    List<PopularBook> top(CategoryId categoryId, int limit);
+
+    /**
+     * Son yenilemedeki ödünç sayıları. Dönen harita değişmezdir; bir sonraki
+     * yenilemeye kadar aynı kalır.
+     */
+    Map<BookId, Long> checkoutCounts();
+
+    record PopularBook(BookId bookId, long checkouts) {
+    }
+}
@@ -0,0 +1,25 @@
+package com.kavala.catalog_service.domain.port;
+
+import java.util.List;
+
+import com.kavala.catalog_service.domain.book.model.BookReadModel;
+
+/**
+ * Kitaplar üzerindeki salt-okunur filtreleme sorguları için port.
+ * Filtreler veri kaynağına itilir; dönen liste sonuç boyutuyla sınırlıdır.
+ */
+public interface BookQueryPort {
+
+    /**
+     * Verilen filtrelere uyan kitapları başlığa göre sıralı olarak getirir.
+     * Null veya boş filtreler yok sayılır, diğerleri AND ile birleştirilir.
+     *
+     * @param keyword      Başlık veya açıklamada aranacak kelime (opsiyonel)
+     * @param language     Dil (opsiyonel)
+     * @param minPageCount Minimum sayfa sayısı (opsiyonel)
+     * @param maxPageCount Maksimum sayfa sayısı (opsiyonel)
+     * @param limit        Döndürülecek maksimum kayıt sayısı
+     * @return Filtrelere uyan kitapların listesi
+     */
+    List<BookReadModel> search(String keyword, String language, Integer minPageCount, Integer maxPageCount, int limit);
+}
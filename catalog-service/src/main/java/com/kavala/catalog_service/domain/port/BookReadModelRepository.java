@@ -0,0 +1,67 @@
+package com.kavala.catalog_service.domain.port;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import com.kavala.catalog_service.domain.book.model.BookId;
+import com.kavala.catalog_service.domain.book.model.BookReadModel;
+import com.kavala.catalog_service.domain.book.model.BookSummary;
+
+/**
+ * book_read_model projeksiyonu için port.
+ * Yazma tarafı yalnızca projeksiyonu güncelleyen event dinleyicisidir;
+ * kitap sorguları okumalarını buradan yapar.
+ */
+public interface BookReadModelRepository {
+
+    void save(BookReadModel book);
+
+    /**
+     * Projeksiyonu olmadığı bilinen bir kitabı ekler. save'den farkı, önce
+     * mevcut satırı okumamasıdır.
+     */
+    void insert(BookReadModel book);
+
+    void deleteById(BookId bookId);
+
+    Optional<BookReadModel> findById(BookId bookId);
+
+    List<BookReadModel> findAllById(Collection<BookId> bookIds);
+
+    /**
+     * Verilen kitapların yalnızca id, başlık ve yazarlarını tek bir IN
+     * sorgusuyla okur. Bulunamayan id'ler sonuçta yer almaz.
+     */
+    List<BookSummary> findSummariesById(Collection<BookId> bookIds);
+
+    /**
+     * Kitabın yalnızca son güncellenme zamanını okur (koşullu GET için).
+     */
+    Optional<Instant> findUpdatedAtById(BookId bookId);
+
+    /**
+     * (createdAt, id) sırasıyla offset tabanlı bir sayfa getirir.
+     */
+    List<BookReadModel> findPage(int page, int size);
+
+    /**
+     * (createdAt, id) sırasıyla verilen konumdan sonraki kitapları getirir.
+     * Offset kullanmadığı için derin sayfalar da ilk sayfa kadar ucuzdur.
+     */
+    List<BookReadModel> findPageAfter(Instant createdAt, BookId bookId, int size);
+
+    /**
+     * Tüm projeksiyonu (createdAt, id) sırasıyla ileri yönlü bir cursor
+     * üzerinden akıtır. Aktif bir transaction içinde çağrılmalı ve stream
+     * kapatılmalıdır.
+     */
+    Stream<BookReadModel> streamAll();
+
+    /**
+     * books tablosunda olup henüz projeksiyonu oluşturulmamış kitapları döner.
+     */
+    List<BookId> findUnprojectedBookIds(int limit);
+}
@@ -1,5 +1,6 @@
 package com.kavala.catalog_service.domain.port;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -7,14 +8,31 @@ import com.kavala.catalog_service.domain.book.model.Book;
 import com.kavala.catalog_service.domain.book.model.BookId;
 
 public interface BookRepository {
+    /**
+     * Kitabı ekler. Referansların (Category, Publisher, Author) var olduğu
+     * çağıran tarafından doğrulanmış olmalıdır; adapter bunları tekrar okumaz.
+     */
     Book save(Book book);
 
+    /**
+     * Kitabı günceller. save ile aynı şekilde referanslar önceden
+     * doğrulanmış kabul edilir.
+     */
     Book update(Book book);
 
+    /**
+     * Kitapları toplu olarak ekler. Referansların (Category, Publisher,
+     * Author) var olduğu çağıran tarafından önceden doğrulanmış olmalıdır;
+     * kayıt başına lookup yapılmaz ve insert'ler JDBC batch ile gönderilir.
+     */
+    void saveAll(List<Book> books);
+
     Optional<Book> findById(BookId bookId);
 
     List<Book> findAll();
 
+    List<Book> findAllById(Collection<BookId> bookIds);
+
     void delete(Book book);
 
     boolean existsById(BookId bookId);
@@ -0,0 +1,52 @@
+package com.kavala.catalog_service.domain.port;
+
+import java.util.List;
+import java.util.Map;
+
+import com.kavala.catalog_service.domain.book.model.BookId;
+import com.kavala.catalog_service.domain.category.CategoryId;
+import com.kavala.catalog_service.domain.publisher.PublisherId;
+
+/**
+ * Kitaplar üzerinde tam metin (full-text) arama yapan okuma port'u.
+ * Sonuçlar ilgi skoruna (relevance) göre azalan sırada döner.
+ */
+public interface BookSearchIndex {
+
+    /**
+     * Başlık ve açıklamada anahtar kelimenin tüm terimlerini içeren kitapları
+     * arar. Diğer filtreler opsiyoneldir ve AND mantığı ile uygulanır.
+     * Facet sayıları istenirse, limit'ten bağımsız olarak tüm eşleşmeler
+     * üzerinden hesaplanır; istenmezse boş döner.
+     *
+     * @param keyword      Aranacak anahtar kelime
+     * @param language     Dil filtresi (opsiyonel)
+     * @param minPageCount Minimum sayfa sayısı (opsiyonel)
+     * @param maxPageCount Maksimum sayfa sayısı (opsiyonel)
+     * @param limit        Döndürülecek maksimum sonuç sayısı
+     * @param facets       Facet sayıları hesaplansın mı
+     * @return İlgi skoruna göre sıralı kitap ID'leri ve facet sayıları
+     */
+    SearchHits search(String keyword, String language, Integer minPageCount, Integer maxPageCount, int limit,
+            boolean facets);
+
+    /**
+     * Anahtar kelime olmadan, sadece filtrelere uyan kitaplar için facet
+     * sayılarını hesaplar.
+     */
+    FacetCounts facets(String language, Integer minPageCount, Integer maxPageCount);
+
+    record SearchHits(List<BookId> bookIds, FacetCounts facets) {
+    }
+
+    /**
+     * Facet değeri başına eşleşen kitap sayıları. Sayısı sıfır olan
+     * değerler yer almaz.
+     */
+    record FacetCounts(
+            Map<String, Long> languages,
+            Map<CategoryId, Long> categories,
+            Map<PublisherId, Long> publishers,
+            Map<String, Long> pageCountBuckets) {
+    }
+}
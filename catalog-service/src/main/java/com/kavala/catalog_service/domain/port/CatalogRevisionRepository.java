@@ -0,0 +1,19 @@
+package com.kavala.catalog_service.domain.port;
+
+/**
+ * Katalog genelindeki paylaşılan değişiklik sayacı için port.
+ * Sayaç veritabanında tutulur; tüm instance'lar aynı değeri görür.
+ */
+public interface CatalogRevisionRepository {
+
+    /**
+     * Güncel revizyonu döner; hiç artırılmamışsa 0.
+     */
+    long current();
+
+    /**
+     * Revizyonu bir artırır. Açık bir transaction varsa ona katılır ve
+     * onunla birlikte commit edilir veya geri alınır.
+     */
+    void increment();
+}
@@ -1,5 +1,6 @@
 package com.kavala.catalog_service.domain.port;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,6 +16,20 @@ public interface CategoryRepository {
 
     List<Category> findAll();
 
+    /**
+     * Kategorileri (name, id) sırasıyla offset tabanlı sayfalı getirir.
+     * namePrefix verilirse yalnızca adı bu önekle başlayanlar döner
+     * (büyük/küçük harf duyarlı).
+     */
+    List<Category> findPageByName(String namePrefix, int page, int size);
+
+    /**
+     * (name, id) sırasıyla verilen konumdan sonraki kategorileri getirir.
+     */
+    List<Category> findPageByNameAfter(String namePrefix, String afterName, CategoryId afterId, int size);
+
+    List<Category> findAllById(Collection<CategoryId> categoryIds);
+
     void delete(Category category);
 
     boolean existsById(CategoryId categoryId);
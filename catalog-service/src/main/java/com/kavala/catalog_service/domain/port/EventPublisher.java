@@ -0,0 +1,12 @@
+package com.kavala.catalog_service.domain.port;
+
+import com.kavala.catalog_service.domain.event.DomainEvent;
+
+/**
+ * Domain event'lerini yayınlamak için port.
+ * Yayınlama mekanizmasını (Spring event, mesaj kuyruğu vb.) domain'den gizler.
+ */
+public interface EventPublisher {
+
+    void publish(DomainEvent event);
+}
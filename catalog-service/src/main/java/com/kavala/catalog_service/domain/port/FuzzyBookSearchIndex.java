@@ -0,0 +1,25 @@
+package com.kavala.catalog_service.domain.port;
+
+import java.util.List;
+
+import com.kavala.catalog_service.domain.book.model.BookId;
+
+/**
+ * Yazım hatalarına toleranslı (fuzzy) kitap arama port'u.
+ * Başlık ve yazar adları üzerinde benzerlik araması yapar; sonuçlar
+ * benzerliğe göre azalan sırada döner.
+ */
+public interface FuzzyBookSearchIndex {
+
+    /**
+     * Benzerliği yapılandırılmış eşiğin üzerindeki en iyi eşleşmeleri döner.
+     *
+     * @param text         Kullanıcının yazdığı (muhtemelen hatalı) metin
+     * @param language     Dil filtresi (opsiyonel)
+     * @param minPageCount Minimum sayfa sayısı (opsiyonel)
+     * @param maxPageCount Maksimum sayfa sayısı (opsiyonel)
+     * @param limit        Döndürülecek maksimum sonuç sayısı
+     * @return Benzerliğe göre sıralı kitap ID'leri
+     */
+    List<BookId> search(String text, String language, Integer minPageCount, Integer maxPageCount, int limit);
+}
@@ -1,5 +1,6 @@
 package com.kavala.catalog_service.domain.port;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,6 +16,8 @@ public interface PublisherRepository {
 
     List<Publisher> findAll();
 
+    List<Publisher> findAllById(Collection<PublisherId> publisherIds);
+
     void delete(Publisher publisher);
 
     boolean existsById(PublisherId publisherId);
@@ -0,0 +1,29 @@
+package com.kavala.catalog_service.domain.port;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Kitap başlıkları ve yazar adları üzerinde önek (prefix) tabanlı
+ * otomatik tamamlama için port.
+ */
+public interface SuggestionIndex {
+
+    /**
+     * Verilen öneki içeren kelimeyle başlayan başlık ve yazar adlarından
+     * popülerliği en yüksek limit kadarını döner.
+     *
+     * @param prefix Kullanıcının yazdığı metin
+     * @param limit  Döndürülecek maksimum öneri sayısı
+     * @return Popülerliğe göre azalan sıralı öneriler
+     */
+    List<Suggestion> suggest(String prefix, int limit);
+
+    record Suggestion(Type type, UUID id, String text) {
+    }
+
+    enum Type {
+        BOOK,
+        AUTHOR
+    }
+}
@@ -0,0 +1,85 @@
+package com.kavala.catalog_service.infrastructure.adapter.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+import com.kavala.catalog_service.domain.author.Author;
+import com.kavala.catalog_service.domain.author.AuthorId;
+import com.kavala.catalog_service.domain.port.AuthorRepository;
+import com.kavala.catalog_service.infrastructure.adapter.persistence.adapter.AuthorRepositoryAdapter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * AuthorRepository port'u için ReferenceDataCache decorator'ı.
+ */
+@Primary
+@Repository
+public class CachingAuthorRepository implements AuthorRepository {
+
+    private final AuthorRepositoryAdapter delegate;
+    private final ReferenceDataCache<AuthorId, Author> cache;
+
+    public CachingAuthorRepository(AuthorRepositoryAdapter delegate, MeterRegistry meterRegistry,
+            @Value("${catalog.cache.reference-data.maximum-size:10000}") long maximumSize,
+            @Value("${catalog.cache.reference-data.expire-after-write:10m}") Duration expireAfterWrite) {
+        this.delegate = delegate;
+        this.cache = new ReferenceDataCache<>("authors", maximumSize, expireAfterWrite, meterRegistry);
+    }
+
+    @Override
+    public Author save(Author author) {
+        Author saved = delegate.save(author);
+        cache.put(saved.getAuthorId(), saved);
+        return saved;
+    }
+
+    @Override
+    public Author update(Author author) {
+        Author updated = delegate.update(author);
+        cache.put(updated.getAuthorId(), updated);
+        return updated;
+    }
+
+    @Override
+    public Optional<Author> findById(AuthorId authorId) {
+        return cache.find(authorId, delegate::findById);
+    }
+
+    @Override
+    public List<Author> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Author> findPageByName(String namePrefix, int page, int size) {
+        return delegate.findPageByName(namePrefix, page, size);
+    }
+
+    @Override
+    public List<Author> findPageByNameAfter(String namePrefix, String afterName, AuthorId afterId, int size) {
+        return delegate.findPageByNameAfter(namePrefix, afterName, afterId, size);
+    }
+
+    @Override
+    public List<Author> findAllById(Collection<AuthorId> authorIds) {
+        return cache.findAll(authorIds, delegate::findAllById, Author::getAuthorId);
+    }
+
+    @Override
+    public void delete(Author author) {
+        delegate.delete(author);
+        cache.invalidate(author.getAuthorId());
+    }
+
+    @Override
+    public boolean existsById(AuthorId authorId) {
+        return cache.contains(authorId) || delegate.existsById(authorId);
+    }
+}
@@ -0,0 +1,121 @@
+package com.kavala.catalog_service.infrastructure.adapter.cache;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+import com.kavala.catalog_service.domain.category.Category;
+import com.kavala.catalog_service.domain.category.CategoryId;
+import com.kavala.catalog_service.domain.port.CategoryRepository;
+import com.kavala.catalog_service.infrastructure.adapter.persistence.adapter.CategoryRepositoryAdapter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * CategoryRepository port'u için ReferenceDataCache decorator'ı.
+ *
+ * Listeleme (findAll ve ada göre sayfalar) tüm kategorilerin değişmez bir
+ * snapshot'ından karşılanır. Her değişiklik snapshot'ı hemen ve commit
+ * sonrasında tekrar düşürür; ilk okuma tek bir findAll ile yenisini kurar.
+ * Başka instance'lardaki değişiklikler için expireAfterWrite burada da üst
+ * sınırdır.
+ */
+@Primary
+@Repository
+public class CachingCategoryRepository implements CategoryRepository {
+
+    private final CategoryRepositoryAdapter delegate;
+    private final ReferenceDataCache<CategoryId, Category> cache;
+    private final Duration expireAfterWrite;
+    private final AtomicReference<CategorySnapshot> snapshot = new AtomicReference<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    public CachingCategoryRepository(CategoryRepositoryAdapter delegate, MeterRegistry meterRegistry,
+            @Value("${catalog.cache.reference-data.maximum-size:10000}") long maximumSize,
+            @Value("${catalog.cache.reference-data.expire-after-write:10m}") Duration expireAfterWrite) {
+        this.delegate = delegate;
+        this.cache = new ReferenceDataCache<>("categories", maximumSize, expireAfterWrite, meterRegistry);
+        this.expireAfterWrite = expireAfterWrite;
+    }
+
+    @Override
+    public Category save(Category category) {
+        Category saved = delegate.save(category);
+        cache.put(saved.getCategoryId(), saved);
+        invalidateSnapshot();
+        return saved;
+    }
+
+    @Override
+    public Category update(Category category) {
+        Category updated = delegate.update(category);
+        cache.put(updated.getCategoryId(), updated);
+        invalidateSnapshot();
+        return updated;
+    }
+
+    @Override
+    public Optional<Category> findById(CategoryId categoryId) {
+        return cache.find(categoryId, delegate::findById);
+    }
+
+    @Override
+    public List<Category> findAll() {
+        return snapshot().all();
+    }
+
+    @Override
+    public List<Category> findPageByName(String namePrefix, int page, int size) {
+        return snapshot().page(namePrefix, page, size);
+    }
+
+    @Override
+    public List<Category> findPageByNameAfter(String namePrefix, String afterName, CategoryId afterId, int size) {
+        return snapshot().pageAfter(namePrefix, afterName, afterId.value(), size);
+    }
+
+    @Override
+    public List<Category> findAllById(Collection<CategoryId> categoryIds) {
+        return cache.findAll(categoryIds, delegate::findAllById, Category::getCategoryId);
+    }
+
+    @Override
+    public void delete(Category category) {
+        delegate.delete(category);
+        cache.invalidate(category.getCategoryId());
+        invalidateSnapshot();
+    }
+
+    @Override
+    public boolean existsById(CategoryId categoryId) {
+        return cache.contains(categoryId) || delegate.existsById(categoryId);
+    }
+
+    private CategorySnapshot snapshot() {
+        // Nesil, yükleme başlamadan okunur; yükleme sırasında bir değişiklik
+        // olursa kurulan snapshot bir sonraki okumada eskimiş sayılır
+        long currentGeneration = generation.get();
+        CategorySnapshot current = snapshot.get();
+        if (current != null && current.generation() == currentGeneration
+                && current.builtAt().plus(expireAfterWrite).isAfter(Instant.now())) {
+            return current;
+        }
+        CategorySnapshot rebuilt = CategorySnapshot.of(delegate.findAll(), currentGeneration);
+        snapshot.set(rebuilt);
+        return rebuilt;
+    }
+
+    private void invalidateSnapshot() {
+        generation.incrementAndGet();
+        // Commit'ten önce kurulan bir snapshot yazmayı görmemiş olabilir
+        ReferenceDataCache.afterCommit(generation::incrementAndGet);
+    }
+}
@@ -0,0 +1,75 @@
+package com.kavala.catalog_service.infrastructure.adapter.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+import com.kavala.catalog_service.domain.publisher.Publisher;
+import com.kavala.catalog_service.domain.publisher.PublisherId;
+import com.kavala.catalog_service.domain.port.PublisherRepository;
+import com.kavala.catalog_service.infrastructure.adapter.persistence.adapter.PublisherRepositoryAdapter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * PublisherRepository port'u için ReferenceDataCache decorator'ı.
+ */
+@Primary
+@Repository
+public class CachingPublisherRepository implements PublisherRepository {
+
+    private final PublisherRepositoryAdapter delegate;
+    private final ReferenceDataCache<PublisherId, Publisher> cache;
+
+    public CachingPublisherRepository(PublisherRepositoryAdapter delegate, MeterRegistry meterRegistry,
+            @Value("${catalog.cache.reference-data.maximum-size:10000}") long maximumSize,
+            @Value("${catalog.cache.reference-data.expire-after-write:10m}") Duration expireAfterWrite) {
+        this.delegate = delegate;
+        this.cache = new ReferenceDataCache<>("publishers", maximumSize, expireAfterWrite, meterRegistry);
+    }
+
+    @Override
+    public Publisher save(Publisher publisher) {
+        Publisher saved = delegate.save(publisher);
+        cache.put(saved.getPublisherId(), saved);
+        return saved;
+    }
+
+    @Override
+    public Publisher update(Publisher publisher) {
+        Publisher updated = delegate.update(publisher);
+        cache.put(updated.getPublisherId(), updated);
+        return updated;
+    }
+
+    @Override
+    public Optional<Publisher> findById(PublisherId publisherId) {
+        return cache.find(publisherId, delegate::findById);
+    }
+
+    @Override
+    public List<Publisher> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Publisher> findAllById(Collection<PublisherId> publisherIds) {
+        return cache.findAll(publisherIds, delegate::findAllById, Publisher::getPublisherId);
+    }
+
+    @Override
+    public void delete(Publisher publisher) {
+        delegate.delete(publisher);
+        cache.invalidate(publisher.getPublisherId());
+    }
+
+    @Override
+    public boolean existsById(PublisherId publisherId) {
+        return cache.contains(publisherId) || delegate.existsById(publisherId);
+    }
+}
@@ -0,0 +1,121 @@
+package com.kavala.catalog_service.infrastructure.adapter.cache;
+
+import java.text.CollationKey;
+import java.text.Collator;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+import com.kavala.catalog_service.domain.category.Category;
+
+/**
+ * Tüm kategorilerin (name, id) sırasıyla dizilmiş değişmez bir kopyası.
+ *
+ * Adlar Türkçe Collator ile sıralanır: Ç, Ğ, İ, Ö, Ş ve Ü, String.compareTo'da
+ * olduğu gibi Z'den sonraya değil, alfabedeki yerlerine düşer. Bu sıra,
+ * Türkçe collation ile çalışan veritabanında yazarların sıralamasıyla
+ * aynıdır. Her adın CollationKey'i kurulumda bir kez hesaplanır.
+ *
+ * Sayfa ve cursor okumaları liste üzerinde ikili arama ile yapılır;
+ * veritabanına gidilmez. Collation büyük/küçük harfi birincil düzeyde
+ * ayırmadığı için önekle başlayan adlar sıralı listede ardışık olmayabilir;
+ * önek filtresi bu yüzden listeyi doğrusal olarak süzer, kategori sayısı
+ * küçüktür. Değişiklikte yerinde güncellenmez, yenisi kurulur.
+ * id'ler metin olarak karşılaştırılır; bu PostgreSQL'in uuid sıralamasıyla
+ * aynıdır.
+ */
+final class CategorySnapshot {
+
+    private static final Collator COLLATOR = Collator.getInstance(Locale.forLanguageTag("tr"));
+
+    private final List<Entry> entries;
+    private final List<Category> categories;
+    private final long generation;
+    private final Instant builtAt;
+
+    private CategorySnapshot(List<Entry> entries, long generation, Instant builtAt) {
+        this.entries = entries;
+        this.categories = entries.stream().map(Entry::category).toList();
+        this.generation = generation;
+        this.builtAt = builtAt;
+    }
+
+    static CategorySnapshot of(Collection<Category> categories, long generation) {
+        List<Entry> entries = categories.stream()
+                .map(category -> new Entry(category, COLLATOR.getCollationKey(category.getName()),
+                        category.getCategoryId().value().toString()))
+                .sorted(Comparator.comparing(Entry::nameKey).thenComparing(Entry::idKey))
+                .toList();
+        return new CategorySnapshot(entries, generation, Instant.now());
+    }
+
+    List<Category> all() {
+        return categories;
+    }
+
+    long generation() {
+        return generation;
+    }
+
+    Instant builtAt() {
+        return builtAt;
+    }
+
+    List<Category> page(String namePrefix, int page, int size) {
+        return slice(matching(namePrefix), (long) page * size, size);
+    }
+
+    List<Category> pageAfter(String namePrefix, String afterName, UUID afterId, int size) {
+        CollationKey afterKey = COLLATOR.getCollationKey(afterName);
+        String afterIdKey = afterId.toString();
+        List<Entry> matching = matching(namePrefix);
+        int start = firstIndex(matching, entry -> {
+            int byName = entry.nameKey().compareTo(afterKey);
+            return byName > 0 || (byName == 0 && entry.idKey().compareTo(afterIdKey) > 0);
+        });
+        return slice(matching, start, size);
+    }
+
+    private List<Entry> matching(String namePrefix) {
+        if (namePrefix == null) {
+            return entries;
+        }
+        return entries.stream()
+                .filter(entry -> entry.category().getName().startsWith(namePrefix))
+                .toList();
+    }
+
+    private static List<Category> slice(List<Entry> entries, long offset, int size) {
+        if (offset >= entries.size()) {
+            return List.of();
+        }
+        int from = (int) offset;
+        int to = (int) Math.min(offset + size, entries.size());
+        return entries.subList(from, to).stream().map(Entry::category).toList();
+    }
+
+    /**
+     * Koşulu sağlayan ilk elemanın indeksi; koşul sıralamaya göre monoton
+     * (önce hep false, sonra hep true) olmalıdır.
+     */
+    private static int firstIndex(List<Entry> entries, Predicate<Entry> condition) {
+        int low = 0;
+        int high = entries.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (condition.test(entries.get(mid))) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    private record Entry(Category category, CollationKey nameKey, String idKey) {
+    }
+}
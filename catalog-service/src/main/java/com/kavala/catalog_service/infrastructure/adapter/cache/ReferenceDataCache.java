@@ -0,0 +1,104 @@
+package com.kavala.catalog_service.infrastructure.adapter.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Nadiren değişen referans verisi (Category, Publisher, Author) için boyutu
+ * sınırlı Caffeine cache'i. Repository decorator'ları kitap cevaplarının
+ * zenginleştirilmesindeki okumaları buradan karşılar; save/update cache'e
+ * yazılır (write-through), delete ilgili kaydı cache'ten düşürür.
+ *
+ * Yazmalar cache'e çevreleyen transaction commit edildikten sonra yansır:
+ * kayıt hemen düşürülür, yeni değer commit sonrasında konur. Geri alınan
+ * bir yazma cache'te iz bırakmaz; sonraki okuma veritabanından yükler.
+ *
+ * Tahliye (eviction) Caffeine'in W-TinyLFU politikası ile yapılır. Hit, miss
+ * ve eviction istatistikleri Micrometer'a bağlanır; actuator üzerinden
+ * "cache.gets", "cache.evictions" gibi metriklerle "cache" tag'i ile okunur.
+ * Cache instance'a özeldir; expireAfterWrite, başka bir instance'ta yapılan
+ * değişikliklerin görünmesi için üst sınırdır.
+ */
+class ReferenceDataCache<K, V> {
+
+    private final Cache<K, V> cache;
+
+    ReferenceDataCache(String name, long maximumSize, Duration expireAfterWrite, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+    }
+
+    /**
+     * Tekil kaydı cache'ten döner; yoksa loader ile yükleyip cache'e koyar.
+     * Bulunamayan kayıtlar cache'lenmez.
+     */
+    Optional<V> find(K key, Function<K, Optional<V>> loader) {
+        V cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<V> loaded = loader.apply(key);
+        loaded.ifPresent(value -> cache.put(key, value));
+        return loaded;
+    }
+
+    /**
+     * Birden fazla kaydı döner. Cache'te olmayanlar bulkLoader ile tek seferde
+     * yüklenir.
+     */
+    List<V> findAll(Collection<K> keys, Function<Collection<K>, List<V>> bulkLoader, Function<V, K> keyExtractor) {
+        Map<K, V> found = cache.getAll(keys, missingKeys -> bulkLoader.apply(List.copyOf(missingKeys)).stream()
+                .collect(Collectors.toMap(keyExtractor, Function.identity())));
+        return List.copyOf(found.values());
+    }
+
+    boolean contains(K key) {
+        return cache.getIfPresent(key) != null;
+    }
+
+    void put(K key, V value) {
+        cache.invalidate(key);
+        afterCommit(() -> cache.put(key, value));
+    }
+
+    void invalidate(K key) {
+        cache.invalidate(key);
+        afterCommit(() -> cache.invalidate(key));
+    }
+
+    /**
+     * Aktif bir transaction varsa action'ı commit sonrasına erteler, yoksa
+     * hemen çalıştırır.
+     */
+    static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,26 @@
+package com.kavala.catalog_service.infrastructure.adapter.event;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import com.kavala.catalog_service.domain.event.DomainEvent;
+import com.kavala.catalog_service.domain.port.EventPublisher;
+
+/**
+ * EventPublisher port'unun Spring ApplicationEventPublisher ile implementasyonu.
+ * Event'ler aynı süreç içindeki @EventListener'lara senkron olarak iletilir.
+ */
+@Component
+public class SpringEventPublisher implements EventPublisher {
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    public SpringEventPublisher(ApplicationEventPublisher applicationEventPublisher) {
+        this.applicationEventPublisher = applicationEventPublisher;
+    }
+
+    @Override
+    public void publish(DomainEvent event) {
+        applicationEventPublisher.publishEvent(event);
+    }
+}
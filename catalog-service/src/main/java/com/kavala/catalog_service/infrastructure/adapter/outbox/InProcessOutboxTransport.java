@@ -0,0 +1,36 @@
+package com.kavala.catalog_service.infrastructure.adapter.outbox;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Varsayılan transport: mesajları aynı süreçteki dinleyicilere
+ * OutboxMessage event'i olarak iletir. Gerçek bir broker veya webhook
+ * yapılandırılana kadar yerine geçen (stand-in) implementasyondur.
+ */
+@Component
+@ConditionalOnProperty(name = "catalog.outbox.transport", havingValue = "in-process", matchIfMissing = true)
+public class InProcessOutboxTransport implements OutboxTransport {
+
+    private static final Logger log = LoggerFactory.getLogger(InProcessOutboxTransport.class);
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    public InProcessOutboxTransport(ApplicationEventPublisher applicationEventPublisher) {
+        this.applicationEventPublisher = applicationEventPublisher;
+    }
+
+    @Override
+    public void send(List<OutboxMessage> messages) {
+        for (OutboxMessage message : messages) {
+            log.debug("Relaying outbox message {} {} for {}", message.sequence(), message.eventType(),
+                    message.aggregateId());
+            applicationEventPublisher.publishEvent(message);
+        }
+    }
+}
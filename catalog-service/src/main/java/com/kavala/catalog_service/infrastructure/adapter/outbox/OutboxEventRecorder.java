@@ -0,0 +1,109 @@
+package com.kavala.catalog_service.infrastructure.adapter.outbox;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.kavala.catalog_service.domain.author.AuthorId;
+import com.kavala.catalog_service.domain.event.BookCreated;
+import com.kavala.catalog_service.domain.event.BookDeleted;
+import com.kavala.catalog_service.domain.event.BookUpdated;
+import com.kavala.catalog_service.infrastructure.adapter.persistence.entity.JpaOutboxEventEntity;
+import com.kavala.catalog_service.infrastructure.adapter.persistence.repo.SpringDataOutboxEventJpaRepository;
+
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Kitap event'lerini outbox tablosuna yazar.
+ *
+ * Dinleyici senkron çalışır ve MANDATORY propagation ile komutun
+ * transaction'ına katılır: outbox kaydı, kitabı kaydeden/güncelleyen/silen
+ * yazma ile birlikte commit edilir veya birlikte geri alınır. Böylece
+ * yayınlanan her event gerçekten kalıcı olmuş bir değişikliğe karşılık gelir.
+ *
+ * Outbox id'leri sequence'ten önceden ayrılan bloklarla üretilir ve commit
+ * sırasını izlemez; aynı kitabın eşzamanlı iki güncellemesi ters sırada
+ * gönderilebilir. Bu yüzden payload'lar değişikliğin zamanını taşır ve
+ * alıcılar last-writer-wins uygulamalıdır: bir kitap için elindekinden daha
+ * eski updatedAt/deletedAt taşıyan mesajı yok saymalıdır.
+ */
+@Component
+public class OutboxEventRecorder {
+
+    static final String BOOK_CREATED = "BookCreated";
+    static final String BOOK_UPDATED = "BookUpdated";
+    static final String BOOK_DELETED = "BookDeleted";
+
+    private final SpringDataOutboxEventJpaRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+
+    public OutboxEventRecorder(SpringDataOutboxEventJpaRepository outboxRepository, ObjectMapper objectMapper) {
+        this.outboxRepository = outboxRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void on(BookCreated event) {
+        BookPayload payload = new BookPayload(event.bookId().value(), event.title(), event.categoryId().value(),
+                event.publisherId().value(), event.publishedDate(), event.pageCount(), event.language(),
+                event.description(), authorIds(event.authorIds()), event.createdAt());
+        record(BOOK_CREATED, event.bookId().value(), payload, event.createdAt());
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void on(BookUpdated event) {
+        BookPayload payload = new BookPayload(event.bookId().value(), event.newTitle(),
+                event.newCategoryId().value(), event.newPublisherId().value(), event.newPublishedDate(),
+                event.newPageCount(), event.newLanguage(), event.newDescription(),
+                authorIds(event.newAuthorIds()), event.updatedAt());
+        record(BOOK_UPDATED, event.bookId().value(), payload, event.updatedAt());
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void on(BookDeleted event) {
+        Instant deletedAt = Instant.now();
+        record(BOOK_DELETED, event.bookId().value(), new BookDeletedPayload(event.bookId().value(), deletedAt),
+                deletedAt);
+    }
+
+    private void record(String eventType, UUID aggregateId, Object payload, Instant occurredAt) {
+        String json = objectMapper.writeValueAsString(payload);
+        outboxRepository.save(new JpaOutboxEventEntity(eventType, aggregateId, json, occurredAt));
+    }
+
+    private static List<UUID> authorIds(List<AuthorId> authorIds) {
+        return authorIds.stream().map(AuthorId::value).toList();
+    }
+
+    /**
+     * Dış servislere giden sözleşme; domain ID tipleri yerine düz UUID
+     * kullanır ki alıcılar catalog'un sınıflarına bağımlı olmasın.
+     * updatedAt, bu durumun oluştuğu andır (oluşturmada createdAt).
+     */
+    record BookPayload(
+            UUID bookId,
+            String title,
+            UUID categoryId,
+            UUID publisherId,
+            LocalDate publishedDate,
+            Integer pageCount,
+            String language,
+            String description,
+            List<UUID> authorIds,
+            Instant updatedAt) {
+
+    }
+
+    record BookDeletedPayload(UUID bookId, Instant deletedAt) {
+
+    }
+}
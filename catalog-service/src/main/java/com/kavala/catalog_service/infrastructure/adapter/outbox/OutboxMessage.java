@@ -0,0 +1,21 @@
+package com.kavala.catalog_service.infrastructure.adapter.outbox;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+/**
+ * Transport'a teslim edilen outbox kaydı.
+ * sequence, aynı katalog için monoton artan gönderim sırasıdır; alıcılar
+ * tekrar eden teslimatları (at-least-once) bununla ayıklayabilir.
+ * payload zaten JSON olduğundan olduğu gibi (escape edilmeden) yazılır.
+ */
+public record OutboxMessage(
+        long sequence,
+        String eventType,
+        UUID aggregateId,
+        @JsonRawValue String payload,
+        Instant occurredAt) {
+
+}
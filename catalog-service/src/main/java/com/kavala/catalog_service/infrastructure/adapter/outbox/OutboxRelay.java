@@ -0,0 +1,142 @@
+package com.kavala.catalog_service.infrastructure.adapter.outbox;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.kavala.catalog_service.infrastructure.adapter.persistence.entity.JpaOutboxEventEntity;
+import com.kavala.catalog_service.infrastructure.adapter.persistence.repo.SpringDataOutboxEventJpaRepository;
+
+/**
+ * Outbox'taki yayınlanmamış kayıtları batch'ler halinde transport'a gönderir.
+ *
+ * Her tur, gönderime hazır en eski kayıtları SKIP LOCKED ile kilitleyip tek
+ * bir transaction içinde gönderir ve published_at alanını işaretler
+ * (at-least-once teslimat). Aynı aggregate'in kayıtları sırayla gönderilir;
+ * aggregate'ler arasında sıra garanti edilmez.
+ *
+ * Transport hata verirse batch'teki kayıtlar üstel artan bir süre
+ * (backoff-initial, her denemede iki katı, en fazla backoff-max) beklemeye
+ * alınır. max-attempts denemeden sonra kayıt park edilir; park edilen
+ * kayıtlar gönderilmez ve silinmez, elle incelenmek üzere tabloda kalır.
+ * Park edilen kayıt aggregate'inin sonraki kayıtlarını da bekletir. Uzun bir
+ * transport kesintisi kayıtları park etse bile sonraki durumlar onların önüne
+ * geçmez; parked_at ve attempts sıfırlandığında aggregate kaldığı yerden
+ * sırayla devam eder.
+ * Yayınlanmış kayıtlar retention süresi dolunca silinir.
+ */
+@Component
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final SpringDataOutboxEventJpaRepository outboxRepository;
+    private final OutboxTransport transport;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Duration retention;
+    private final int maxAttempts;
+    private final Duration backoffInitial;
+    private final Duration backoffMax;
+
+    public OutboxRelay(SpringDataOutboxEventJpaRepository outboxRepository, OutboxTransport transport,
+            PlatformTransactionManager transactionManager,
+            @Value("${catalog.outbox.batch-size:200}") int batchSize,
+            @Value("${catalog.outbox.max-batches-per-run:50}") int maxBatchesPerRun,
+            @Value("${catalog.outbox.retention:P7D}") Duration retention,
+            @Value("${catalog.outbox.max-attempts:10}") int maxAttempts,
+            @Value("${catalog.outbox.backoff-initial:PT1S}") Duration backoffInitial,
+            @Value("${catalog.outbox.backoff-max:PT10M}") Duration backoffMax) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("catalog.outbox.batch-size must be positive");
+        }
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("catalog.outbox.max-attempts must be positive");
+        }
+        this.outboxRepository = outboxRepository;
+        this.transport = transport;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.retention = retention;
+        this.maxAttempts = maxAttempts;
+        this.backoffInitial = backoffInitial;
+        this.backoffMax = backoffMax;
+    }
+
+    @Scheduled(fixedDelayString = "${catalog.outbox.relay-interval:PT1S}")
+    public void relay() {
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            Integer sent = transactionTemplate.execute(status -> relayBatch());
+            if (sent == null || sent < batchSize) {
+                return;
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${catalog.outbox.purge-interval:PT1H}")
+    public void purge() {
+        Instant cutoff = Instant.now().minus(retention);
+        Integer deleted = transactionTemplate.execute(status -> outboxRepository.deletePublishedBefore(cutoff));
+        if (deleted != null && deleted > 0) {
+            log.debug("Purged {} published outbox events older than {}", deleted, cutoff);
+        }
+    }
+
+    /**
+     * Bir batch gönderir; gönderilen kayıt sayısını döner. Hata durumunda
+     * 0 döner ki bu tur daha fazla denemeden sonlansın.
+     */
+    private int relayBatch() {
+        List<JpaOutboxEventEntity> events = outboxRepository.lockReady(Instant.now(), PageRequest.of(0, batchSize));
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        List<OutboxMessage> messages = events.stream()
+                .map(event -> new OutboxMessage(event.getId(), event.getEventType(), event.getAggregateId(),
+                        event.getPayload(), event.getOccurredAt()))
+                .toList();
+
+        try {
+            transport.send(messages);
+        } catch (RuntimeException e) {
+            log.warn("Outbox relay failed for {} events starting at {}: {}", events.size(),
+                    events.get(0).getId(), e.getMessage());
+            Instant now = Instant.now();
+            for (JpaOutboxEventEntity event : events) {
+                event.markFailed(e.getMessage(), now.plus(backoff(event.getAttempts() + 1)));
+                if (event.getAttempts() >= maxAttempts) {
+                    event.park(now);
+                    log.error("Parked outbox event {} ({} for {}) after {} attempts: {}", event.getId(),
+                            event.getEventType(), event.getAggregateId(), event.getAttempts(), event.getLastError());
+                }
+            }
+            return 0;
+        }
+
+        Instant now = Instant.now();
+        events.forEach(event -> event.markPublished(now));
+        return events.size();
+    }
+
+    /**
+     * n. başarısız denemeden sonraki bekleme: backoffInitial * 2^(n-1),
+     * en fazla backoffMax.
+     */
+    private Duration backoff(int attempts) {
+        int shift = Math.min(attempts - 1, 30);
+        Duration delay = backoffInitial.multipliedBy(1L << shift);
+        return delay.compareTo(backoffMax) > 0 ? backoffMax : delay;
+    }
+}
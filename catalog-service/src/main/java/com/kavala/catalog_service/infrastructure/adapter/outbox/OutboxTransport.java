@@ -0,0 +1,13 @@
+package com.kavala.catalog_service.infrastructure.adapter.outbox;
+
+import java.util.List;
+
+/**
+ * Outbox kayıtlarını dış dünyaya taşıyan transport.
+ * Bir batch'in tamamı başarıyla teslim edilmeden metot normal dönmemelidir;
+ * hata fırlatılırsa batch daha sonra tekrar denenir.
+ */
+public interface OutboxTransport {
+
+    void send(List<OutboxMessage> messages);
+}
@@ -0,0 +1,43 @@
+package com.kavala.catalog_service.infrastructure.adapter.outbox;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+/**
+ * Mesajları yapılandırılan her webhook adresine tek bir JSON dizisi olarak
+ * POST eder. Herhangi bir alıcı hata dönerse batch başarısız sayılır ve
+ * tekrar gönderilir; alıcılar sequence ile tekrarları ayıklamalıdır.
+ */
+@Component
+@ConditionalOnProperty(name = "catalog.outbox.transport", havingValue = "webhook")
+public class WebhookOutboxTransport implements OutboxTransport {
+
+    private final RestClient restClient;
+    private final List<String> webhookUrls;
+
+    public WebhookOutboxTransport(RestClient.Builder restClientBuilder,
+            @Value("${catalog.outbox.webhook.urls:}") List<String> webhookUrls) {
+        if (webhookUrls.isEmpty()) {
+            throw new IllegalArgumentException("catalog.outbox.webhook.urls must not be empty");
+        }
+        this.restClient = restClientBuilder.build();
+        this.webhookUrls = List.copyOf(webhookUrls);
+    }
+
+    @Override
+    public void send(List<OutboxMessage> messages) {
+        for (String url : webhookUrls) {
+            restClient.post()
+                    .uri(url)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(messages)
+                    .retrieve()
+                    .toBodilessEntity();
+        }
+    }
+}
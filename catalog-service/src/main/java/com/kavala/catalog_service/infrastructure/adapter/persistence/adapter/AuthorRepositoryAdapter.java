@@ -1,9 +1,12 @@
 package com.kavala.catalog_service.infrastructure.adapter.persistence.adapter;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 
 import com.kavala.catalog_service.domain.author.Author;
@@ -56,6 +59,32 @@ public class AuthorRepositoryAdapter implements AuthorRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<Author> findPageByName(String namePrefix, int page, int size) {
+        NamePrefix prefix = NamePrefix.of(namePrefix);
+        return jpaRepository.findPageByName(prefix.from(), prefix.to(), prefix.pattern(),
+                PageRequest.of(page, size)).stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Author> findPageByNameAfter(String namePrefix, String afterName, AuthorId afterId, int size) {
+        NamePrefix prefix = NamePrefix.of(namePrefix);
+        return jpaRepository.findPageByNameAfter(afterName, afterId.value(), prefix.to(), prefix.pattern(),
+                PageRequest.ofSize(size)).stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Author> findAllById(Collection<AuthorId> authorIds) {
+        List<UUID> ids = authorIds.stream().map(AuthorId::value).toList();
+        return jpaRepository.findAllById(ids).stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public void delete(Author author) {
         jpaRepository.deleteById(author.getAuthorId().value());
@@ -0,0 +1,118 @@
+package com.kavala.catalog_service.infrastructure.adapter.persistence.adapter;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+
+import jakarta.persistence.EntityManager;
+
+import com.kavala.catalog_service.domain.book.model.BookId;
+import com.kavala.catalog_service.domain.book.model.BookReadModel;
+import com.kavala.catalog_service.domain.book.model.BookSummary;
+import com.kavala.catalog_service.domain.port.BookReadModelRepository;
+import com.kavala.catalog_service.infrastructure.adapter.persistence.mapper.BookReadModelMapper;
+import com.kavala.catalog_service.infrastructure.adapter.persistence.repo.SpringDataBookReadModelJpaRepository;
+
+/**
+ * BookReadModelRepository port'unun implementasyonu.
+ * Tüm okumalar book_read_model tablosuna tek satır veya tek aralık
+ * taraması olarak gider; normalize tablolara join yapılmaz.
+ */
+@Repository
+public class BookReadModelRepositoryAdapter implements BookReadModelRepository {
+
+    private final SpringDataBookReadModelJpaRepository jpaRepository;
+    private final BookReadModelMapper mapper;
+    private final EntityManager entityManager;
+
+    public BookReadModelRepositoryAdapter(SpringDataBookReadModelJpaRepository jpaRepository,
+            BookReadModelMapper mapper, EntityManager entityManager) {
+        this.jpaRepository = jpaRepository;
+        this.mapper = mapper;
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public void save(BookReadModel book) {
+        jpaRepository.save(mapper.toEntity(book));
+    }
+
+    /**
+     * Atanmış id'li entity'de save bir merge'tür ve önce SELECT atar;
+     * persist doğrudan INSERT üretir.
+     */
+    @Override
+    public void insert(BookReadModel book) {
+        entityManager.persist(mapper.toEntity(book));
+    }
+
+    @Override
+    public void deleteById(BookId bookId) {
+        jpaRepository.deleteById(bookId.value());
+    }
+
+    @Override
+    public Optional<BookReadModel> findById(BookId bookId) {
+        return jpaRepository.findById(bookId.value())
+                .map(mapper::toDomain);
+    }
+
+    @Override
+    public List<BookReadModel> findAllById(Collection<BookId> bookIds) {
+        List<UUID> ids = bookIds.stream().map(BookId::value).toList();
+        return jpaRepository.findAllById(ids).stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<BookSummary> findSummariesById(Collection<BookId> bookIds) {
+        List<UUID> ids = bookIds.stream().map(BookId::value).toList();
+        return jpaRepository.findSummariesByIdIn(ids).stream()
+                .map(mapper::toSummary)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Optional<Instant> findUpdatedAtById(BookId bookId) {
+        return jpaRepository.findUpdatedAtById(bookId.value());
+    }
+
+    @Override
+    public List<BookReadModel> findPage(int page, int size) {
+        return jpaRepository.findPage(PageRequest.of(page, size)).stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<BookReadModel> findPageAfter(Instant createdAt, BookId bookId, int size) {
+        return jpaRepository.findPageAfter(createdAt, bookId.value(), PageRequest.ofSize(size)).stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Stream<BookReadModel> streamAll() {
+        // Okunan her entity persistence context'ten ayrılır; uzun akışlarda heap sabit kalır
+        return jpaRepository.streamAll()
+                .map(entity -> {
+                    entityManager.detach(entity);
+                    return mapper.toDomain(entity);
+                });
+    }
+
+    @Override
+    public List<BookId> findUnprojectedBookIds(int limit) {
+        return jpaRepository.findUnprojectedBookIds(PageRequest.ofSize(limit)).stream()
+                .map(BookId::of)
+                .collect(Collectors.toList());
+    }
+}
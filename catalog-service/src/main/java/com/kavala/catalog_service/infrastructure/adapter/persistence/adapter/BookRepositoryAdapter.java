@@ -1,16 +1,19 @@
 package com.kavala.catalog_service.infrastructure.adapter.persistence.adapter;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.EntityManager;
+
 import com.kavala.catalog_service.domain.author.AuthorId;
 import com.kavala.catalog_service.domain.book.model.Book;
 import com.kavala.catalog_service.domain.book.model.BookId;
 import com.kavala.catalog_service.domain.port.BookRepository;
-import com.kavala.catalog_service.infrastructure.adapter.persistence.entity.JpaAuthorEntity;
 import com.kavala.catalog_service.infrastructure.adapter.persistence.entity.JpaBookEntity;
 import com.kavala.catalog_service.infrastructure.adapter.persistence.entity.JpaCategoryEntity;
 import com.kavala.catalog_service.infrastructure.adapter.persistence.entity.JpaPublisherEntity;
@@ -35,47 +38,57 @@ public class BookRepositoryAdapter implements BookRepository {
     private final SpringDataPublisherJpaRepository publisherJpaRepository;
     private final SpringDataAuthorJpaRepository authorJpaRepository;
     private final BookMapper mapper;
+    private final EntityManager entityManager;
 
     public BookRepositoryAdapter(
             SpringDataBookJpaRepository bookJpaRepository,
             SpringDataCategoryJpaRepository categoryJpaRepository,
             SpringDataPublisherJpaRepository publisherJpaRepository,
             SpringDataAuthorJpaRepository authorJpaRepository,
-            BookMapper mapper) {
+            BookMapper mapper,
+            EntityManager entityManager) {
         this.bookJpaRepository = bookJpaRepository;
         this.categoryJpaRepository = categoryJpaRepository;
         this.publisherJpaRepository = publisherJpaRepository;
         this.authorJpaRepository = authorJpaRepository;
         this.mapper = mapper;
+        this.entityManager = entityManager;
     }
 
     @Override
     public Book save(Book book) {
-        // Category ve Publisher entity'lerini çek
-        JpaCategoryEntity category = categoryJpaRepository
-                .findById(book.getCategoryId().value())
-                .orElseThrow(() -> new IllegalArgumentException(
-                        "Category not found: " + book.getCategoryId().value()));
+        // Referanslar komut tarafında doğrulandı; getReferenceById SELECT atmadan proxy döner
+        JpaBookEntity bookEntity = mapper.toEntity(book,
+                categoryJpaRepository.getReferenceById(book.getCategoryId().value()),
+                publisherJpaRepository.getReferenceById(book.getPublisherId().value()));
 
-        JpaPublisherEntity publisher = publisherJpaRepository
-                .findById(book.getPublisherId().value())
-                .orElseThrow(() -> new IllegalArgumentException(
-                        "Publisher not found: " + book.getPublisherId().value()));
+        for (AuthorId authorId : book.getAuthorIds()) {
+            bookEntity.addAuthor(authorJpaRepository.getReferenceById(authorId.value()));
+        }
 
-        // Book entity oluştur
-        JpaBookEntity bookEntity = mapper.toEntity(book, category, publisher);
+        // ID atanmış olduğu için save() merge'e, o da fazladan bir SELECT'e düşerdi
+        entityManager.persist(bookEntity);
+        return mapper.toDomain(bookEntity);
+    }
 
-        // Author ilişkilerini ekle
-        for (AuthorId authorId : book.getAuthorIds()) {
-            JpaAuthorEntity author = authorJpaRepository
-                    .findById(authorId.value())
-                    .orElseThrow(() -> new IllegalArgumentException(
-                            "Author not found: " + authorId.value()));
-            bookEntity.addAuthor(author);
+    @Override
+    public void saveAll(List<Book> books) {
+        for (Book book : books) {
+            // Referanslar doğrulanmış kabul edilir; getReferenceById SELECT atmadan proxy döner
+            JpaBookEntity bookEntity = mapper.toEntity(book,
+                    categoryJpaRepository.getReferenceById(book.getCategoryId().value()),
+                    publisherJpaRepository.getReferenceById(book.getPublisherId().value()));
+            for (AuthorId authorId : book.getAuthorIds()) {
+                bookEntity.addAuthor(authorJpaRepository.getReferenceById(authorId.value()));
+            }
+
+            // ID atanmış olduğu için save() merge'e, o da kayıt başına SELECT'e düşerdi
+            entityManager.persist(bookEntity);
         }
 
-        JpaBookEntity savedEntity = bookJpaRepository.save(bookEntity);
-        return mapper.toDomain(savedEntity);
+        // books ve book_authors insert'leri hibernate.jdbc.batch_size kadar gruplanarak gönderilir
+        entityManager.flush();
+        entityManager.clear();
     }
 
     @Override
@@ -86,29 +99,16 @@ public class BookRepositoryAdapter implements BookRepository {
                 .orElseThrow(() -> new IllegalArgumentException(
                         "Book not found: " + book.getId().value()));
 
-        // Category ve Publisher entity'lerini çek
-        JpaCategoryEntity category = categoryJpaRepository
-                .findById(book.getCategoryId().value())
-                .orElseThrow(() -> new IllegalArgumentException(
-                        "Category not found: " + book.getCategoryId().value()));
-
-        JpaPublisherEntity publisher = publisherJpaRepository
-                .findById(book.getPublisherId().value())
-                .orElseThrow(() -> new IllegalArgumentException(
-                        "Publisher not found: " + book.getPublisherId().value()));
+        // Referanslar komut tarafında doğrulandı; tekrar okunmaz
+        JpaCategoryEntity category = categoryJpaRepository.getReferenceById(book.getCategoryId().value());
+        JpaPublisherEntity publisher = publisherJpaRepository.getReferenceById(book.getPublisherId().value());
 
         // Entity'yi güncelle
         mapper.updateEntity(existingEntity, book, category, publisher);
 
-        // Author ilişkilerini güncelle
-        existingEntity.clearAuthors();
-        for (AuthorId authorId : book.getAuthorIds()) {
-            JpaAuthorEntity author = authorJpaRepository
-                    .findById(authorId.value())
-                    .orElseThrow(() -> new IllegalArgumentException(
-                            "Author not found: " + authorId.value()));
-            existingEntity.addAuthor(author);
-        }
+        // Author ilişkilerini yalnızca değişen bağlantılar için güncelle
+        existingEntity.syncAuthors(book.getAuthorIds().stream().map(AuthorId::value).toList(),
+                authorJpaRepository::getReferenceById);
 
         JpaBookEntity savedEntity = bookJpaRepository.save(existingEntity);
         return mapper.toDomain(savedEntity);
@@ -127,6 +127,14 @@ public class BookRepositoryAdapter implements BookRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<Book> findAllById(Collection<BookId> bookIds) {
+        List<UUID> ids = bookIds.stream().map(BookId::value).toList();
+        return bookJpaRepository.findAllById(ids).stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public void delete(Book book) {
         bookJpaRepository.deleteById(book.getId().value());
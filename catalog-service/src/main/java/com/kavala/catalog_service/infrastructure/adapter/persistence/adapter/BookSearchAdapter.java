@@ -3,12 +3,22 @@ package com.kavala.catalog_service.infrastructure.adapter.persistence.adapter;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.kavala.catalog_service.domain.book.model.Book;
-import com.kavala.catalog_service.infrastructure.adapter.persistence.entity.JpaBookEntity;
+import com.kavala.catalog_service.domain.book.model.BookReadModel;
+import com.kavala.catalog_service.domain.port.BookQueryPort;
 import com.kavala.catalog_service.infrastructure.adapter.persistence.mapper.BookMapper;
+import com.kavala.catalog_service.infrastructure.adapter.persistence.mapper.BookReadModelMapper;
+import com.kavala.catalog_service.infrastructure.adapter.persistence.repo.BookSpecifications;
 import com.kavala.catalog_service.infrastructure.adapter.persistence.repo.SpringDataBookJpaRepository;
+import com.kavala.catalog_service.infrastructure.adapter.persistence.repo.SpringDataBookReadModelJpaRepository;
+
+import jakarta.persistence.EntityManager;
 
 /**
  * Kitap arama işlemlerini yöneten adapter.
@@ -16,14 +26,38 @@ import com.kavala.catalog_service.infrastructure.adapter.persistence.repo.Spring
  * İleride Elasticsearch gibi bir arama motoru ile değiştirilebilir.
  */
 @Component
-public class BookSearchAdapter {
+public class BookSearchAdapter implements BookQueryPort {
 
     private final SpringDataBookJpaRepository jpaRepository;
     private final BookMapper mapper;
+    private final SpringDataBookReadModelJpaRepository readModelRepository;
+    private final BookReadModelMapper readModelMapper;
+    private final EntityManager entityManager;
 
-    public BookSearchAdapter(SpringDataBookJpaRepository jpaRepository, BookMapper mapper) {
+    public BookSearchAdapter(SpringDataBookJpaRepository jpaRepository, BookMapper mapper,
+            SpringDataBookReadModelJpaRepository readModelRepository, BookReadModelMapper readModelMapper,
+            EntityManager entityManager) {
         this.jpaRepository = jpaRepository;
         this.mapper = mapper;
+        this.readModelRepository = readModelRepository;
+        this.readModelMapper = readModelMapper;
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Dil filtresinin kullandığı ifade indeksini yoksa oluşturur. Filtre
+     * lower(language) ile karşılaştırdığı için düz (language, page_count)
+     * indeksi kullanılamaz; JPA ise ifade indeksi tanımlayamadığından DDL
+     * burada çalıştırılır. Hiçbir sorgunun kullanmadığı eski düz indeks
+     * kaldırılır.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void ensureSchema() {
+        entityManager.createNativeQuery("DROP INDEX IF EXISTS idx_book_read_model_language_page_count")
+                .executeUpdate();
+        entityManager.createNativeQuery("CREATE INDEX IF NOT EXISTS idx_book_read_model_lower_language_page_count"
+                + " ON book_read_model (lower(language), page_count)").executeUpdate();
     }
 
     /**
@@ -75,50 +109,26 @@ public class BookSearchAdapter {
 
     /**
      * Çoklu filtreleme ile kitap arar.
-     * Tüm filtreler AND mantığı ile uygulanır.
+     * Tüm filtreler AND mantığı ile tek bir WHERE cümlesinde veritabanına
+     * itilir ve sonuç LIMIT ile sınırlanır; katalog belleğe yüklenmez.
+     * Sorgu book_read_model üzerinde çalışır, referanslar için join gerekmez.
      * 
      * @param keyword      Anahtar kelime (opsiyonel)
      * @param language     Dil (opsiyonel)
      * @param minPageCount Minimum sayfa sayısı (opsiyonel)
      * @param maxPageCount Maksimum sayfa sayısı (opsiyonel)
+     * @param limit        Maksimum sonuç sayısı
      * @return Filtrelere uyan kitapların listesi
      */
-    public List<Book> search(String keyword, String language, Integer minPageCount, Integer maxPageCount) {
-        List<JpaBookEntity> results = jpaRepository.findAll();
-
-        // Keyword filtresi
-        if (keyword != null && !keyword.isBlank()) {
-            String lowerKeyword = keyword.toLowerCase();
-            results = results.stream()
-                    .filter(book -> book.getTitle().toLowerCase().contains(lowerKeyword) ||
-                            (book.getDescription() != null &&
-                                    book.getDescription().toLowerCase().contains(lowerKeyword)))
-                    .collect(Collectors.toList());
-        }
-
-        // Language filtresi
-        if (language != null && !language.isBlank()) {
-            results = results.stream()
-                    .filter(book -> book.getLanguage().equalsIgnoreCase(language))
-                    .collect(Collectors.toList());
-        }
-
-        // Min page count filtresi
-        if (minPageCount != null) {
-            results = results.stream()
-                    .filter(book -> book.getPageCount() >= minPageCount)
-                    .collect(Collectors.toList());
-        }
-
-        // Max page count filtresi
-        if (maxPageCount != null) {
-            results = results.stream()
-                    .filter(book -> book.getPageCount() <= maxPageCount)
-                    .collect(Collectors.toList());
-        }
-
-        return results.stream()
-                .map(mapper::toDomain)
+    @Override
+    @Transactional(readOnly = true)
+    public List<BookReadModel> search(String keyword, String language, Integer minPageCount,
+            Integer maxPageCount, int limit) {
+        return readModelRepository.findBy(
+                BookSpecifications.matching(keyword, language, minPageCount, maxPageCount),
+                query -> query.sortBy(Sort.by("title")).limit(limit).all())
+                .stream()
+                .map(readModelMapper::toDomain)
                 .collect(Collectors.toList());
     }
 }
@@ -0,0 +1,29 @@
+package com.kavala.catalog_service.infrastructure.adapter.persistence.adapter;
+
+import org.springframework.stereotype.Repository;
+
+import com.kavala.catalog_service.domain.port.CatalogRevisionRepository;
+import com.kavala.catalog_service.infrastructure.adapter.persistence.repo.SpringDataCatalogRevisionJpaRepository;
+
+/**
+ * CatalogRevisionRepository port'unun implementasyonu.
+ */
+@Repository
+public class CatalogRevisionRepositoryAdapter implements CatalogRevisionRepository {
+
+    private final SpringDataCatalogRevisionJpaRepository jpaRepository;
+
+    public CatalogRevisionRepositoryAdapter(SpringDataCatalogRevisionJpaRepository jpaRepository) {
+        this.jpaRepository = jpaRepository;
+    }
+
+    @Override
+    public long current() {
+        return jpaRepository.findVersion().orElse(0L);
+    }
+
+    @Override
+    public void increment() {
+        jpaRepository.increment();
+    }
+}
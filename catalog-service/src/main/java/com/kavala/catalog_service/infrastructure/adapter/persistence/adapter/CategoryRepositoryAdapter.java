@@ -1,9 +1,12 @@
 package com.kavala.catalog_service.infrastructure.adapter.persistence.adapter;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 
 import com.kavala.catalog_service.domain.category.Category;
@@ -56,6 +59,32 @@ public class CategoryRepositoryAdapter implements CategoryRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<Category> findPageByName(String namePrefix, int page, int size) {
+        NamePrefix prefix = NamePrefix.of(namePrefix);
+        return jpaRepository.findPageByName(prefix.from(), prefix.to(), prefix.pattern(),
+                PageRequest.of(page, size)).stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Category> findPageByNameAfter(String namePrefix, String afterName, CategoryId afterId, int size) {
+        NamePrefix prefix = NamePrefix.of(namePrefix);
+        return jpaRepository.findPageByNameAfter(afterName, afterId.value(), prefix.to(), prefix.pattern(),
+                PageRequest.ofSize(size)).stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Category> findAllById(Collection<CategoryId> categoryIds) {
+        List<UUID> ids = categoryIds.stream().map(CategoryId::value).toList();
+        return jpaRepository.findAllById(ids).stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public void delete(Category category) {
         jpaRepository.deleteById(category.getCategoryId().value());
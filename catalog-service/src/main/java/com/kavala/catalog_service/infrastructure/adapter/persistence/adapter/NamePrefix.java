@@ -0,0 +1,33 @@
+package com.kavala.catalog_service.infrastructure.adapter.persistence.adapter;
+
+/**
+ * Ada göre önek filtresinin sorgu parametreleri.
+ *
+ * Önekteki LIKE joker karakterleri kaçışlanır; önek yoksa desen her adla
+ * eşleşir ve alt sınır boş metindir.
+ *
+ * [from, to) aralığı taramayı index üzerinde önekle başlayan adlarla
+ * sınırlar; to, öneke U+FFFF eklenerek bulunur. U+FFFF karakter olarak
+ * kullanılmaz ve sıralamada her karakterden sonra gelir. LIKE deseni,
+ * aralığın sınırında kalan adlar için asıl filtredir.
+ */
+record NamePrefix(String from, String to, String pattern) {
+
+    private static final char ESCAPE = '\\';
+    private static final char MAX_CHAR = '\uffff';
+
+    static NamePrefix of(String prefix) {
+        if (prefix == null || prefix.isEmpty()) {
+            return new NamePrefix("", String.valueOf(MAX_CHAR), "%");
+        }
+        StringBuilder pattern = new StringBuilder(prefix.length() + 1);
+        for (int i = 0; i < prefix.length(); i++) {
+            char c = prefix.charAt(i);
+            if (c == '%' || c == '_' || c == ESCAPE) {
+                pattern.append(ESCAPE);
+            }
+            pattern.append(c);
+        }
+        return new NamePrefix(prefix, prefix + MAX_CHAR, pattern.append('%').toString());
+    }
+}
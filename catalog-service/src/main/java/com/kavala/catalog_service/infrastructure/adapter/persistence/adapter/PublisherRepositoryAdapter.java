@@ -1,7 +1,9 @@
 package com.kavala.catalog_service.infrastructure.adapter.persistence.adapter;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Repository;
@@ -56,6 +58,14 @@ public class PublisherRepositoryAdapter implements PublisherRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<Publisher> findAllById(Collection<PublisherId> publisherIds) {
+        List<UUID> ids = publisherIds.stream().map(PublisherId::value).toList();
+        return jpaRepository.findAllById(ids).stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public void delete(Publisher publisher) {
         jpaRepository.deleteById(publisher.getPublisherId().value());
@@ -7,6 +7,7 @@ import java.util.UUID;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 
 /**
@@ -14,7 +15,9 @@ import jakarta.persistence.Table;
  * Veritabanı ile domain model arasında köprü görevi görür.
  */
 @Entity
-@Table(name = "authors")
+@Table(name = "authors", indexes = {
+        @Index(name = "idx_authors_full_name_id", columnList = "full_name, id")
+})
 public class JpaAuthorEntity {
 
     @Id
@@ -3,8 +3,15 @@ package com.kavala.catalog_service.infrastructure.adapter.persistence.entity;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.hibernate.annotations.BatchSize;
 
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
@@ -52,7 +59,9 @@ public class JpaBookEntity {
     @Column(name = "description", length = 500)
     private String description;
 
+    // Bir sayfa kitabın yazar ilişkileri kitap başına değil, IN sorgusuyla toplu yüklenir
     @OneToMany(mappedBy = "book", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
+    @BatchSize(size = 100)
     private List<JpaBookAuthorEntity> bookAuthors = new ArrayList<>();
 
     @Column(name = "created_at", nullable = false, updatable = false)
@@ -94,6 +103,33 @@ public class JpaBookEntity {
         bookAuthors.clear();
     }
 
+    /**
+     * Yazar ilişkilerini verilen ID kümesine fark (diff) alarak eşitler.
+     * Yalnızca kaldırılan bağlantılar silinir (orphanRemoval) ve yalnızca
+     * yeni eklenenler insert edilir; küme değişmemişse koleksiyona hiç
+     * dokunulmaz ve book_authors için hiçbir SQL üretilmez.
+     *
+     * @param authorIds      istenen yazar ID'leri
+     * @param authorResolver ID'den (tercihen SELECT atmayan) author referansı üretir
+     */
+    public void syncAuthors(Collection<UUID> authorIds, Function<UUID, JpaAuthorEntity> authorResolver) {
+        Set<UUID> desired = new LinkedHashSet<>(authorIds);
+        Set<UUID> current = bookAuthors.stream()
+                .map(bookAuthor -> bookAuthor.getId().getAuthorId())
+                .collect(Collectors.toSet());
+
+        if (current.equals(desired)) {
+            return;
+        }
+
+        bookAuthors.removeIf(bookAuthor -> !desired.contains(bookAuthor.getId().getAuthorId()));
+        for (UUID authorId : desired) {
+            if (!current.contains(authorId)) {
+                addAuthor(authorResolver.apply(authorId));
+            }
+        }
+    }
+
     // Getters and Setters
     public UUID getId() {
         return id;
@@ -0,0 +1,44 @@
+package com.kavala.catalog_service.infrastructure.adapter.persistence.entity;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Kitap başına kalıcı ödünç sayacı.
+ * Satırlar yalnızca toplu upsert ile artırılır; entity okuma içindir.
+ */
+@Entity
+@Table(name = "book_popularity")
+public class JpaBookPopularityEntity {
+
+    @Id
+    @Column(name = "book_id", nullable = false, updatable = false)
+    private UUID bookId;
+
+    @Column(name = "checkout_count", nullable = false)
+    private long checkoutCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    protected JpaBookPopularityEntity() {
+        // JPA için gerekli
+    }
+
+    public UUID getBookId() {
+        return bookId;
+    }
+
+    public long getCheckoutCount() {
+        return checkoutCount;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+}
@@ -0,0 +1,152 @@
+package com.kavala.catalog_service.infrastructure.adapter.persistence.entity;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/**
+ * BookReadModel projeksiyonunun JPA karşılığı.
+ * Kategori, yayınevi ve yazar adları kolon olarak tutulur; bir kitabın tüm
+ * okuma cevabı tek bir satırdan üretilir. Yazarlar sıralı iki paralel
+ * dizi (id ve ad) olarak saklanır.
+ */
+@Entity
+@Table(name = "book_read_model", indexes = {
+        @Index(name = "idx_book_read_model_created_at_id", columnList = "created_at, id")
+})
+public class JpaBookReadModelEntity {
+
+    @Id
+    @Column(name = "id", nullable = false, updatable = false)
+    private UUID id;
+
+    @Column(name = "title", nullable = false, length = 255)
+    private String title;
+
+    @Column(name = "category_id", nullable = false)
+    private UUID categoryId;
+
+    @Column(name = "category_name", nullable = false, length = 255)
+    private String categoryName;
+
+    @Column(name = "publisher_id", nullable = false)
+    private UUID publisherId;
+
+    @Column(name = "publisher_name", nullable = false, length = 255)
+    private String publisherName;
+
+    @Column(name = "published_date", nullable = false)
+    private LocalDate publishedDate;
+
+    @Column(name = "page_count", nullable = false)
+    private Integer pageCount;
+
+    @Column(name = "language", nullable = false, length = 50)
+    private String language;
+
+    @Column(name = "description", length = 500)
+    private String description;
+
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "author_ids", nullable = false)
+    private UUID[] authorIds;
+
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "author_names", nullable = false)
+    private String[] authorNames;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    protected JpaBookReadModelEntity() {
+        // JPA için gerekli
+    }
+
+    public JpaBookReadModelEntity(UUID id, String title, UUID categoryId, String categoryName,
+            UUID publisherId, String publisherName, LocalDate publishedDate, Integer pageCount,
+            String language, String description, UUID[] authorIds, String[] authorNames,
+            Instant createdAt, Instant updatedAt) {
+        this.id = id;
+        this.title = title;
+        this.categoryId = categoryId;
+        this.categoryName = categoryName;
+        this.publisherId = publisherId;
+        this.publisherName = publisherName;
+        this.publishedDate = publishedDate;
+        this.pageCount = pageCount;
+        this.language = language;
+        this.description = description;
+        this.authorIds = authorIds;
+        this.authorNames = authorNames;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public UUID getCategoryId() {
+        return categoryId;
+    }
+
+    public String getCategoryName() {
+        return categoryName;
+    }
+
+    public UUID getPublisherId() {
+        return publisherId;
+    }
+
+    public String getPublisherName() {
+        return publisherName;
+    }
+
+    public LocalDate getPublishedDate() {
+        return publishedDate;
+    }
+
+    public Integer getPageCount() {
+        return pageCount;
+    }
+
+    public String getLanguage() {
+        return language;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public UUID[] getAuthorIds() {
+        return authorIds;
+    }
+
+    public String[] getAuthorNames() {
+        return authorNames;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+}
@@ -0,0 +1,36 @@
+package com.kavala.catalog_service.infrastructure.adapter.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Katalog revizyonunu tutan tek satırlık tablo.
+ * Satır yalnızca native upsert ile artırılır; entity şema tanımı içindir.
+ */
+@Entity
+@Table(name = "catalog_revision")
+public class JpaCatalogRevisionEntity {
+
+    public static final short SINGLETON_ID = 1;
+
+    @Id
+    @Column(name = "id", nullable = false, updatable = false)
+    private short id;
+
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    protected JpaCatalogRevisionEntity() {
+        // JPA için gerekli
+    }
+
+    public short getId() {
+        return id;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+}
@@ -6,6 +6,7 @@ import java.util.UUID;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 
 /**
@@ -13,7 +14,9 @@ import jakarta.persistence.Table;
  * Veritabanı ile domain model arasında köprü görevi görür.
  */
 @Entity
-@Table(name = "categories")
+@Table(name = "categories", indexes = {
+        @Index(name = "idx_categories_name_id", columnList = "name, id")
+})
 public class JpaCategoryEntity {
 
     @Id
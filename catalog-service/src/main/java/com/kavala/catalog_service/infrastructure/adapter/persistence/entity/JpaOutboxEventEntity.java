@@ -0,0 +1,140 @@
+package com.kavala.catalog_service.infrastructure.adapter.persistence.entity;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+
+/**
+ * Transactional outbox kaydı.
+ * Domain event'i, onu üreten yazma ile aynı transaction'da bu tabloya
+ * yazılır; relay daha sonra yayınlanmamış kayıtları sırayla gönderir.
+ * Sequence ile üretilen id, aynı aggregate içinde gönderim sırasını
+ * belirler; id'ler bloklarla ayrıldığı için commit sırasını garanti etmez,
+ * alıcılar payload'daki zamana göre last-writer-wins uygular.
+ *
+ * Gönderilemeyen kayıt next_attempt_at'e kadar beklemeye alınır; deneme
+ * hakkı biten kayıt parked_at ile park edilir ve bir daha gönderilmez;
+ * park edilen kayıt, aggregate'inin sonraki kayıtlarını da bekletir.
+ */
+@Entity
+@Table(name = "catalog_outbox", indexes = {
+        @Index(name = "idx_catalog_outbox_published_at_id", columnList = "published_at, id"),
+        @Index(name = "idx_catalog_outbox_aggregate_id_id", columnList = "aggregate_id, id")
+})
+public class JpaOutboxEventEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "catalog_outbox_seq")
+    @SequenceGenerator(name = "catalog_outbox_seq", sequenceName = "catalog_outbox_seq", allocationSize = 50)
+    @Column(name = "id", nullable = false, updatable = false)
+    private Long id;
+
+    @Column(name = "event_type", nullable = false, updatable = false, length = 100)
+    private String eventType;
+
+    @Column(name = "aggregate_id", nullable = false, updatable = false)
+    private UUID aggregateId;
+
+    @Column(name = "payload", nullable = false, updatable = false, columnDefinition = "text")
+    private String payload;
+
+    @Column(name = "occurred_at", nullable = false, updatable = false)
+    private Instant occurredAt;
+
+    @Column(name = "published_at")
+    private Instant publishedAt;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "next_attempt_at")
+    private Instant nextAttemptAt;
+
+    @Column(name = "parked_at")
+    private Instant parkedAt;
+
+    protected JpaOutboxEventEntity() {
+        // JPA için gerekli
+    }
+
+    public JpaOutboxEventEntity(String eventType, UUID aggregateId, String payload, Instant occurredAt) {
+        this.eventType = eventType;
+        this.aggregateId = aggregateId;
+        this.payload = payload;
+        this.occurredAt = occurredAt;
+    }
+
+    public void markPublished(Instant publishedAt) {
+        this.publishedAt = publishedAt;
+        this.lastError = null;
+        this.nextAttemptAt = null;
+    }
+
+    /**
+     * Başarısız denemeyi kaydeder; kayıt nextAttemptAt'e kadar gönderilmez.
+     */
+    public void markFailed(String error, Instant nextAttemptAt) {
+        this.attempts++;
+        this.lastError = error == null || error.length() <= 1000 ? error : error.substring(0, 1000);
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    /**
+     * Kaydı kalıcı olarak gönderim dışı bırakır (dead letter).
+     */
+    public void park(Instant parkedAt) {
+        this.parkedAt = parkedAt;
+        this.nextAttemptAt = null;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public UUID getAggregateId() {
+        return aggregateId;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public Instant getOccurredAt() {
+        return occurredAt;
+    }
+
+    public Instant getPublishedAt() {
+        return publishedAt;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public Instant getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public Instant getParkedAt() {
+        return parkedAt;
+    }
+}
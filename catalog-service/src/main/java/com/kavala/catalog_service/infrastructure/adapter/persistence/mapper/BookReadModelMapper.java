@@ -0,0 +1,85 @@
+package com.kavala.catalog_service.infrastructure.adapter.persistence.mapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+
+import com.kavala.catalog_service.domain.author.AuthorId;
+import com.kavala.catalog_service.domain.book.model.BookId;
+import com.kavala.catalog_service.domain.book.model.BookReadModel;
+import com.kavala.catalog_service.domain.book.model.BookReadModel.AuthorEntry;
+import com.kavala.catalog_service.domain.book.model.BookSummary;
+import com.kavala.catalog_service.domain.category.CategoryId;
+import com.kavala.catalog_service.domain.publisher.PublisherId;
+import com.kavala.catalog_service.infrastructure.adapter.persistence.entity.JpaBookReadModelEntity;
+import com.kavala.catalog_service.infrastructure.adapter.persistence.repo.BookSummaryProjection;
+
+/**
+ * BookReadModel ile JPA entity arasında dönüşüm yapar.
+ * Yazar listesi entity tarafında paralel id/ad dizilerine açılır.
+ */
+@Component
+public class BookReadModelMapper {
+
+    public JpaBookReadModelEntity toEntity(BookReadModel book) {
+        List<AuthorEntry> authors = book.authors();
+        UUID[] authorIds = new UUID[authors.size()];
+        String[] authorNames = new String[authors.size()];
+        for (int i = 0; i < authors.size(); i++) {
+            authorIds[i] = authors.get(i).authorId().value();
+            authorNames[i] = authors.get(i).name();
+        }
+
+        return new JpaBookReadModelEntity(
+                book.bookId().value(),
+                book.title(),
+                book.categoryId().value(),
+                book.categoryName(),
+                book.publisherId().value(),
+                book.publisherName(),
+                book.publishedDate(),
+                book.pageCount(),
+                book.language(),
+                book.description(),
+                authorIds,
+                authorNames,
+                book.createdAt(),
+                book.updatedAt());
+    }
+
+    public BookReadModel toDomain(JpaBookReadModelEntity entity) {
+        List<AuthorEntry> authors = authors(entity.getAuthorIds(), entity.getAuthorNames());
+
+        return new BookReadModel(
+                BookId.of(entity.getId()),
+                entity.getTitle(),
+                CategoryId.of(entity.getCategoryId()),
+                entity.getCategoryName(),
+                PublisherId.of(entity.getPublisherId()),
+                entity.getPublisherName(),
+                entity.getPublishedDate(),
+                entity.getPageCount(),
+                entity.getLanguage(),
+                entity.getDescription(),
+                authors,
+                entity.getCreatedAt(),
+                entity.getUpdatedAt());
+    }
+
+    public BookSummary toSummary(BookSummaryProjection projection) {
+        return new BookSummary(
+                BookId.of(projection.getId()),
+                projection.getTitle(),
+                authors(projection.getAuthorIds(), projection.getAuthorNames()));
+    }
+
+    private static List<AuthorEntry> authors(UUID[] authorIds, String[] authorNames) {
+        List<AuthorEntry> authors = new ArrayList<>(authorIds.length);
+        for (int i = 0; i < authorIds.length; i++) {
+            authors.add(new AuthorEntry(AuthorId.of(authorIds[i]), authorNames[i]));
+        }
+        return authors;
+    }
+}
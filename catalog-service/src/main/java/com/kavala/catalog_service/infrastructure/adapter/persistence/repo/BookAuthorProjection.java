@@ -0,0 +1,13 @@
+package com.kavala.catalog_service.infrastructure.adapter.persistence.repo;
+
+import java.util.UUID;
+
+/**
+ * book_authors satırının sadece (bookId, authorId) ikilisini taşıyan projection.
+ */
+public interface BookAuthorProjection {
+
+    UUID getBookId();
+
+    UUID getAuthorId();
+}
@@ -0,0 +1,13 @@
+package com.kavala.catalog_service.infrastructure.adapter.persistence.repo;
+
+import java.util.UUID;
+
+/**
+ * Upsert sonrasında bir kitabın güncel toplam ödünç sayısı.
+ */
+public interface BookPopularityProjection {
+
+    UUID getBookId();
+
+    long getCheckoutCount();
+}
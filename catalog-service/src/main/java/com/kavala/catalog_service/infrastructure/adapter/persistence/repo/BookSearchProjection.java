@@ -0,0 +1,24 @@
+package com.kavala.catalog_service.infrastructure.adapter.persistence.repo;
+
+import java.util.UUID;
+
+/**
+ * Arama indeksini beslemek için kitap satırının sadece gerekli kolonlarını
+ * taşıyan projection. Author ilişkisi ve entity yönetimi yükü olmadan okunur.
+ */
+public interface BookSearchProjection {
+
+    UUID getId();
+
+    String getTitle();
+
+    UUID getCategoryId();
+
+    UUID getPublisherId();
+
+    String getDescription();
+
+    String getLanguage();
+
+    Integer getPageCount();
+}
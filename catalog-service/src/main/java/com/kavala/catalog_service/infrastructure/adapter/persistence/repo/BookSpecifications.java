@@ -0,0 +1,67 @@
+package com.kavala.catalog_service.infrastructure.adapter.persistence.repo;
+
+import java.util.Locale;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.kavala.catalog_service.infrastructure.adapter.persistence.entity.JpaBookReadModelEntity;
+
+/**
+ * JpaBookReadModelEntity için birleştirilebilir (composable) Criteria Specification'ları.
+ * Null veya boş filtreler koşul üretmez; tüm filtreler tek bir WHERE
+ * cümlesinde AND ile birleşir.
+ */
+public final class BookSpecifications {
+
+    private BookSpecifications() {
+    }
+
+    public static Specification<JpaBookReadModelEntity> matching(String keyword, String language,
+            Integer minPageCount, Integer maxPageCount) {
+        Specification<JpaBookReadModelEntity> specification = (root, query, cb) -> cb.conjunction();
+
+        if (keyword != null && !keyword.isBlank()) {
+            specification = specification.and(titleOrDescriptionContains(keyword));
+        }
+        if (language != null && !language.isBlank()) {
+            specification = specification.and(hasLanguage(language));
+        }
+        if (minPageCount != null) {
+            specification = specification.and(pageCountAtLeast(minPageCount));
+        }
+        if (maxPageCount != null) {
+            specification = specification.and(pageCountAtMost(maxPageCount));
+        }
+        return specification;
+    }
+
+    public static Specification<JpaBookReadModelEntity> titleOrDescriptionContains(String keyword) {
+        String pattern = "%" + escapeLike(keyword.toLowerCase()) + "%";
+        return (root, query, cb) -> cb.or(
+                cb.like(cb.lower(root.get("title")), pattern, '\\'),
+                cb.like(cb.lower(root.get("description")), pattern, '\\'));
+    }
+
+    /**
+     * Dil büyük/küçük harf duyarsız karşılaştırılır; read model'de dil
+     * kaydedildiği haliyle durur, facet'ler ise küçük harfli değer üretir.
+     * Filtreyi (lower(language), page_count) ifade indeksi karşılar
+     * (bkz. BookSearchAdapter#ensureSchema).
+     */
+    public static Specification<JpaBookReadModelEntity> hasLanguage(String language) {
+        String normalized = language.toLowerCase(Locale.ROOT);
+        return (root, query, cb) -> cb.equal(cb.lower(root.get("language")), normalized);
+    }
+
+    public static Specification<JpaBookReadModelEntity> pageCountAtLeast(int minPageCount) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("pageCount"), minPageCount);
+    }
+
+    public static Specification<JpaBookReadModelEntity> pageCountAtMost(int maxPageCount) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("pageCount"), maxPageCount);
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,18 @@
+package com.kavala.catalog_service.infrastructure.adapter.persistence.repo;
+
+import java.util.UUID;
+
+/**
+ * book_read_model satırının kompakt görünümü için projection. Açıklama,
+ * kategori ve yayınevi kolonları okunmaz.
+ */
+public interface BookSummaryProjection {
+
+    UUID getId();
+
+    String getTitle();
+
+    UUID[] getAuthorIds();
+
+    String[] getAuthorNames();
+}
@@ -1,8 +1,12 @@
 package com.kavala.catalog_service.infrastructure.adapter.persistence.repo;
 
+import java.util.List;
 import java.util.UUID;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.kavala.catalog_service.infrastructure.adapter.persistence.entity.JpaAuthorEntity;
@@ -14,4 +18,24 @@ import com.kavala.catalog_service.infrastructure.adapter.persistence.entity.JpaA
 @Repository
 public interface SpringDataAuthorJpaRepository extends JpaRepository<JpaAuthorEntity, UUID> {
 
+    /**
+     * Adı [from, to) aralığında ve pattern'e uyan yazarları (fullName, id)
+     * sırasıyla getirir. Aralık, önek aramasında taramayı
+     * idx_authors_full_name_id üzerinde önekle başlayan adlarla sınırlar.
+     * List dönüş tipi sayesinde ek bir count sorgusu çalışmaz.
+     */
+    @Query("SELECT a FROM JpaAuthorEntity a WHERE a.fullName >= :from AND a.fullName < :to "
+            + "AND a.fullName LIKE :pattern ESCAPE '\\' "
+            + "ORDER BY a.fullName, a.id")
+    List<JpaAuthorEntity> findPageByName(@Param("from") String from, @Param("to") String to,
+            @Param("pattern") String pattern, Pageable pageable);
+
+    /**
+     * Keyset (seek) sayfalama: verilen (fullName, id) konumundan sonraki, to'dan
+     * küçük ve pattern'e uyan yazarları getirir.
+     */
+    @Query("SELECT a FROM JpaAuthorEntity a WHERE (a.fullName, a.id) > (:afterName, :afterId) AND a.fullName < :to "
+            + "AND a.fullName LIKE :pattern ESCAPE '\\' ORDER BY a.fullName, a.id")
+    List<JpaAuthorEntity> findPageByNameAfter(@Param("afterName") String afterName, @Param("afterId") UUID afterId,
+            @Param("to") String to, @Param("pattern") String pattern, Pageable pageable);
 }
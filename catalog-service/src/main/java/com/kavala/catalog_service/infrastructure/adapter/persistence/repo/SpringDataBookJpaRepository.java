@@ -2,8 +2,10 @@ package com.kavala.catalog_service.infrastructure.adapter.persistence.repo;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -14,9 +16,12 @@ import com.kavala.catalog_service.infrastructure.adapter.persistence.entity.JpaB
  * Book için Spring Data JPA repository.
  * Temel CRUD işlemlerini JpaRepository'den miras alır.
  * Ayrıca arama ve filtreleme için özel query'ler içerir.
+ * Dinamik filtreler BookSpecifications ile JpaSpecificationExecutor
+ * üzerinden çalıştırılır.
  */
 @Repository
-public interface SpringDataBookJpaRepository extends JpaRepository<JpaBookEntity, UUID> {
+public interface SpringDataBookJpaRepository
+        extends JpaRepository<JpaBookEntity, UUID>, JpaSpecificationExecutor<JpaBookEntity> {
 
     /**
      * Kitapları başlık veya açıklamada anahtar kelimeye göre arar.
@@ -44,4 +49,20 @@ public interface SpringDataBookJpaRepository extends JpaRepository<JpaBookEntity
      * Sayfa sayısı aralığına göre kitapları getirir.
      */
     List<JpaBookEntity> findByPageCountBetween(Integer minPageCount, Integer maxPageCount);
+
+    /**
+     * Arama indeksinin kurulumu için tüm kitapları projection olarak akıtır.
+     * Aktif bir transaction içinde çağrılmalı ve stream kapatılmalıdır.
+     */
+    @Query("SELECT b.id AS id, b.title AS title, b.category.id AS categoryId, " +
+            "b.publisher.id AS publisherId, b.description AS description, " +
+            "b.language AS language, b.pageCount AS pageCount FROM JpaBookEntity b")
+    Stream<BookSearchProjection> streamSearchProjections();
+
+    /**
+     * Öneri indeksinin kurulumu için tüm kitap-yazar ilişkilerini akıtır.
+     * Aktif bir transaction içinde çağrılmalı ve stream kapatılmalıdır.
+     */
+    @Query("SELECT ba.id.bookId AS bookId, ba.id.authorId AS authorId FROM JpaBookAuthorEntity ba")
+    Stream<BookAuthorProjection> streamBookAuthors();
 }
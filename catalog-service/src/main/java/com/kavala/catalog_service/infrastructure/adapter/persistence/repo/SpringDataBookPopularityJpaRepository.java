@@ -0,0 +1,38 @@
+package com.kavala.catalog_service.infrastructure.adapter.persistence.repo;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.kavala.catalog_service.infrastructure.adapter.persistence.entity.JpaBookPopularityEntity;
+
+/**
+ * book_popularity tablosu için Spring Data JPA repository.
+ */
+@Repository
+public interface SpringDataBookPopularityJpaRepository extends JpaRepository<JpaBookPopularityEntity, UUID> {
+
+    /**
+     * Birikmiş artışları tek bir INSERT ... ON CONFLICT ile ekler ve
+     * dokunulan kitapların güncel toplamlarını döner. Toplamlar diğer
+     * instance'ların yazdığı artışları da içerir. bookIds ve deltas aynı
+     * uzunlukta paralel dizilerdir. Repository'nin varsayılan readOnly
+     * transaction'ı yazmaya izin vermediği için @Transactional ile ezilir.
+     */
+    @Transactional
+    @Query(value = "INSERT INTO book_popularity (book_id, checkout_count, updated_at) "
+            + "SELECT d.book_id, d.delta, :now "
+            + "FROM unnest(CAST(:bookIds AS uuid[]), CAST(:deltas AS bigint[])) AS d(book_id, delta) "
+            + "ON CONFLICT (book_id) DO UPDATE "
+            + "SET checkout_count = book_popularity.checkout_count + EXCLUDED.checkout_count, "
+            + "updated_at = EXCLUDED.updated_at "
+            + "RETURNING book_id AS \"bookId\", checkout_count AS \"checkoutCount\"", nativeQuery = true)
+    List<BookPopularityProjection> addCheckouts(@Param("bookIds") UUID[] bookIds, @Param("deltas") long[] deltas,
+            @Param("now") Instant now);
+}
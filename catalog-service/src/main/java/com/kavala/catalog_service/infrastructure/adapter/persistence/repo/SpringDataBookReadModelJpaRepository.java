@@ -0,0 +1,81 @@
+package com.kavala.catalog_service.infrastructure.adapter.persistence.repo;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import jakarta.persistence.QueryHint;
+
+import com.kavala.catalog_service.infrastructure.adapter.persistence.entity.JpaBookReadModelEntity;
+
+/**
+ * book_read_model projeksiyonu için Spring Data JPA repository.
+ * Dinamik filtreler BookSpecifications ile JpaSpecificationExecutor
+ * üzerinden çalıştırılır.
+ */
+@Repository
+public interface SpringDataBookReadModelJpaRepository
+        extends JpaRepository<JpaBookReadModelEntity, UUID>, JpaSpecificationExecutor<JpaBookReadModelEntity> {
+
+    /**
+     * Yalnızca updatedAt sütununu okur; koşullu GET'lerde ETag'i tüm satırı
+     * yüklemeden hesaplamak için kullanılır.
+     */
+    @Query("SELECT b.updatedAt FROM JpaBookReadModelEntity b WHERE b.id = :id")
+    Optional<Instant> findUpdatedAtById(@Param("id") UUID id);
+
+    /**
+     * Verilen kitapların kompakt görünümünü tek bir IN sorgusuyla getirir.
+     */
+    @Query("SELECT b.id AS id, b.title AS title, b.authorIds AS authorIds, b.authorNames AS authorNames "
+            + "FROM JpaBookReadModelEntity b WHERE b.id IN :ids")
+    List<BookSummaryProjection> findSummariesByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Kitapları (createdAt, id) sırasıyla sayfalı getirir.
+     * List dönüş tipi sayesinde ek bir count sorgusu çalışmaz.
+     */
+    @Query("SELECT b FROM JpaBookReadModelEntity b ORDER BY b.createdAt, b.id")
+    List<JpaBookReadModelEntity> findPage(Pageable pageable);
+
+    /**
+     * Keyset (seek) sayfalama: verilen (createdAt, id) konumundan sonraki
+     * kitapları getirir. idx_book_read_model_created_at_id indeksi üzerinden
+     * tek bir aralık taraması olarak çalışır.
+     */
+    @Query("SELECT b FROM JpaBookReadModelEntity b WHERE (b.createdAt, b.id) > (:createdAt, :id) " +
+            "ORDER BY b.createdAt, b.id")
+    List<JpaBookReadModelEntity> findPageAfter(@Param("createdAt") Instant createdAt, @Param("id") UUID id,
+            Pageable pageable);
+
+    /**
+     * Tüm projeksiyonu forward-only bir JDBC cursor ile akıtır. fetchSize
+     * sayesinde PostgreSQL sonuçları parça parça gönderir; tablonun tamamı
+     * belleğe alınmaz. Aktif bir transaction içinde çağrılmalı ve stream
+     * kapatılmalıdır.
+     */
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.fetchSize", value = "500"),
+            @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    @Query("SELECT b FROM JpaBookReadModelEntity b ORDER BY b.createdAt, b.id")
+    Stream<JpaBookReadModelEntity> streamAll();
+
+    /**
+     * Projeksiyonu henüz oluşturulmamış kitapların id'lerini getirir.
+     */
+    @Query("SELECT b.id FROM JpaBookEntity b WHERE NOT EXISTS " +
+            "(SELECT 1 FROM JpaBookReadModelEntity r WHERE r.id = b.id)")
+    List<UUID> findUnprojectedBookIds(Pageable pageable);
+}
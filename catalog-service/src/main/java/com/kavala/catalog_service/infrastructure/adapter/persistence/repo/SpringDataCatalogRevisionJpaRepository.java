@@ -0,0 +1,33 @@
+package com.kavala.catalog_service.infrastructure.adapter.persistence.repo;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.kavala.catalog_service.infrastructure.adapter.persistence.entity.JpaCatalogRevisionEntity;
+
+/**
+ * catalog_revision tablosu için Spring Data JPA repository.
+ */
+@Repository
+public interface SpringDataCatalogRevisionJpaRepository extends JpaRepository<JpaCatalogRevisionEntity, Short> {
+
+    @Query("SELECT r.version FROM JpaCatalogRevisionEntity r WHERE r.id = "
+            + JpaCatalogRevisionEntity.SINGLETON_ID)
+    Optional<Long> findVersion();
+
+    /**
+     * Satır yoksa 1 ile oluşturur, varsa bir artırır. Artış satırı commit'e
+     * kadar kilitler; eşzamanlı yazmalar burada sıraya girer ve hiçbir
+     * artış kaybolmaz.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO catalog_revision (id, version) VALUES (" + JpaCatalogRevisionEntity.SINGLETON_ID
+            + ", 1) ON CONFLICT (id) DO UPDATE SET version = catalog_revision.version + 1", nativeQuery = true)
+    void increment();
+}
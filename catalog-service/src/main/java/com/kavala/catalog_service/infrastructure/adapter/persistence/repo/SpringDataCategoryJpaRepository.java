@@ -1,8 +1,12 @@
 package com.kavala.catalog_service.infrastructure.adapter.persistence.repo;
 
+import java.util.List;
 import java.util.UUID;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.kavala.catalog_service.infrastructure.adapter.persistence.entity.JpaCategoryEntity;
@@ -14,4 +18,24 @@ import com.kavala.catalog_service.infrastructure.adapter.persistence.entity.JpaC
 @Repository
 public interface SpringDataCategoryJpaRepository extends JpaRepository<JpaCategoryEntity, UUID> {
 
+    /**
+     * Adı [from, to) aralığında ve pattern'e uyan kategorileri (name, id)
+     * sırasıyla getirir. Aralık, önek aramasında taramayı
+     * idx_categories_name_id üzerinde önekle başlayan adlarla sınırlar.
+     * List dönüş tipi sayesinde ek bir count sorgusu çalışmaz.
+     */
+    @Query("SELECT c FROM JpaCategoryEntity c WHERE c.name >= :from AND c.name < :to "
+            + "AND c.name LIKE :pattern ESCAPE '\\' "
+            + "ORDER BY c.name, c.id")
+    List<JpaCategoryEntity> findPageByName(@Param("from") String from, @Param("to") String to,
+            @Param("pattern") String pattern, Pageable pageable);
+
+    /**
+     * Keyset (seek) sayfalama: verilen (name, id) konumundan sonraki, to'dan
+     * küçük ve pattern'e uyan kategorileri getirir.
+     */
+    @Query("SELECT c FROM JpaCategoryEntity c WHERE (c.name, c.id) > (:afterName, :afterId) AND c.name < :to "
+            + "AND c.name LIKE :pattern ESCAPE '\\' ORDER BY c.name, c.id")
+    List<JpaCategoryEntity> findPageByNameAfter(@Param("afterName") String afterName, @Param("afterId") UUID afterId,
+            @Param("to") String to, @Param("pattern") String pattern, Pageable pageable);
 }
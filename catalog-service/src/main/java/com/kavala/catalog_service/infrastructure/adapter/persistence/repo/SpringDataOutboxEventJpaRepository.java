@@ -0,0 +1,52 @@
+package com.kavala.catalog_service.infrastructure.adapter.persistence.repo;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.kavala.catalog_service.infrastructure.adapter.persistence.entity.JpaOutboxEventEntity;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+/**
+ * Outbox tablosu için Spring Data JPA repository.
+ */
+@Repository
+public interface SpringDataOutboxEventJpaRepository extends JpaRepository<JpaOutboxEventEntity, Long> {
+
+    /**
+     * Gönderime hazır en eski kayıtları kilitleyerek getirir.
+     * Kilit zaman aşımı -2, PostgreSQL'de FOR UPDATE SKIP LOCKED üretir;
+     * birden fazla instance aynı kayıtları aynı anda göndermez.
+     *
+     * Yalnızca aggregate'inin bekleyen en eski kaydı olan kayıtlar seçilir.
+     * Böylece başka bir instance'ın kilitlediği veya yeniden denemeyi bekleyen
+     * bir kaydın arkasındaki kayıtlar da bekler ve aynı aggregate'in event'leri
+     * sırayla gönderilir. Park edilen kayıt da sırayı tutar: elle çözülene
+     * kadar aggregate'in sonraki kayıtları gönderilmez, böylece eski bir durum
+     * yenisinin ardından yayınlanmaz.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT e FROM JpaOutboxEventEntity e "
+            + "WHERE e.publishedAt IS NULL AND e.parkedAt IS NULL "
+            + "AND (e.nextAttemptAt IS NULL OR e.nextAttemptAt <= :now) "
+            + "AND NOT EXISTS (SELECT p.id FROM JpaOutboxEventEntity p "
+            + "WHERE p.aggregateId = e.aggregateId AND p.id < e.id "
+            + "AND p.publishedAt IS NULL) "
+            + "ORDER BY e.id")
+    List<JpaOutboxEventEntity> lockReady(@Param("now") Instant now, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM JpaOutboxEventEntity e WHERE e.publishedAt < :cutoff")
+    int deletePublishedBefore(@Param("cutoff") Instant cutoff);
+}
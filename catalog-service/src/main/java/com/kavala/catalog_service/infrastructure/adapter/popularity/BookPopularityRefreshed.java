@@ -0,0 +1,8 @@
+package com.kavala.catalog_service.infrastructure.adapter.popularity;
+
+/**
+ * Popülerlik sıralaması yeni sayılarla yeniden kurulduğunda yayınlanır.
+ * Sıralamayı önbelleğe alan bileşenler bu event ile önbelleklerini düşürür.
+ */
+public record BookPopularityRefreshed() {
+}
@@ -0,0 +1,295 @@
+package com.kavala.catalog_service.infrastructure.adapter.popularity;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.kavala.catalog_service.domain.book.model.BookId;
+import com.kavala.catalog_service.domain.book.model.BookReadModel;
+import com.kavala.catalog_service.domain.category.CategoryId;
+import com.kavala.catalog_service.domain.event.BookCreated;
+import com.kavala.catalog_service.domain.event.BookDeleted;
+import com.kavala.catalog_service.domain.event.BookUpdated;
+import com.kavala.catalog_service.domain.port.BookPopularity;
+import com.kavala.catalog_service.domain.port.BookReadModelRepository;
+import com.kavala.catalog_service.infrastructure.adapter.persistence.entity.JpaBookPopularityEntity;
+import com.kavala.catalog_service.infrastructure.adapter.persistence.repo.BookPopularityProjection;
+import com.kavala.catalog_service.infrastructure.adapter.persistence.repo.SpringDataBookPopularityJpaRepository;
+
+/**
+ * BookPopularity port'unun bellek içi implementasyonu.
+ *
+ * Ödünç kayıtları kitap başına bir LongAdder'da biriktirilir; LongAdder
+ * çekişme altında hücrelere bölünen (striped) kilitsiz bir sayaçtır, sıcak
+ * yol ne kilit ne veritabanı görür. Periyodik flush birikmiş artışları tek
+ * bir upsert ile book_popularity tablosuna ekler ve dönen güncel toplamlarla
+ * bellekteki sayıları günceller.
+ *
+ * Upsert yalnızca bu instance'ın dokunduğu kitapların güncel toplamlarını
+ * döner; diğer instance'ların artışları reload-interval'da bir tüm tablonun
+ * yeniden okunmasıyla yansır. Instance'lar arasındaki sıralama farkı bu
+ * süreyle sınırlıdır.
+ *
+ * Her değişiklikten sonra genel ve kategori başına en popüler topSize kitap,
+ * topSize boyutlu min-heap'lerle tek geçişte seçilir ve değişmez bir
+ * sıralama olarak yayınlanır. Okumalar bu sıralamadan karşılanır; ödünç
+ * veritabanında toplama (aggregate) sorgusu çalıştırılmaz.
+ */
+@Component
+public class InMemoryBookPopularity implements BookPopularity {
+
+    private static final Logger log = LoggerFactory.getLogger(InMemoryBookPopularity.class);
+
+    // Artan sıra: heap'in başında o ana kadarki en zayıf aday durur
+    private static final Comparator<PopularBook> WEAKEST_FIRST = Comparator
+            .comparingLong(PopularBook::checkouts)
+            .thenComparing(book -> book.bookId().value(), Comparator.reverseOrder());
+
+    private static final int RELOAD_LOOKUP_BATCH_SIZE = 1000;
+
+    private final SpringDataBookPopularityJpaRepository popularityRepository;
+    private final BookReadModelRepository bookReadModelRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int topSize;
+
+    private final Map<BookId, LongAdder> pending = new ConcurrentHashMap<>();
+    private final Map<BookId, Long> totals = new ConcurrentHashMap<>();
+    private final Map<BookId, CategoryId> categories = new ConcurrentHashMap<>();
+    private final AtomicBoolean dirty = new AtomicBoolean();
+    private volatile Ranking ranking = Ranking.EMPTY;
+
+    public InMemoryBookPopularity(SpringDataBookPopularityJpaRepository popularityRepository,
+            BookReadModelRepository bookReadModelRepository, ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            @Value("${catalog.popularity.top-size:100}") int topSize) {
+        if (topSize < 1) {
+            throw new IllegalArgumentException("catalog.popularity.top-size must be positive");
+        }
+        this.popularityRepository = popularityRepository;
+        this.bookReadModelRepository = bookReadModelRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // Commit sonrası dinleyicilerden yapılan yazma, biten transaction'a katılıp kaybolmasın
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.topSize = topSize;
+    }
+
+    /**
+     * Kalıcı sayıları ve kitapların kategorilerini yükleyip sıralamayı kurar.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        try (Stream<BookReadModel> books = bookReadModelRepository.streamAll()) {
+            books.forEach(book -> categories.put(book.bookId(), book.categoryId()));
+        }
+        for (JpaBookPopularityEntity row : popularityRepository.findAll()) {
+            totals.put(BookId.of(row.getBookId()), row.getCheckoutCount());
+        }
+        refreshRanking();
+    }
+
+    @Override
+    public void recordCheckouts(BookId bookId, long count) {
+        if (count < 1) {
+            throw new IllegalArgumentException("Checkout count must be positive: " + count);
+        }
+        LongAdder adder = pending.get(bookId);
+        if (adder == null) {
+            adder = pending.computeIfAbsent(bookId, id -> new LongAdder());
+        }
+        adder.add(count);
+    }
+
+    @Override
+    public boolean isKnownBook(BookId bookId) {
+        if (categories.containsKey(bookId)) {
+            return true;
+        }
+        // Başka bir instance'ta eklenen kitap; commit sonrası event'i buraya gelmez
+        return bookReadModelRepository.findById(bookId)
+                .map(book -> {
+                    categories.putIfAbsent(book.bookId(), book.categoryId());
+                    return true;
+                })
+                .orElse(false);
+    }
+
+    @Override
+    public List<PopularBook> top(CategoryId categoryId, int limit) {
+        Ranking current = ranking;
+        List<PopularBook> ranked = categoryId == null
+                ? current.overall()
+                : current.byCategory().getOrDefault(categoryId, List.of());
+        return ranked.subList(0, Math.min(Math.max(limit, 0), ranked.size()));
+    }
+
+    @Override
+    public Map<BookId, Long> checkoutCounts() {
+        return ranking.counts();
+    }
+
+    /**
+     * Birikmiş artışları veritabanına yazar ve gerekiyorsa sıralamayı
+     * yeniden kurar. Yazma başarısız olursa artışlar sayaçlara geri eklenir
+     * ve bir sonraki turda yeniden denenir.
+     */
+    @Scheduled(fixedDelayString = "${catalog.popularity.flush-interval:PT30S}")
+    public void flush() {
+        List<BookId> bookIds = new ArrayList<>();
+        List<Long> deltas = new ArrayList<>();
+        for (Map.Entry<BookId, LongAdder> entry : pending.entrySet()) {
+            // sumThenReset her hücreyi atomik olarak sıfırlar; eşzamanlı artışlar kaybolmaz
+            long delta = entry.getValue().sumThenReset();
+            if (delta > 0) {
+                bookIds.add(entry.getKey());
+                deltas.add(delta);
+            }
+        }
+
+        if (!bookIds.isEmpty()) {
+            try {
+                List<BookPopularityProjection> updated = transactionTemplate.execute(status -> popularityRepository
+                        .addCheckouts(bookIds.stream().map(BookId::value).toArray(UUID[]::new),
+                                deltas.stream().mapToLong(Long::longValue).toArray(), Instant.now()));
+                if (updated != null) {
+                    for (BookPopularityProjection row : updated) {
+                        totals.put(BookId.of(row.getBookId()), row.getCheckoutCount());
+                    }
+                }
+                dirty.set(true);
+            } catch (RuntimeException e) {
+                log.warn("Popularity flush failed for {} books, retrying next run: {}", bookIds.size(),
+                        e.getMessage());
+                for (int i = 0; i < bookIds.size(); i++) {
+                    recordCheckouts(bookIds.get(i), deltas.get(i));
+                }
+            }
+        }
+
+        if (dirty.getAndSet(false)) {
+            refreshRanking();
+        }
+    }
+
+    /**
+     * Toplamları book_popularity tablosundan yeniden okur; böylece diğer
+     * instance'ların yazdığı artışlar ve sildiği kitaplar sıralamaya yansır.
+     * Kategorisi bilinmeyen kitapların kategorileri projeksiyondan yüklenir.
+     */
+    @Scheduled(fixedDelayString = "${catalog.popularity.reload-interval:PT5M}",
+            initialDelayString = "${catalog.popularity.reload-interval:PT5M}")
+    public void reload() {
+        Map<BookId, Long> loaded = new HashMap<>();
+        for (JpaBookPopularityEntity row : popularityRepository.findAll()) {
+            loaded.put(BookId.of(row.getBookId()), row.getCheckoutCount());
+        }
+        List<BookId> uncategorized = loaded.keySet().stream()
+                .filter(bookId -> !categories.containsKey(bookId))
+                .toList();
+        for (int from = 0; from < uncategorized.size(); from += RELOAD_LOOKUP_BATCH_SIZE) {
+            List<BookId> batch = uncategorized.subList(from,
+                    Math.min(from + RELOAD_LOOKUP_BATCH_SIZE, uncategorized.size()));
+            for (BookReadModel book : bookReadModelRepository.findAllById(batch)) {
+                categories.putIfAbsent(book.bookId(), book.categoryId());
+            }
+        }
+
+        totals.keySet().retainAll(loaded.keySet());
+        totals.putAll(loaded);
+        refreshRanking();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(BookCreated event) {
+        categories.put(event.bookId(), event.categoryId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(BookUpdated event) {
+        CategoryId previous = categories.put(event.bookId(), event.newCategoryId());
+        if (!Objects.equals(previous, event.newCategoryId()) && totals.containsKey(event.bookId())) {
+            dirty.set(true);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(BookDeleted event) {
+        categories.remove(event.bookId());
+        pending.remove(event.bookId());
+        if (totals.remove(event.bookId()) != null) {
+            transactionTemplate.executeWithoutResult(status -> popularityRepository.deleteById(event.bookId().value()));
+            dirty.set(true);
+        }
+    }
+
+    private void refreshRanking() {
+        PriorityQueue<PopularBook> overall = new PriorityQueue<>(topSize + 1, WEAKEST_FIRST);
+        Map<CategoryId, PriorityQueue<PopularBook>> byCategory = new HashMap<>();
+        Map<BookId, Long> counts = new HashMap<>();
+
+        for (Map.Entry<BookId, Long> entry : totals.entrySet()) {
+            if (entry.getValue() <= 0) {
+                continue;
+            }
+            PopularBook book = new PopularBook(entry.getKey(), entry.getValue());
+            counts.put(book.bookId(), book.checkouts());
+            offer(overall, book);
+            CategoryId categoryId = categories.get(book.bookId());
+            if (categoryId != null) {
+                offer(byCategory.computeIfAbsent(categoryId, id -> new PriorityQueue<>(topSize + 1, WEAKEST_FIRST)),
+                        book);
+            }
+        }
+
+        Map<CategoryId, List<PopularBook>> rankedByCategory = new HashMap<>();
+        byCategory.forEach((categoryId, heap) -> rankedByCategory.put(categoryId, ranked(heap)));
+        ranking = new Ranking(ranked(overall), Map.copyOf(rankedByCategory), Map.copyOf(counts));
+
+        eventPublisher.publishEvent(new BookPopularityRefreshed());
+    }
+
+    private void offer(PriorityQueue<PopularBook> heap, PopularBook book) {
+        heap.offer(book);
+        if (heap.size() > topSize) {
+            heap.poll();
+        }
+    }
+
+    private static List<PopularBook> ranked(PriorityQueue<PopularBook> heap) {
+        List<PopularBook> ranked = new ArrayList<>(heap);
+        ranked.sort(WEAKEST_FIRST.reversed());
+        return List.copyOf(ranked);
+    }
+
+    private record Ranking(List<PopularBook> overall, Map<CategoryId, List<PopularBook>> byCategory,
+            Map<BookId, Long> counts) {
+
+        static final Ranking EMPTY = new Ranking(List.of(), Map.of(), Map.of());
+    }
+}
@@ -0,0 +1,372 @@
+package com.kavala.catalog_service.infrastructure.adapter.search;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.kavala.catalog_service.domain.book.model.BookId;
+import com.kavala.catalog_service.domain.category.CategoryId;
+import com.kavala.catalog_service.domain.event.BookCreated;
+import com.kavala.catalog_service.domain.event.BookDeleted;
+import com.kavala.catalog_service.domain.event.BookUpdated;
+import com.kavala.catalog_service.domain.port.BookSearchIndex;
+import com.kavala.catalog_service.domain.publisher.PublisherId;
+import com.kavala.catalog_service.infrastructure.adapter.persistence.repo.BookSearchProjection;
+import com.kavala.catalog_service.infrastructure.adapter.persistence.repo.SpringDataBookJpaRepository;
+
+/**
+ * BookSearchIndex port'unun bellek içi (in-process) ters indeks
+ * implementasyonu.
+ *
+ * Her normalize terim için, terimi içeren kitapların posting listesi tutulur.
+ * Arama, en kısa posting listesinden başlayıp diğer terimlerin listeleriyle
+ * kesişim alarak yapılır; tüm kataloğu taramaz. Skor, başlık eşleşmelerini
+ * ağırlıklandıran basit bir TF-IDF'tir.
+ *
+ * Facet'ler için her kitaba yoğun (dense) bir doc id verilir ve her facet
+ * değeri (dil, kategori, yayınevi, sayfa aralığı) için bir BitSet tutulur.
+ * Arama sırasında eşleşmeler de bir BitSet'e yazılır; facet sayısı bu iki
+ * kümenin kesişiminin kardinalitesidir.
+ *
+ * İndeks uygulama ayağa kalktığında veritabanından kurulur, sonrasında
+ * BookCreated/BookUpdated/BookDeleted event'leri ile artımlı güncellenir.
+ * Event'ler commit sonrası işlenir; geri alınan bir yazma indekse yansımaz.
+ * İndeks, CatalogVersion artmadan önce güncellenir.
+ *
+ * catalog.search.engine=in-memory (varsayılan) iken etkindir.
+ */
+@Component
+@ConditionalOnProperty(name = "catalog.search.engine", havingValue = "in-memory", matchIfMissing = true)
+public class InMemoryBookSearchIndex implements BookSearchIndex {
+
+    private static final int TITLE_WEIGHT = 3;
+
+    private final SpringDataBookJpaRepository jpaRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Map<BookId, Posting>> postings = new HashMap<>();
+    private final Map<BookId, IndexedBook> documents = new HashMap<>();
+
+    private final List<IndexedBook> documentsByDocId = new ArrayList<>();
+    private final Deque<Integer> freeDocIds = new ArrayDeque<>();
+    private final BitSet liveDocs = new BitSet();
+    private final Map<String, BitSet> languageDocs = new HashMap<>();
+    private final Map<UUID, BitSet> categoryDocs = new HashMap<>();
+    private final Map<UUID, BitSet> publisherDocs = new HashMap<>();
+    private final BitSet[] pageBucketDocs = new BitSet[PageCountBuckets.count()];
+
+    public InMemoryBookSearchIndex(SpringDataBookJpaRepository jpaRepository) {
+        this.jpaRepository = jpaRepository;
+        for (int i = 0; i < pageBucketDocs.length; i++) {
+            pageBucketDocs[i] = new BitSet();
+        }
+    }
+
+    /**
+     * İndeksi veritabanındaki tüm kitaplardan yeniden kurar.
+     * Kurulum boyunca yazma kilidi tutulur; aramalar yarım indeksi görmez.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try (Stream<BookSearchProjection> rows = jpaRepository.streamSearchProjections()) {
+            postings.clear();
+            documents.clear();
+            documentsByDocId.clear();
+            freeDocIds.clear();
+            liveDocs.clear();
+            languageDocs.clear();
+            categoryDocs.clear();
+            publisherDocs.clear();
+            for (BitSet bucket : pageBucketDocs) {
+                bucket.clear();
+            }
+
+            rows.forEach(row -> add(
+                    BookId.of(row.getId()),
+                    row.getTitle(),
+                    row.getDescription(),
+                    row.getLanguage(),
+                    row.getPageCount(),
+                    row.getCategoryId(),
+                    row.getPublisherId()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void on(BookCreated event) {
+        put(event.bookId(), event.title(), event.description(), event.language(), event.pageCount(),
+                event.categoryId().value(), event.publisherId().value());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void on(BookUpdated event) {
+        put(event.bookId(), event.newTitle(), event.newDescription(), event.newLanguage(),
+                event.newPageCount(), event.newCategoryId().value(), event.newPublisherId().value());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void on(BookDeleted event) {
+        lock.writeLock().lock();
+        try {
+            remove(event.bookId());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public SearchHits search(String keyword, String language, Integer minPageCount, Integer maxPageCount,
+            int limit, boolean facets) {
+        Set<String> terms = new LinkedHashSet<>(TurkishTextAnalyzer.tokenize(keyword));
+
+        lock.readLock().lock();
+        try {
+            if (terms.isEmpty()) {
+                return new SearchHits(List.of(), emptyFacets());
+            }
+
+            List<Map<BookId, Posting>> termPostings = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                Map<BookId, Posting> list = postings.get(term);
+                if (list == null) {
+                    // AND semantiği: herhangi bir terim hiç geçmiyorsa sonuç yoktur
+                    return new SearchHits(List.of(), emptyFacets());
+                }
+                termPostings.add(list);
+            }
+            termPostings.sort(Comparator.comparingInt(Map::size));
+
+            int totalDocuments = documents.size();
+            List<ScoredBook> hits = new ArrayList<>();
+            BitSet matches = new BitSet(documentsByDocId.size());
+            for (BookId bookId : termPostings.get(0).keySet()) {
+                IndexedBook book = documents.get(bookId);
+                if (!book.matches(language, minPageCount, maxPageCount)) {
+                    continue;
+                }
+
+                double score = 0;
+                for (Map<BookId, Posting> list : termPostings) {
+                    Posting posting = list.get(bookId);
+                    if (posting == null) {
+                        score = -1;
+                        break;
+                    }
+                    double idf = Math.log(1 + (double) totalDocuments / list.size());
+                    score += (TITLE_WEIGHT * posting.titleFrequency() + posting.descriptionFrequency()) * idf;
+                }
+                if (score >= 0) {
+                    hits.add(new ScoredBook(book, score));
+                    matches.set(book.docId());
+                }
+            }
+
+            List<BookId> rankedIds = hits.stream()
+                    .sorted(Comparator.comparingDouble(ScoredBook::score).reversed()
+                            .thenComparing(hit -> hit.book().title()))
+                    .limit(limit)
+                    .map(hit -> hit.book().bookId())
+                    .toList();
+
+            return new SearchHits(rankedIds, facets ? countFacets(matches) : emptyFacets());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public FacetCounts facets(String language, Integer minPageCount, Integer maxPageCount) {
+        lock.readLock().lock();
+        try {
+            BitSet matches = (BitSet) liveDocs.clone();
+            if (language != null && !language.isBlank()) {
+                matches.and(languageDocs.getOrDefault(normalizeLanguage(language), new BitSet()));
+            }
+            if (minPageCount != null || maxPageCount != null) {
+                for (int docId = matches.nextSetBit(0); docId >= 0; docId = matches.nextSetBit(docId + 1)) {
+                    if (!documentsByDocId.get(docId).matches(null, minPageCount, maxPageCount)) {
+                        matches.clear(docId);
+                    }
+                }
+            }
+            return countFacets(matches);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Okuma kilidi altında çağrılır
+    private FacetCounts countFacets(BitSet matches) {
+        BitSet scratch = new BitSet(matches.size());
+
+        Map<String, Long> pageCountBuckets = new LinkedHashMap<>();
+        for (int i = 0; i < pageBucketDocs.length; i++) {
+            long count = intersectionCount(pageBucketDocs[i], matches, scratch);
+            if (count > 0) {
+                pageCountBuckets.put(PageCountBuckets.label(i), count);
+            }
+        }
+
+        return new FacetCounts(
+                countByValue(languageDocs, matches, scratch, Function.identity()),
+                countByValue(categoryDocs, matches, scratch, CategoryId::of),
+                countByValue(publisherDocs, matches, scratch, PublisherId::of),
+                pageCountBuckets);
+    }
+
+    private static <K, V> Map<V, Long> countByValue(Map<K, BitSet> valueDocs, BitSet matches, BitSet scratch,
+            Function<K, V> key) {
+        Map<V, Long> counts = new LinkedHashMap<>();
+        valueDocs.entrySet().stream()
+                .map(entry -> Map.entry(entry.getKey(), intersectionCount(entry.getValue(), matches, scratch)))
+                .filter(entry -> entry.getValue() > 0)
+                .sorted(Map.Entry.<K, Long>comparingByValue().reversed())
+                .forEach(entry -> counts.put(key.apply(entry.getKey()), entry.getValue()));
+        return counts;
+    }
+
+    private static long intersectionCount(BitSet valueDocs, BitSet matches, BitSet scratch) {
+        scratch.clear();
+        scratch.or(valueDocs);
+        scratch.and(matches);
+        return scratch.cardinality();
+    }
+
+    private static FacetCounts emptyFacets() {
+        return new FacetCounts(Map.of(), Map.of(), Map.of(), Map.of());
+    }
+
+    private void put(BookId bookId, String title, String description, String language, Integer pageCount,
+            UUID categoryId, UUID publisherId) {
+        lock.writeLock().lock();
+        try {
+            remove(bookId);
+            add(bookId, title, description, language, pageCount, categoryId, publisherId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Aşağıdaki metotlar yazma kilidi altında çağrılır
+    private void add(BookId bookId, String title, String description, String language, Integer pageCount,
+            UUID categoryId, UUID publisherId) {
+        int docId = freeDocIds.isEmpty() ? documentsByDocId.size() : freeDocIds.pop();
+        IndexedBook book = new IndexedBook(bookId, docId, title, description, language, pageCount,
+                categoryId, publisherId);
+
+        documents.put(bookId, book);
+        if (docId == documentsByDocId.size()) {
+            documentsByDocId.add(book);
+        } else {
+            documentsByDocId.set(docId, book);
+        }
+        liveDocs.set(docId);
+        languageDocs.computeIfAbsent(normalizeLanguage(language), l -> new BitSet()).set(docId);
+        categoryDocs.computeIfAbsent(categoryId, c -> new BitSet()).set(docId);
+        publisherDocs.computeIfAbsent(publisherId, p -> new BitSet()).set(docId);
+        pageBucketDocs[PageCountBuckets.of(pageCount)].set(docId);
+
+        Map<String, int[]> frequencies = new HashMap<>();
+        for (String term : TurkishTextAnalyzer.tokenize(title)) {
+            frequencies.computeIfAbsent(term, t -> new int[2])[0]++;
+        }
+        for (String term : TurkishTextAnalyzer.tokenize(description)) {
+            frequencies.computeIfAbsent(term, t -> new int[2])[1]++;
+        }
+
+        frequencies.forEach((term, counts) -> postings
+                .computeIfAbsent(term, t -> new HashMap<>())
+                .put(bookId, new Posting(counts[0], counts[1])));
+    }
+
+    private void remove(BookId bookId) {
+        IndexedBook previous = documents.remove(bookId);
+        if (previous == null) {
+            return;
+        }
+
+        int docId = previous.docId();
+        documentsByDocId.set(docId, null);
+        freeDocIds.push(docId);
+        liveDocs.clear(docId);
+        clearDoc(languageDocs, normalizeLanguage(previous.language()), docId);
+        clearDoc(categoryDocs, previous.categoryId(), docId);
+        clearDoc(publisherDocs, previous.publisherId(), docId);
+        pageBucketDocs[PageCountBuckets.of(previous.pageCount())].clear(docId);
+
+        Set<String> terms = new LinkedHashSet<>(TurkishTextAnalyzer.tokenize(previous.title()));
+        terms.addAll(TurkishTextAnalyzer.tokenize(previous.description()));
+        for (String term : terms) {
+            Map<BookId, Posting> list = postings.get(term);
+            if (list != null) {
+                list.remove(bookId);
+                if (list.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    private static <K> void clearDoc(Map<K, BitSet> valueDocs, K value, int docId) {
+        BitSet docs = valueDocs.get(value);
+        if (docs != null) {
+            docs.clear(docId);
+            if (docs.isEmpty()) {
+                valueDocs.remove(value);
+            }
+        }
+    }
+
+    private static String normalizeLanguage(String language) {
+        return language.toLowerCase(Locale.ROOT);
+    }
+
+    private record Posting(int titleFrequency, int descriptionFrequency) {
+    }
+
+    private record ScoredBook(IndexedBook book, double score) {
+    }
+
+    private record IndexedBook(BookId bookId, int docId, String title, String description,
+            String language, Integer pageCount, UUID categoryId, UUID publisherId) {
+
+        boolean matches(String languageFilter, Integer minPageCount, Integer maxPageCount) {
+            if (languageFilter != null && !languageFilter.isBlank() && !language.equalsIgnoreCase(languageFilter)) {
+                return false;
+            }
+            if (minPageCount != null && pageCount < minPageCount) {
+                return false;
+            }
+            return maxPageCount == null || pageCount <= maxPageCount;
+        }
+    }
+}
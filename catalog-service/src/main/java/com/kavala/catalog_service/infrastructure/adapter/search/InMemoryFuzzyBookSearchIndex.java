@@ -0,0 +1,105 @@
+package com.kavala.catalog_service.infrastructure.adapter.search;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.kavala.catalog_service.domain.author.Author;
+import com.kavala.catalog_service.domain.author.AuthorId;
+import com.kavala.catalog_service.domain.book.model.BookId;
+import com.kavala.catalog_service.domain.book.model.BookReadModel;
+import com.kavala.catalog_service.domain.event.BookCreated;
+import com.kavala.catalog_service.domain.event.BookDeleted;
+import com.kavala.catalog_service.domain.event.BookUpdated;
+import com.kavala.catalog_service.domain.port.AuthorRepository;
+import com.kavala.catalog_service.domain.port.BookReadModelRepository;
+import com.kavala.catalog_service.domain.port.FuzzyBookSearchIndex;
+
+/**
+ * FuzzyBookSearchIndex port'unun trigram tabanlı bellek içi
+ * implementasyonu. Başlıklar ve yazar adları aksanları katlanarak
+ * TrigramIndex'e yazılır; benzerliği catalog.search.fuzzy.min-similarity
+ * eşiğinin altında kalan eşleşmeler dönmez.
+ *
+ * İndeks açılışta book_read_model'den kurulur ve kitap event'leri ile
+ * commit sonrasında, CatalogVersion artmadan önce güncellenir.
+ */
+@Component
+public class InMemoryFuzzyBookSearchIndex implements FuzzyBookSearchIndex {
+
+    private final BookReadModelRepository bookReadModelRepository;
+    private final AuthorRepository authorRepository;
+    private final double minSimilarity;
+    private final TrigramIndex index = new TrigramIndex();
+
+    public InMemoryFuzzyBookSearchIndex(BookReadModelRepository bookReadModelRepository,
+            AuthorRepository authorRepository,
+            @Value("${catalog.search.fuzzy.min-similarity:0.3}") double minSimilarity) {
+        if (minSimilarity <= 0 || minSimilarity > 1) {
+            throw new IllegalArgumentException("catalog.search.fuzzy.min-similarity must be in (0, 1]");
+        }
+        this.bookReadModelRepository = bookReadModelRepository;
+        this.authorRepository = authorRepository;
+        this.minSimilarity = minSimilarity;
+    }
+
+    /**
+     * İndeksi projeksiyondan yeniden kurar.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        index.clear();
+        try (Stream<BookReadModel> books = bookReadModelRepository.streamAll()) {
+            books.forEach(book -> index.put(book.bookId(), book.title(),
+                    book.authors().stream().map(BookReadModel.AuthorEntry::name).toList(),
+                    book.language(), book.pageCount()));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void on(BookCreated event) {
+        index.put(event.bookId(), event.title(), authorNames(event.authorIds()), event.language(),
+                event.pageCount());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void on(BookUpdated event) {
+        index.put(event.bookId(), event.newTitle(), authorNames(event.newAuthorIds()), event.newLanguage(),
+                event.newPageCount());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void on(BookDeleted event) {
+        index.remove(event.bookId());
+    }
+
+    @Override
+    public List<BookId> search(String text, String language, Integer minPageCount, Integer maxPageCount,
+            int limit) {
+        return index.search(text, language, minPageCount, maxPageCount, minSimilarity, limit).stream()
+                .map(TrigramIndex.Hit::bookId)
+                .toList();
+    }
+
+    private List<String> authorNames(List<AuthorId> authorIds) {
+        // Yazar okumaları referans verisi cache'inden karşılanır
+        Map<AuthorId, String> names = authorRepository.findAllById(authorIds).stream()
+                .collect(Collectors.toMap(Author::getAuthorId, Author::getFullName));
+        return authorIds.stream().map(names::get).filter(Objects::nonNull).toList();
+    }
+}
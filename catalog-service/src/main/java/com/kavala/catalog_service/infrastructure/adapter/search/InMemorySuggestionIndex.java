@@ -0,0 +1,382 @@
+package com.kavala.catalog_service.infrastructure.adapter.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.kavala.catalog_service.domain.author.Author;
+import com.kavala.catalog_service.domain.author.AuthorId;
+import com.kavala.catalog_service.domain.book.model.BookId;
+import com.kavala.catalog_service.domain.event.AuthorCreated;
+import com.kavala.catalog_service.domain.event.BookCreated;
+import com.kavala.catalog_service.domain.event.BookDeleted;
+import com.kavala.catalog_service.domain.event.BookUpdated;
+import com.kavala.catalog_service.domain.port.AuthorRepository;
+import com.kavala.catalog_service.domain.port.BookPopularity;
+import com.kavala.catalog_service.domain.port.SuggestionIndex;
+import com.kavala.catalog_service.infrastructure.adapter.persistence.repo.BookAuthorProjection;
+import com.kavala.catalog_service.infrastructure.adapter.popularity.BookPopularityRefreshed;
+import com.kavala.catalog_service.infrastructure.adapter.persistence.repo.BookSearchProjection;
+import com.kavala.catalog_service.infrastructure.adapter.persistence.repo.SpringDataBookJpaRepository;
+
+/**
+ * SuggestionIndex port'unun bellek içi, sıralı anahtar (sorted key)
+ * implementasyonu.
+ *
+ * Her başlık ve yazar adı için, metindeki her kelimeden başlayan normalize
+ * son ek (suffix) sıralı bir haritaya eklenir.
+ *
+ * PRECOMPUTED_PREFIX_LENGTH karaktere kadar olan önekler geniş aralıklara
+ * denk gelir; bunların en iyi MAX_LIMIT önerisi önceden hesaplanıp tabloda
+ * tutulur ve sorgu tek bir harita okumasıdır. Tablo, sıralı anahtarlar
+ * üzerinde tek geçişte kurulur: aynı öneki paylaşan anahtarlar haritada
+ * ardışık olduğundan her önek uzunluğu için tek bir heap yeterlidir.
+ * Daha uzun önekler haritada tek bir aralık (subMap) okumasıdır; eşleşenler
+ * arasından en popüler k tanesi sınırlı bir heap ile seçilir. Aralık
+ * MAX_SCANNED_KEYS anahtardan uzunsa tarama orada kesilir ve sonuç bu
+ * anahtarlar arasından seçilir.
+ *
+ * Popülerlik sinyali kitaplar için ödünç sayısı, yazarlar için kitap
+ * sayısıdır. İndeks kitap ve yazar event'leri ile artımlı güncellenir; bir
+ * değişiklik yalnızca etkilediği öneklerin tablo satırlarını düşürür, bunlar
+ * ilk sorguda yeniden hesaplanır. Ödünç sayıları yenilendiğinde tablo baştan
+ * kurulur.
+ */
+@Component
+public class InMemorySuggestionIndex implements SuggestionIndex {
+
+    private static final int MAX_LIMIT = 20;
+    private static final int MAX_WORD_STARTS = 8;
+    private static final int PRECOMPUTED_PREFIX_LENGTH = 3;
+    private static final int MAX_SCANNED_KEYS = 10_000;
+    private static final char KEY_SEPARATOR = '\u0000';
+
+    private final SpringDataBookJpaRepository bookJpaRepository;
+    private final AuthorRepository authorRepository;
+    private final BookPopularity bookPopularity;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final TreeMap<String, Entry> keys = new TreeMap<>();
+    private final Map<UUID, Entry> books = new HashMap<>();
+    private final Map<UUID, Entry> authors = new HashMap<>();
+    private final Map<UUID, List<UUID>> bookAuthors = new HashMap<>();
+    private final Map<UUID, Integer> authorBookCounts = new HashMap<>();
+    private volatile Map<String, List<Suggestion>> precomputed = new ConcurrentHashMap<>();
+
+    public InMemorySuggestionIndex(SpringDataBookJpaRepository bookJpaRepository,
+            AuthorRepository authorRepository, BookPopularity bookPopularity) {
+        this.bookJpaRepository = bookJpaRepository;
+        this.authorRepository = authorRepository;
+        this.bookPopularity = bookPopularity;
+    }
+
+    /**
+     * İndeksi veritabanından yeniden kurar.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try (Stream<BookSearchProjection> bookRows = bookJpaRepository.streamSearchProjections();
+                Stream<BookAuthorProjection> bookAuthorRows = bookJpaRepository.streamBookAuthors()) {
+            keys.clear();
+            books.clear();
+            authors.clear();
+            bookAuthors.clear();
+            authorBookCounts.clear();
+
+            bookRows.forEach(row -> add(books, new Entry(Type.BOOK, row.getId(), row.getTitle())));
+            bookAuthorRows.forEach(row -> {
+                bookAuthors.computeIfAbsent(row.getBookId(), id -> new ArrayList<>()).add(row.getAuthorId());
+                authorBookCounts.merge(row.getAuthorId(), 1, Integer::sum);
+            });
+            for (Author author : authorRepository.findAll()) {
+                add(authors, new Entry(Type.AUTHOR, author.getAuthorId().value(), author.getFullName()));
+            }
+            precompute();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(BookCreated event) {
+        putBook(event.bookId().value(), event.title(), event.authorIds());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(BookUpdated event) {
+        putBook(event.bookId().value(), event.newTitle(), event.newAuthorIds());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(BookDeleted event) {
+        lock.writeLock().lock();
+        try {
+            removeBook(event.bookId().value());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(AuthorCreated event) {
+        lock.writeLock().lock();
+        try {
+            add(authors, new Entry(Type.AUTHOR, event.authorId().value(), event.fullName()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @EventListener(BookPopularityRefreshed.class)
+    public void onPopularityRefreshed() {
+        lock.readLock().lock();
+        try {
+            precompute();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Suggestion> suggest(String prefix, int limit) {
+        String normalized = normalize(prefix);
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        int boundedLimit = Math.min(limit, MAX_LIMIT);
+
+        lock.readLock().lock();
+        try {
+            if (normalized.length() <= PRECOMPUTED_PREFIX_LENGTH) {
+                List<Suggestion> top = precomputed.computeIfAbsent(normalized,
+                        p -> topSuggestions(p, MAX_LIMIT, Integer.MAX_VALUE));
+                return top.subList(0, Math.min(boundedLimit, top.size()));
+            }
+            return topSuggestions(normalized, boundedLimit, MAX_SCANNED_KEYS);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Okuma kilidi altında çağrılır
+    private List<Suggestion> topSuggestions(String normalizedPrefix, int limit, int maxScanned) {
+        // Sayılar sorgu boyunca sabit kalsın diye yenileme anındaki değişmez harita alınır
+        Comparator<Entry> ranking = ranking(bookPopularity.checkoutCounts());
+        // Heap'in başında o ana kadarki en zayıf aday durur
+        PriorityQueue<Entry> top = new PriorityQueue<>(limit + 1, ranking.reversed());
+        Set<Entry> seen = new HashSet<>();
+
+        int scanned = 0;
+        for (Entry entry : keys.subMap(normalizedPrefix, true, normalizedPrefix + Character.MAX_VALUE, false)
+                .values()) {
+            if (++scanned > maxScanned) {
+                break;
+            }
+            if (!seen.add(entry)) {
+                continue;
+            }
+            top.offer(entry);
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+        return toSuggestions(top, ranking);
+    }
+
+    /**
+     * PRECOMPUTED_PREFIX_LENGTH karaktere kadar her önekin en iyi MAX_LIMIT
+     * önerisini sıralı anahtarlar üzerinde tek geçişte hesaplar ve tabloyu
+     * değiştirir. Anahtarlar sabit kalsın diye kilit altında çağrılır.
+     */
+    private void precompute() {
+        Comparator<Entry> ranking = ranking(bookPopularity.checkoutCounts());
+        Map<String, List<Suggestion>> table = new ConcurrentHashMap<>();
+        List<PrefixGroup> groups = new ArrayList<>(PRECOMPUTED_PREFIX_LENGTH);
+        for (int length = 1; length <= PRECOMPUTED_PREFIX_LENGTH; length++) {
+            groups.add(new PrefixGroup(length, ranking));
+        }
+
+        for (Map.Entry<String, Entry> key : keys.entrySet()) {
+            String text = key.getKey().substring(0, key.getKey().indexOf(KEY_SEPARATOR));
+            for (PrefixGroup group : groups) {
+                group.offer(text, key.getValue(), table);
+            }
+        }
+        for (PrefixGroup group : groups) {
+            group.flush(table);
+        }
+        precomputed = table;
+    }
+
+    private static List<Suggestion> toSuggestions(PriorityQueue<Entry> top, Comparator<Entry> ranking) {
+        List<Entry> ranked = new ArrayList<>(top);
+        ranked.sort(ranking);
+        return ranked.stream()
+                .map(entry -> new Suggestion(entry.type(), entry.id(), entry.text()))
+                .toList();
+    }
+
+    private Comparator<Entry> ranking(Map<BookId, Long> checkoutCounts) {
+        return Comparator.comparingLong((Entry entry) -> popularity(entry, checkoutCounts)).reversed()
+                .thenComparingInt(entry -> entry.text().length())
+                .thenComparing(Entry::text)
+                .thenComparing(Entry::id);
+    }
+
+    private long popularity(Entry entry, Map<BookId, Long> checkoutCounts) {
+        if (entry.type() == Type.AUTHOR) {
+            return authorBookCounts.getOrDefault(entry.id(), 0);
+        }
+        return checkoutCounts.getOrDefault(BookId.of(entry.id()), 0L);
+    }
+
+    private void putBook(UUID bookId, String title, List<AuthorId> authorIds) {
+        lock.writeLock().lock();
+        try {
+            removeBook(bookId);
+            add(books, new Entry(Type.BOOK, bookId, title));
+            // Yazar popülerliği kitap sayısından gelir; yazarın önekleri de değişir
+            for (AuthorId authorId : authorIds) {
+                invalidate(authors.get(authorId.value()));
+            }
+            List<UUID> ids = authorIds.stream().map(AuthorId::value).toList();
+            bookAuthors.put(bookId, ids);
+            for (UUID authorId : ids) {
+                authorBookCounts.merge(authorId, 1, Integer::sum);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Aşağıdaki metotlar yazma kilidi altında çağrılır
+    private void removeBook(UUID bookId) {
+        Entry previous = books.remove(bookId);
+        if (previous != null) {
+            for (String key : keysOf(previous)) {
+                keys.remove(key);
+            }
+            invalidate(previous);
+        }
+
+        List<UUID> previousAuthors = bookAuthors.remove(bookId);
+        if (previousAuthors != null) {
+            for (UUID authorId : previousAuthors) {
+                invalidate(authors.get(authorId));
+                authorBookCounts.computeIfPresent(authorId, (id, count) -> count > 1 ? count - 1 : null);
+            }
+        }
+    }
+
+    private void add(Map<UUID, Entry> entries, Entry entry) {
+        Entry previous = entries.put(entry.id(), entry);
+        if (previous != null) {
+            for (String key : keysOf(previous)) {
+                keys.remove(key);
+            }
+            invalidate(previous);
+        }
+        for (String key : keysOf(entry)) {
+            keys.put(key, entry);
+        }
+        invalidate(entry);
+    }
+
+    /**
+     * Kaydın anahtarlarının önceden hesaplanmış öneklerini tablodan düşürür.
+     */
+    private void invalidate(Entry entry) {
+        if (entry == null) {
+            return;
+        }
+        Map<String, List<Suggestion>> table = precomputed;
+        for (String key : keysOf(entry)) {
+            String text = key.substring(0, key.indexOf(KEY_SEPARATOR));
+            for (int length = 1; length <= Math.min(PRECOMPUTED_PREFIX_LENGTH, text.length()); length++) {
+                table.remove(text.substring(0, length));
+            }
+        }
+    }
+
+    /**
+     * Metindeki her kelime başlangıcı için bir anahtar üretir; böylece
+     * "ali" öneki "Sabahattin Ali" ile de eşleşir.
+     */
+    private static List<String> keysOf(Entry entry) {
+        List<String> tokens = TurkishTextAnalyzer.tokenize(entry.text());
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < tokens.size() && i < MAX_WORD_STARTS; i++) {
+            result.add(String.join(" ", tokens.subList(i, tokens.size()))
+                    + KEY_SEPARATOR + entry.type().ordinal() + entry.id());
+        }
+        return result;
+    }
+
+    private static String normalize(String prefix) {
+        return String.join(" ", TurkishTextAnalyzer.tokenize(prefix));
+    }
+
+    private record Entry(Type type, UUID id, String text) {
+    }
+
+    /**
+     * Belirli uzunluktaki bir önekin adaylarını toplar. Anahtarlar sıralı
+     * geldiğinden önek değiştiğinde önceki önekin sonucu kesinleşir.
+     */
+    private static final class PrefixGroup {
+
+        private final int length;
+        private final Comparator<Entry> ranking;
+        private final PriorityQueue<Entry> top;
+        private final Set<Entry> seen = new HashSet<>();
+        private String prefix;
+
+        PrefixGroup(int length, Comparator<Entry> ranking) {
+            this.length = length;
+            this.ranking = ranking;
+            this.top = new PriorityQueue<>(MAX_LIMIT + 1, ranking.reversed());
+        }
+
+        void offer(String text, Entry entry, Map<String, List<Suggestion>> table) {
+            String keyPrefix = text.length() >= length ? text.substring(0, length) : null;
+            if (!Objects.equals(keyPrefix, prefix)) {
+                flush(table);
+                prefix = keyPrefix;
+            }
+            if (prefix == null || !seen.add(entry)) {
+                return;
+            }
+            top.offer(entry);
+            if (top.size() > MAX_LIMIT) {
+                top.poll();
+            }
+        }
+
+        void flush(Map<String, List<Suggestion>> table) {
+            if (prefix != null) {
+                table.put(prefix, toSuggestions(top, ranking));
+            }
+            top.clear();
+            seen.clear();
+        }
+    }
+}
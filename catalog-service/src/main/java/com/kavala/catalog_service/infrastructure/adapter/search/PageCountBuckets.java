@@ -0,0 +1,45 @@
+package com.kavala.catalog_service.infrastructure.adapter.search;
+
+/**
+ * Sayfa sayısı facet'inin aralıkları. Tüm BookSearchIndex
+ * implementasyonları aynı etiketleri üretsin diye tek yerde tanımlıdır.
+ */
+final class PageCountBuckets {
+
+    // Aralıkların alt sınırları; son aralık üstten açıktır
+    private static final int[] LOWER_BOUNDS = { 0, 100, 200, 300, 500, 1000 };
+
+    private PageCountBuckets() {
+    }
+
+    static int count() {
+        return LOWER_BOUNDS.length;
+    }
+
+    static int of(int pageCount) {
+        int bucket = 0;
+        while (bucket + 1 < LOWER_BOUNDS.length && pageCount >= LOWER_BOUNDS[bucket + 1]) {
+            bucket++;
+        }
+        return bucket;
+    }
+
+    static String label(int bucket) {
+        if (bucket + 1 == LOWER_BOUNDS.length) {
+            return LOWER_BOUNDS[bucket] + "+";
+        }
+        return LOWER_BOUNDS[bucket] + "-" + (LOWER_BOUNDS[bucket + 1] - 1);
+    }
+
+    /**
+     * Verilen sütun için aralık etiketini hesaplayan SQL CASE ifadesi.
+     */
+    static String sqlCase(String column) {
+        StringBuilder sql = new StringBuilder("CASE");
+        for (int bucket = LOWER_BOUNDS.length - 1; bucket > 0; bucket--) {
+            sql.append(" WHEN ").append(column).append(" >= ").append(LOWER_BOUNDS[bucket])
+                    .append(" THEN '").append(label(bucket)).append('\'');
+        }
+        return sql.append(" ELSE '").append(label(0)).append("' END").toString();
+    }
+}
@@ -0,0 +1,169 @@
+package com.kavala.catalog_service.infrastructure.adapter.search;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.kavala.catalog_service.domain.book.model.BookId;
+import com.kavala.catalog_service.domain.category.CategoryId;
+import com.kavala.catalog_service.domain.port.BookSearchIndex;
+import com.kavala.catalog_service.domain.publisher.PublisherId;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+
+/**
+ * BookSearchIndex port'unun PostgreSQL full-text search implementasyonu.
+ *
+ * book_read_model tablosuna başlık (ağırlık A) ve açıklamadan (ağırlık B)
+ * hem Türkçe hem İngilizce sözlükle üretilen bir tsvector sütunu eklenir.
+ * Sütun GENERATED ALWAYS ... STORED olduğundan her insert/update'te
+ * veritabanı tarafından hesaplanır; uygulamanın ayrıca yazması gerekmez.
+ * Sütun üzerindeki GIN indeksi sayesinde arama tabloyu taramaz.
+ *
+ * Sorgu websearch_to_tsquery ile iki sözlükte ayrı ayrı çözülür ve OR ile
+ * birleştirilir; sıralama ts_rank ile yapılır ve LIMIT ile sınırlanır.
+ * Facet sayıları eşleşme kümesi üzerinde tek bir GROUPING SETS sorgusu ile
+ * hesaplanır.
+ *
+ * catalog.search.engine=postgres iken etkindir. Bellek içi indeksin aksine
+ * uygulama belleği kullanmaz ve tüm instance'lar aynı sonucu görür.
+ */
+@Component
+@ConditionalOnProperty(name = "catalog.search.engine", havingValue = "postgres")
+public class PostgresFullTextBookSearchIndex implements BookSearchIndex {
+
+    // Sözlük adı açıkça verildiği için ifade IMMUTABLE'dır ve generated sütunda kullanılabilir
+    private static final String SEARCH_VECTOR = "setweight(to_tsvector('turkish', coalesce(title, '')), 'A') || "
+            + "setweight(to_tsvector('english', coalesce(title, '')), 'A') || "
+            + "setweight(to_tsvector('turkish', coalesce(description, '')), 'B') || "
+            + "setweight(to_tsvector('english', coalesce(description, '')), 'B')";
+
+    private static final String TS_QUERY = "(websearch_to_tsquery('turkish', :keyword) || "
+            + "websearch_to_tsquery('english', :keyword))";
+
+    private static final String FILTERS = " AND (CAST(:language AS text) IS NULL "
+            + "OR lower(b.language) = lower(CAST(:language AS text)))"
+            + " AND (CAST(:minPageCount AS integer) IS NULL OR b.page_count >= CAST(:minPageCount AS integer))"
+            + " AND (CAST(:maxPageCount AS integer) IS NULL OR b.page_count <= CAST(:maxPageCount AS integer))";
+
+    private static final String SEARCH_SQL = "SELECT CAST(b.id AS text) FROM book_read_model b"
+            + " WHERE b.search_vector @@ " + TS_QUERY + FILTERS
+            + " ORDER BY ts_rank(b.search_vector, " + TS_QUERY + ") DESC, b.title";
+
+    private static final String FACET_SQL = "SELECT"
+            + " CASE WHEN GROUPING(m.language) = 0 THEN 'language'"
+            + " WHEN GROUPING(m.category_id) = 0 THEN 'category'"
+            + " WHEN GROUPING(m.publisher_id) = 0 THEN 'publisher' ELSE 'pages' END,"
+            + " CASE WHEN GROUPING(m.language) = 0 THEN m.language"
+            + " WHEN GROUPING(m.category_id) = 0 THEN CAST(m.category_id AS text)"
+            + " WHEN GROUPING(m.publisher_id) = 0 THEN CAST(m.publisher_id AS text) ELSE m.page_bucket END,"
+            + " count(*)"
+            + " FROM (SELECT lower(b.language) AS language, b.category_id, b.publisher_id, "
+            + PageCountBuckets.sqlCase("b.page_count") + " AS page_bucket"
+            + " FROM book_read_model b WHERE %s" + FILTERS + ") m"
+            + " GROUP BY GROUPING SETS ((m.language), (m.category_id), (m.publisher_id), (m.page_bucket))"
+            + " ORDER BY 1, 3 DESC";
+
+    private final EntityManager entityManager;
+
+    public PostgresFullTextBookSearchIndex(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * tsvector sütununu ve GIN indeksini yoksa oluşturur. Tablo şeması
+     * Hibernate tarafından yönetildiği, JPA ise generated sütun ve GIN
+     * indeksi tanımlayamadığı için DDL burada çalıştırılır.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void ensureSchema() {
+        entityManager.createNativeQuery("ALTER TABLE book_read_model ADD COLUMN IF NOT EXISTS search_vector tsvector"
+                + " GENERATED ALWAYS AS (" + SEARCH_VECTOR + ") STORED").executeUpdate();
+        entityManager.createNativeQuery("CREATE INDEX IF NOT EXISTS idx_book_read_model_search_vector"
+                + " ON book_read_model USING GIN (search_vector)").executeUpdate();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SearchHits search(String keyword, String language, Integer minPageCount, Integer maxPageCount,
+            int limit, boolean facets) {
+        if (keyword == null || keyword.isBlank()) {
+            return new SearchHits(List.of(), emptyFacets());
+        }
+
+        Query query = entityManager.createNativeQuery(SEARCH_SQL);
+        bindFilters(query, language, minPageCount, maxPageCount);
+        query.setParameter("keyword", keyword);
+        query.setMaxResults(limit);
+
+        List<BookId> bookIds = ((List<?>) query.getResultList()).stream()
+                .map(id -> BookId.of(UUID.fromString((String) id)))
+                .toList();
+
+        return new SearchHits(bookIds, facets
+                ? countFacets(keyword, language, minPageCount, maxPageCount)
+                : emptyFacets());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public FacetCounts facets(String language, Integer minPageCount, Integer maxPageCount) {
+        return countFacets(null, language, minPageCount, maxPageCount);
+    }
+
+    private FacetCounts countFacets(String keyword, String language, Integer minPageCount, Integer maxPageCount) {
+        Query query = entityManager.createNativeQuery(
+                FACET_SQL.formatted(keyword != null ? "b.search_vector @@ " + TS_QUERY : "TRUE"));
+        bindFilters(query, language, minPageCount, maxPageCount);
+        if (keyword != null) {
+            query.setParameter("keyword", keyword);
+        }
+
+        Map<String, Long> languages = new LinkedHashMap<>();
+        Map<CategoryId, Long> categories = new LinkedHashMap<>();
+        Map<PublisherId, Long> publishers = new LinkedHashMap<>();
+        Map<String, Long> pageCounts = new LinkedHashMap<>();
+
+        for (Object row : query.getResultList()) {
+            Object[] columns = (Object[]) row;
+            String value = (String) columns[1];
+            long count = ((Number) columns[2]).longValue();
+            switch ((String) columns[0]) {
+                case "language" -> languages.put(value, count);
+                case "category" -> categories.put(CategoryId.of(UUID.fromString(value)), count);
+                case "publisher" -> publishers.put(PublisherId.of(UUID.fromString(value)), count);
+                default -> pageCounts.put(value, count);
+            }
+        }
+
+        // Sayfa aralıkları bellek içi indeksteki gibi aralık sırasıyla döner
+        Map<String, Long> pageCountBuckets = new LinkedHashMap<>();
+        for (int bucket = 0; bucket < PageCountBuckets.count(); bucket++) {
+            Long count = pageCounts.get(PageCountBuckets.label(bucket));
+            if (count != null) {
+                pageCountBuckets.put(PageCountBuckets.label(bucket), count);
+            }
+        }
+
+        return new FacetCounts(languages, categories, publishers, pageCountBuckets);
+    }
+
+    private static void bindFilters(Query query, String language, Integer minPageCount, Integer maxPageCount) {
+        query.setParameter("language", language == null || language.isBlank() ? null : language);
+        query.setParameter("minPageCount", minPageCount);
+        query.setParameter("maxPageCount", maxPageCount);
+    }
+
+    private static FacetCounts emptyFacets() {
+        return new FacetCounts(Map.of(), Map.of(), Map.of(), Map.of());
+    }
+}
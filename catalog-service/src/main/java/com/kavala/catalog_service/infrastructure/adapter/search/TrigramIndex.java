@@ -0,0 +1,291 @@
+package com.kavala.catalog_service.infrastructure.adapter.search;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.kavala.catalog_service.domain.book.model.BookId;
+
+/**
+ * Karakter trigram'ları üzerinde kurulu, thread-safe bellek içi benzerlik
+ * indeksi.
+ *
+ * Her kitap için başlık, her yazarın tam adı ve bunların 4 harf ve
+ * üzerindeki kelimeleri ayrı birer giriş (entry) olarak indekslenir; kitabın
+ * skoru girişlerinin en iyisidir. Böylece hem "suc ve ceza" gibi tam başlık
+ * sorguları hem de "dostoyevsky" gibi tek kelimelik soyadı sorguları
+ * eşleşir.
+ *
+ * Metin önce aksanları katlanarak kelimelere ayrılır; her kelime pg_trgm'deki
+ * gibi başına iki, sonuna bir boşluk eklenerek trigram'lara bölünür.
+ * Benzerlik, iki trigram kümesinin Jaccard oranıdır (ortak / birleşim).
+ *
+ * Arama yalnızca sorgunun trigram'larından en az birini içeren girişlere
+ * dokunur; ortak trigram sayıları posting listelerinden, dokunulan giriş
+ * sayısıyla orantılı bir sayaçta toplanır. Maliyet katalog boyutuyla değil
+ * sorgunun posting listelerinin uzunluğuyla büyür. En iyi k sonuç k boyutlu
+ * bir min-heap ile seçilir.
+ *
+ * Posting listeleri kutulanmamış int dizileridir; silme listede doğrusal
+ * arama yapar, bu da seyrek olan yazmalara yüklenen bir maliyettir.
+ */
+final class TrigramIndex {
+
+    private static final int MIN_WORD_ENTRY_LENGTH = 4;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final List<Entry> entries = new ArrayList<>();
+    private final Deque<Integer> freeEntryIds = new ArrayDeque<>();
+    private final Map<BookId, Document> documents = new HashMap<>();
+
+    void put(BookId bookId, String title, List<String> authorNames, String language, Integer pageCount) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(bookId);
+
+            Set<String> texts = new LinkedHashSet<>();
+            texts.add(title);
+            texts.addAll(authorNames);
+            for (String text : List.copyOf(texts)) {
+                for (String word : TurkishTextAnalyzer.tokenizeFolded(text)) {
+                    if (word.length() >= MIN_WORD_ENTRY_LENGTH) {
+                        texts.add(word);
+                    }
+                }
+            }
+
+            List<Integer> entryIds = new ArrayList<>(texts.size());
+            Set<Set<String>> seen = new HashSet<>();
+            for (String text : texts) {
+                Set<String> trigrams = trigrams(text);
+                if (trigrams.isEmpty() || !seen.add(trigrams)) {
+                    continue;
+                }
+                int entryId = allocate(new Entry(bookId, trigrams));
+                for (String trigram : trigrams) {
+                    postings.computeIfAbsent(trigram, t -> new Postings()).add(entryId);
+                }
+                entryIds.add(entryId);
+            }
+
+            documents.put(bookId, new Document(language, pageCount, entryIds));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(BookId bookId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(bookId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            entries.clear();
+            freeEntryIds.clear();
+            documents.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    List<Hit> search(String text, String language, Integer minPageCount, Integer maxPageCount,
+            double minSimilarity, int limit) {
+        Set<String> query = trigrams(text);
+        if (query.isEmpty() || limit < 1) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            // Sadece sorguyla en az bir trigram paylaşan girişlere dokunulur
+            List<Postings> lists = new ArrayList<>(query.size());
+            int postingCount = 0;
+            for (String trigram : query) {
+                Postings entryIds = postings.get(trigram);
+                if (entryIds != null) {
+                    lists.add(entryIds);
+                    postingCount += entryIds.size;
+                }
+            }
+            SharedCounts shared = new SharedCounts(postingCount);
+            for (Postings entryIds : lists) {
+                for (int i = 0; i < entryIds.size; i++) {
+                    shared.increment(entryIds.ids[i]);
+                }
+            }
+
+            // Jaccard <= ortak / |sorgu| olduğundan bu sayının altı eşiği geçemez
+            int minShared = (int) Math.ceil(minSimilarity * query.size());
+
+            Map<BookId, Double> best = new HashMap<>();
+            for (int slot = 0; slot < shared.keys.length; slot++) {
+                int common = shared.counts[slot];
+                if (common == 0 || common < minShared) {
+                    continue;
+                }
+                Entry entry = entries.get(shared.keys[slot]);
+                double similarity = (double) common / (query.size() + entry.trigrams().size() - common);
+                if (similarity >= minSimilarity) {
+                    best.merge(entry.bookId(), similarity, Math::max);
+                }
+            }
+
+            PriorityQueue<Hit> top = new PriorityQueue<>(Comparator.comparingDouble(Hit::similarity));
+            for (Map.Entry<BookId, Double> hit : best.entrySet()) {
+                if (!documents.get(hit.getKey()).matches(language, minPageCount, maxPageCount)) {
+                    continue;
+                }
+                if (top.size() < limit) {
+                    top.add(new Hit(hit.getKey(), hit.getValue()));
+                } else if (hit.getValue() > top.peek().similarity()) {
+                    top.poll();
+                    top.add(new Hit(hit.getKey(), hit.getValue()));
+                }
+            }
+
+            List<Hit> hits = new ArrayList<>(top);
+            hits.sort(Comparator.comparingDouble(Hit::similarity).reversed());
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * pg_trgm ile aynı kurala göre trigram kümesi: her kelime "  kelime "
+     * olarak doldurulur ve üçlü pencerelere bölünür.
+     */
+    static Set<String> trigrams(String text) {
+        Set<String> trigrams = new HashSet<>();
+        for (String word : TurkishTextAnalyzer.tokenizeFolded(text)) {
+            String padded = "  " + word + " ";
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                trigrams.add(padded.substring(i, i + 3));
+            }
+        }
+        return trigrams;
+    }
+
+    // Yazma kilidi altında çağrılır
+    private void removeInternal(BookId bookId) {
+        Document previous = documents.remove(bookId);
+        if (previous == null) {
+            return;
+        }
+        for (Integer entryId : previous.entryIds()) {
+            for (String trigram : entries.get(entryId).trigrams()) {
+                Postings entryIds = postings.get(trigram);
+                if (entryIds != null) {
+                    entryIds.remove(entryId);
+                    if (entryIds.size == 0) {
+                        postings.remove(trigram);
+                    }
+                }
+            }
+            entries.set(entryId, null);
+            freeEntryIds.push(entryId);
+        }
+    }
+
+    private int allocate(Entry entry) {
+        Integer free = freeEntryIds.poll();
+        if (free != null) {
+            entries.set(free, entry);
+            return free;
+        }
+        entries.add(entry);
+        return entries.size() - 1;
+    }
+
+    record Hit(BookId bookId, double similarity) {
+    }
+
+    /**
+     * Bir trigram'ı içeren giriş id'leri; sırasız, büyüyebilen int dizisi.
+     * Silmede son eleman silinenin yerine taşınır.
+     */
+    private static final class Postings {
+
+        private int[] ids = new int[4];
+        private int size;
+
+        void add(int entryId) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = entryId;
+        }
+
+        void remove(int entryId) {
+            for (int i = 0; i < size; i++) {
+                if (ids[i] == entryId) {
+                    ids[i] = ids[--size];
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Giriş id'si başına ortak trigram sayacı; açık adresli int -> int
+     * tablosu. Kapasite, toplanacak posting sayısının (dokunulan giriş
+     * sayısının üst sınırı) iki katından büyük ilk ikinin kuvvetidir; boş
+     * yuvaların sayacı 0 kalır.
+     */
+    private static final class SharedCounts {
+
+        private final int[] keys;
+        private final int[] counts;
+        private final int mask;
+
+        SharedCounts(int maxKeys) {
+            int capacity = Integer.highestOneBit(Math.max(maxKeys, 1) * 2 - 1) << 1;
+            this.keys = new int[capacity];
+            this.counts = new int[capacity];
+            this.mask = capacity - 1;
+        }
+
+        void increment(int entryId) {
+            int slot = (entryId * 0x9E3779B9) & mask;
+            while (counts[slot] != 0 && keys[slot] != entryId) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = entryId;
+            counts[slot]++;
+        }
+    }
+
+    private record Entry(BookId bookId, Set<String> trigrams) {
+    }
+
+    private record Document(String language, Integer pageCount, List<Integer> entryIds) {
+
+        boolean matches(String languageFilter, Integer minPageCount, Integer maxPageCount) {
+            if (languageFilter != null && !languageFilter.isBlank() && !languageFilter.equalsIgnoreCase(language)) {
+                return false;
+            }
+            if (minPageCount != null && (pageCount == null || pageCount < minPageCount)) {
+                return false;
+            }
+            return maxPageCount == null || (pageCount != null && pageCount <= maxPageCount);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.kavala.catalog_service.infrastructure.adapter.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Arama indeksi için metni normalize edilmiş terimlere ayırır.
+ *
+ * Harf/rakam olmayan karakterler ayraç kabul edilir. Küçük harfe çevirme
+ * Türkçe'ye duyarlıdır: I, İ, ı ve i aynı "i" harfine katlanır. Böylece
+ * "İSTANBUL", "Istanbul" ve "istanbul" aynı terime düşer; Locale.ROOT ile
+ * oluşan "i̇" (i + birleşik nokta) gibi bozuk terimler indekse girmez.
+ */
+public final class TurkishTextAnalyzer {
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    private TurkishTextAnalyzer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return terms;
+        }
+
+        StringBuilder current = new StringBuilder();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                current.append(fold(c));
+            } else if (!current.isEmpty()) {
+                terms.add(current.toString());
+                current.setLength(0);
+            }
+        }
+        if (!current.isEmpty()) {
+            terms.add(current.toString());
+        }
+        return terms;
+    }
+
+    /**
+     * tokenize ile aynıdır, ek olarak aksanları da katlar: ş/s, ğ/g, ç/c,
+     * ö/o, ü/u (ı/i zaten katlanır). Bulanık (fuzzy) aramada "Sefiller" ile
+     * "Şefiller" veya "Goğe" ile "Göge" aynı terime düşer.
+     */
+    public static List<String> tokenizeFolded(String text) {
+        List<String> terms = tokenize(text);
+        terms.replaceAll(TurkishTextAnalyzer::stripDiacritics);
+        return terms;
+    }
+
+    private static String stripDiacritics(String term) {
+        for (int i = 0; i < term.length(); i++) {
+            if (term.charAt(i) > 0x7F) {
+                String decomposed = Normalizer.normalize(term, Normalizer.Form.NFD);
+                return COMBINING_MARKS.matcher(decomposed).replaceAll("");
+            }
+        }
+        return term;
+    }
+
+    private static char fold(char c) {
+        return switch (c) {
+            case 'I', 'İ', 'ı' -> 'i';
+            default -> Character.toLowerCase(c);
+        };
+    }
+}
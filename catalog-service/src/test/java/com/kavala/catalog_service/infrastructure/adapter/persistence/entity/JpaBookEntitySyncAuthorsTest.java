@@ -0,0 +1,127 @@
+package com.kavala.catalog_service.infrastructure.adapter.persistence.entity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * JpaBookEntity.syncAuthors için birim testleri.
+ *
+ * syncAuthors yalnızca değişen yazar linklerini koleksiyondan çıkarıp
+ * ekler; kalan linklerin instance'larına dokunmaz. Testler koleksiyonun
+ * güncelleme öncesi ve sonrasındaki instance'larını karşılaştırır ve
+ * veritabanı olmadan çalışır.
+ */
+class JpaBookEntitySyncAuthorsTest {
+
+    private static final int AUTHORS = 10;
+
+    @Test
+    void unchangedAuthorsKeepEveryLink() {
+        List<JpaAuthorEntity> authors = authors(AUTHORS);
+        List<UUID> sameIds = ids(authors);
+
+        JpaBookEntity book = bookWith(authors);
+        int changed = changedLinks(book, entity -> entity.syncAuthors(sameIds, resolver(authors)));
+
+        assertEquals(0, changed);
+        assertEquals(Set.copyOf(sameIds), linkedAuthorIds(book));
+    }
+
+    @Test
+    void replacingOneAuthorChangesOnlyThatLink() {
+        List<JpaAuthorEntity> authors = authors(AUTHORS + 1);
+        List<JpaAuthorEntity> initial = authors.subList(0, AUTHORS);
+        List<UUID> replaced = new ArrayList<>(ids(initial));
+        replaced.set(0, authors.get(AUTHORS).getId());
+
+        JpaBookEntity book = bookWith(initial);
+        int changed = changedLinks(book, entity -> entity.syncAuthors(replaced, resolver(authors)));
+
+        // Biri çıkan, biri eklenen link
+        assertEquals(2, changed);
+        assertEquals(Set.copyOf(replaced), linkedAuthorIds(book));
+    }
+
+    @Test
+    void reorderedAuthorsAreTreatedAsUnchanged() {
+        List<JpaAuthorEntity> authors = authors(AUTHORS);
+        List<UUID> reversed = new ArrayList<>(ids(authors));
+        Collections.reverse(reversed);
+
+        JpaBookEntity book = bookWith(authors);
+        int changed = changedLinks(book, entity -> entity.syncAuthors(reversed, resolver(authors)));
+
+        assertEquals(0, changed);
+        assertTrue(linkedAuthorIds(book).containsAll(reversed));
+    }
+
+    /**
+     * Güncellemede koleksiyondan çıkan ve koleksiyona yeni giren link
+     * instance'larının toplam sayısı.
+     */
+    private static int changedLinks(JpaBookEntity book, Consumer<JpaBookEntity> update) {
+        Set<JpaBookAuthorEntity> before = identitySet(book.getBookAuthors());
+        update.accept(book);
+        Set<JpaBookAuthorEntity> after = identitySet(book.getBookAuthors());
+
+        long deletes = before.stream().filter(link -> !after.contains(link)).count();
+        long inserts = after.stream().filter(link -> !before.contains(link)).count();
+        return (int) (deletes + inserts);
+    }
+
+    private static Set<JpaBookAuthorEntity> identitySet(List<JpaBookAuthorEntity> links) {
+        Set<JpaBookAuthorEntity> set = Collections.newSetFromMap(new IdentityHashMap<>());
+        set.addAll(links);
+        return set;
+    }
+
+    private static JpaBookEntity bookWith(List<JpaAuthorEntity> authors) {
+        Instant now = Instant.now();
+        JpaBookEntity book = new JpaBookEntity(UUID.randomUUID(), "Anthology",
+                new JpaCategoryEntity(UUID.randomUUID(), "Fiction", now),
+                new JpaPublisherEntity(UUID.randomUUID(), "Publisher", now),
+                LocalDate.of(2020, 1, 1), 300, "en", null, now, now);
+        authors.forEach(book::addAuthor);
+        return book;
+    }
+
+    private static List<JpaAuthorEntity> authors(int count) {
+        List<JpaAuthorEntity> authors = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            authors.add(new JpaAuthorEntity(UUID.randomUUID(), "Author " + i, LocalDate.of(1970, 1, 1), "TR",
+                    Instant.now()));
+        }
+        return authors;
+    }
+
+    private static List<UUID> ids(List<JpaAuthorEntity> authors) {
+        return authors.stream().map(JpaAuthorEntity::getId).toList();
+    }
+
+    private static Function<UUID, JpaAuthorEntity> resolver(List<JpaAuthorEntity> authors) {
+        Map<UUID, JpaAuthorEntity> byId = authors.stream()
+                .collect(Collectors.toMap(JpaAuthorEntity::getId, author -> author));
+        return byId::get;
+    }
+
+    private static Set<UUID> linkedAuthorIds(JpaBookEntity book) {
+        return book.getBookAuthors().stream()
+                .map(link -> link.getId().getAuthorId())
+                .collect(Collectors.toSet());
+    }
+}
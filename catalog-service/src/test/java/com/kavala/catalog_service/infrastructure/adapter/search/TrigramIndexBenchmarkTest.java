@@ -0,0 +1,170 @@
+package com.kavala.catalog_service.infrastructure.adapter.search;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+
+import com.kavala.catalog_service.domain.book.model.BookId;
+
+/**
+ * Trigram tabanlı bulanık arama ile mevcut "contains" yolunu
+ * (lower(title) LIKE '%kw%' ile eşdeğer doğrusal tarama) karşılaştırır.
+ *
+ * Sentetik bir katalog içine bilinen kitaplar yerleştirilir ve yazım
+ * hatalı / aksansız sorgularla aranır. Her iki yol için isabet oranı ve
+ * sorgu başına ortalama süre TestReporter ile raporlanır; bulanık aramanın
+ * hatalı sorgularda hedef kitabı bulduğu doğrulanır.
+ *
+ * Uzun sürdüğü için varsayılan test çalıştırmasına dahil değildir;
+ * mvn test -Pbenchmark ile çalıştırılır.
+ */
+@Tag("benchmark")
+class TrigramIndexBenchmarkTest {
+
+    private static final int CATALOG_SIZE = 50_000;
+    private static final int ITERATIONS = 200;
+    private static final int TOP_K = 5;
+
+    private static final String[][] KNOWN_BOOKS = {
+            { "Suç ve Ceza", "Fyodor Dostoyevski" },
+            { "Kürk Mantolu Madonna", "Sabahattin Ali" },
+            { "İnce Memed", "Yaşar Kemal" },
+            { "Çalıkuşu", "Reşat Nuri Güntekin" },
+            { "Saatleri Ayarlama Enstitüsü", "Ahmet Hamdi Tanpınar" },
+    };
+
+    // Sorgu -> beklenen kitabın KNOWN_BOOKS içindeki sırası
+    private static final Map<String, Integer> MISSPELLED_QUERIES = new LinkedHashMap<>();
+
+    static {
+        MISSPELLED_QUERIES.put("suc ve ceza", 0);
+        MISSPELLED_QUERIES.put("dostoyevsky", 0);
+        MISSPELLED_QUERIES.put("kurk mantolu madona", 1);
+        MISSPELLED_QUERIES.put("sabahatin ali", 1);
+        MISSPELLED_QUERIES.put("ince mehmed", 2);
+        MISSPELLED_QUERIES.put("yasar kemal", 2);
+        MISSPELLED_QUERIES.put("calikusu", 3);
+        MISSPELLED_QUERIES.put("saatleri ayarlama enstitusu", 4);
+        MISSPELLED_QUERIES.put("tanpinar", 4);
+    }
+
+    @Test
+    void fuzzySearchFindsMisspelledTitlesAndAuthors(TestReporter reporter) {
+        Random random = new Random(42);
+        List<String> vocabulary = vocabulary(random, 2_000);
+
+        TrigramIndex index = new TrigramIndex();
+        List<String> titles = new ArrayList<>(CATALOG_SIZE);
+        List<String> authors = new ArrayList<>(CATALOG_SIZE);
+        List<BookId> bookIds = new ArrayList<>(CATALOG_SIZE);
+
+        for (String[] book : KNOWN_BOOKS) {
+            add(index, titles, authors, bookIds, book[0], book[1]);
+        }
+        while (bookIds.size() < CATALOG_SIZE) {
+            add(index, titles, authors, bookIds, phrase(random, vocabulary, 2 + random.nextInt(4)),
+                    phrase(random, vocabulary, 2));
+        }
+
+        int fuzzyHits = 0;
+        int containsHits = 0;
+        for (Map.Entry<String, Integer> query : MISSPELLED_QUERIES.entrySet()) {
+            BookId expected = bookIds.get(query.getValue());
+
+            boolean fuzzyFound = index.search(query.getKey(), null, null, null, 0.3, TOP_K).stream()
+                    .anyMatch(hit -> hit.bookId().equals(expected));
+            boolean containsFound = contains(titles, authors, bookIds, query.getKey(), TOP_K).contains(expected);
+
+            assertTrue(fuzzyFound, "fuzzy search should find the book for '" + query.getKey() + "'");
+            fuzzyHits += fuzzyFound ? 1 : 0;
+            containsHits += containsFound ? 1 : 0;
+        }
+
+        long fuzzyNanos = time(() -> MISSPELLED_QUERIES.keySet()
+                .forEach(query -> index.search(query, null, null, null, 0.3, TOP_K)));
+        long containsNanos = time(() -> MISSPELLED_QUERIES.keySet()
+                .forEach(query -> contains(titles, authors, bookIds, query, TOP_K)));
+
+        int queries = MISSPELLED_QUERIES.size();
+        reporter.publishEntry(Map.of(
+                "catalog", CATALOG_SIZE + " books, " + queries + " misspelled queries",
+                "contains", String.format(Locale.ROOT, "recall %d/%d, %.1f us/query", containsHits, queries,
+                        containsNanos / 1_000.0 / queries / ITERATIONS),
+                "trigram", String.format(Locale.ROOT, "recall %d/%d, %.1f us/query", fuzzyHits, queries,
+                        fuzzyNanos / 1_000.0 / queries / ITERATIONS)));
+
+        assertTrue(fuzzyHits > containsHits);
+    }
+
+    /**
+     * Mevcut yolun bellek içi eşdeğeri: küçük harfe çevrilmiş başlık ve yazar
+     * adında alt dize araması, tüm katalog üzerinde.
+     */
+    private static List<BookId> contains(List<String> titles, List<String> authors, List<BookId> bookIds,
+            String keyword, int limit) {
+        String needle = keyword.toLowerCase(Locale.ROOT);
+        List<BookId> hits = new ArrayList<>();
+        for (int i = 0; i < titles.size() && hits.size() < limit; i++) {
+            if (titles.get(i).toLowerCase(Locale.ROOT).contains(needle)
+                    || authors.get(i).toLowerCase(Locale.ROOT).contains(needle)) {
+                hits.add(bookIds.get(i));
+            }
+        }
+        return hits;
+    }
+
+    private static long time(Runnable queries) {
+        for (int i = 0; i < ITERATIONS / 4; i++) {
+            queries.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            queries.run();
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static void add(TrigramIndex index, List<String> titles, List<String> authors, List<BookId> bookIds,
+            String title, String author) {
+        BookId bookId = BookId.generate();
+        index.put(bookId, title, List.of(author), "tr", 200);
+        titles.add(title);
+        authors.add(author);
+        bookIds.add(bookId);
+    }
+
+    private static String phrase(Random random, List<String> vocabulary, int words) {
+        StringBuilder phrase = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                phrase.append(' ');
+            }
+            String word = vocabulary.get(random.nextInt(vocabulary.size()));
+            phrase.append(Character.toUpperCase(word.charAt(0))).append(word, 1, word.length());
+        }
+        return phrase.toString();
+    }
+
+    private static List<String> vocabulary(Random random, int size) {
+        String letters = "abcçdefgğhıijklmnoöprsştuüvyz";
+        List<String> words = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            int length = 3 + random.nextInt(7);
+            StringBuilder word = new StringBuilder(length);
+            for (int j = 0; j < length; j++) {
+                word.append(letters.charAt(random.nextInt(letters.length())));
+            }
+            words.add(word.toString());
+        }
+        return words;
+    }
+}
@@ -3,12 +3,15 @@ package com.kavala.inventory_service.api.rest;
 import com.kavala.inventory_service.api.rest.dto.BookCopyResponse;
 import com.kavala.inventory_service.api.rest.dto.CopiesSummaryResponse;
 import com.kavala.inventory_service.api.rest.dto.CopyAvailabilityResponse;
+import com.kavala.inventory_service.api.rest.dto.CopyStatusResponse;
 import com.kavala.inventory_service.application.query.availability.CheckCopyAvailabilityHandler;
 import com.kavala.inventory_service.application.query.availability.CheckCopyAvailabilityQuery;
 import com.kavala.inventory_service.application.query.get.GetBookCopyHandler;
 import com.kavala.inventory_service.application.query.get.GetBookCopyQuery;
 import com.kavala.inventory_service.application.query.list.ListCopiesByBookHandler;
 import com.kavala.inventory_service.application.query.list.ListCopiesByBookQuery;
+import com.kavala.inventory_service.application.query.status.GetCopyStatusHandler;
+import com.kavala.inventory_service.application.query.status.GetCopyStatusQuery;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -26,14 +29,17 @@ public class BookCopyQueryController {
     private final GetBookCopyHandler getBookCopyHandler;
     private final ListCopiesByBookHandler listCopiesByBookHandler;
     private final CheckCopyAvailabilityHandler checkCopyAvailabilityHandler;
+    private final GetCopyStatusHandler getCopyStatusHandler;
 
     public BookCopyQueryController(
             GetBookCopyHandler getBookCopyHandler,
             ListCopiesByBookHandler listCopiesByBookHandler,
-            CheckCopyAvailabilityHandler checkCopyAvailabilityHandler) {
+            CheckCopyAvailabilityHandler checkCopyAvailabilityHandler,
+            GetCopyStatusHandler getCopyStatusHandler) {
         this.getBookCopyHandler = Objects.requireNonNull(getBookCopyHandler);
         this.listCopiesByBookHandler = Objects.requireNonNull(listCopiesByBookHandler);
         this.checkCopyAvailabilityHandler = Objects.requireNonNull(checkCopyAvailabilityHandler);
+        this.getCopyStatusHandler = Objects.requireNonNull(getCopyStatusHandler);
     }
 
     /**
@@ -58,6 +64,26 @@ public class BookCopyQueryController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * GET /api/v1/book-copies/{id}/status
+     * Returns existence, book, status and location of a copy in one call.
+     * An unknown copy answers 200 with exists=false.
+     */
+    @GetMapping("/{id}/status")
+    public ResponseEntity<CopyStatusResponse> getCopyStatus(@PathVariable UUID id) {
+        GetCopyStatusQuery.Result result = getCopyStatusHandler.handle(GetCopyStatusQuery.of(id));
+
+        CopyStatusResponse response = new CopyStatusResponse(
+                result.id(),
+                result.exists(),
+                result.bookId(),
+                result.status(),
+                result.shelfLocation(),
+                result.isAvailable());
+
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * GET /api/v1/book-copies/by-book/{bookId}
      * Lists all copies of a specific book.
@@ -0,0 +1,15 @@
+package com.kavala.inventory_service.api.rest.dto;
+
+import java.util.UUID;
+
+/**
+ * Response DTO for the combined copy status check.
+ */
+public record CopyStatusResponse(
+        UUID id,
+        boolean exists,
+        UUID bookId,
+        String status,
+        String shelfLocation,
+        boolean available) {
+}
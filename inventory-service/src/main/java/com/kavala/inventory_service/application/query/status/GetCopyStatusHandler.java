@@ -0,0 +1,46 @@
+package com.kavala.inventory_service.application.query.status;
+
+import com.kavala.inventory_service.core.cqrs.QueryHandler;
+import com.kavala.inventory_service.domain.model.BookCopy;
+import com.kavala.inventory_service.domain.model.BookCopyId;
+import com.kavala.inventory_service.domain.port.BookCopyRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Objects;
+
+/**
+ * Handler for GetCopyStatusQuery.
+ * Answers existence, status and location of a copy with a single lookup.
+ */
+@Service
+@Transactional(readOnly = true)
+public class GetCopyStatusHandler implements QueryHandler<GetCopyStatusQuery, GetCopyStatusQuery.Result> {
+
+    private final BookCopyRepository bookCopyRepository;
+
+    public GetCopyStatusHandler(BookCopyRepository bookCopyRepository) {
+        this.bookCopyRepository = Objects.requireNonNull(bookCopyRepository, "BookCopyRepository cannot be null");
+    }
+
+    @Override
+    public GetCopyStatusQuery.Result handle(GetCopyStatusQuery query) {
+        Objects.requireNonNull(query, "Query cannot be null");
+
+        return bookCopyRepository.findById(BookCopyId.of(query.getBookCopyId()))
+                .map(this::mapToResult)
+                .orElseGet(() -> GetCopyStatusQuery.Result.notFound(query.getBookCopyId()));
+    }
+
+    private GetCopyStatusQuery.Result mapToResult(BookCopy bookCopy) {
+        return new GetCopyStatusQuery.Result(
+                bookCopy.getId().getValue(),
+                true,
+                bookCopy.getBookId().getValue(),
+                bookCopy.getStatus().name(),
+                bookCopy.getShelfLocation()
+                        .map(loc -> loc.getFullLocation())
+                        .orElse(null),
+                bookCopy.isAvailable());
+    }
+}
@@ -0,0 +1,49 @@
+package com.kavala.inventory_service.application.query.status;
+
+import com.kavala.inventory_service.core.cqrs.Query;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Query to retrieve existence, status and location of a single book copy.
+ * Unlike {@code GetBookCopyQuery} an unknown copy is a result, not an error,
+ * so callers get everything they need from one request.
+ */
+public class GetCopyStatusQuery implements Query<GetCopyStatusQuery.Result> {
+
+    private final UUID bookCopyId;
+
+    private GetCopyStatusQuery(UUID bookCopyId) {
+        this.bookCopyId = Objects.requireNonNull(bookCopyId, "BookCopyId cannot be null");
+    }
+
+    public static GetCopyStatusQuery of(UUID bookCopyId) {
+        return new GetCopyStatusQuery(bookCopyId);
+    }
+
+    public UUID getBookCopyId() {
+        return bookCopyId;
+    }
+
+    /**
+     * Query result containing the copy's status summary.
+     */
+    public record Result(
+            UUID id,
+            boolean exists,
+            UUID bookId,
+            String status,
+            String shelfLocation,
+            boolean isAvailable) {
+
+        public static Result notFound(UUID id) {
+            return new Result(id, false, null, null, null, false);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("GetCopyStatusQuery{bookCopyId=%s}", bookCopyId);
+    }
+}
@@ -1,10 +1,13 @@
 package com.kavala.loan_service.api.rest;
 
 import com.kavala.loan_service.api.rest.dto.CheckoutLoanRequest;
+import com.kavala.loan_service.api.rest.dto.FineAssessmentResponse;
 import com.kavala.loan_service.api.rest.dto.FineResponse;
 import com.kavala.loan_service.api.rest.dto.LoanResponse;
 import com.kavala.loan_service.application.command.checkout.CheckoutLoanCommand;
 import com.kavala.loan_service.application.command.checkout.CheckoutLoanHandler;
+import com.kavala.loan_service.application.command.fine.AssessFinesCommand;
+import com.kavala.loan_service.application.command.fine.AssessFinesHandler;
 import com.kavala.loan_service.application.command.fine.CalculateFineCommand;
 import com.kavala.loan_service.application.command.fine.CalculateFineHandler;
 import com.kavala.loan_service.application.command.overdue.MarkLoanOverdueCommand;
@@ -22,6 +25,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.net.URI;
+import java.time.LocalDate;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -37,6 +41,7 @@ public class LoanCommandController {
     private final ReturnLoanHandler returnLoanHandler;
     private final MarkLoanOverdueHandler markLoanOverdueHandler;
     private final CalculateFineHandler calculateFineHandler;
+    private final AssessFinesHandler assessFinesHandler;
     private final GetLoanHandler getLoanHandler;
 
     public LoanCommandController(
@@ -44,11 +49,13 @@ public class LoanCommandController {
             ReturnLoanHandler returnLoanHandler,
             MarkLoanOverdueHandler markLoanOverdueHandler,
             CalculateFineHandler calculateFineHandler,
+            AssessFinesHandler assessFinesHandler,
             GetLoanHandler getLoanHandler) {
         this.checkoutLoanHandler = Objects.requireNonNull(checkoutLoanHandler);
         this.returnLoanHandler = Objects.requireNonNull(returnLoanHandler);
         this.markLoanOverdueHandler = Objects.requireNonNull(markLoanOverdueHandler);
         this.calculateFineHandler = Objects.requireNonNull(calculateFineHandler);
+        this.assessFinesHandler = Objects.requireNonNull(assessFinesHandler);
         this.getLoanHandler = Objects.requireNonNull(getLoanHandler);
     }
 
@@ -119,6 +126,18 @@ public class LoanCommandController {
         return ResponseEntity.ok(FineResponse.from(id, fineAmount));
     }
 
+    /**
+     * Recalculate fines of all overdue loans in one batch.
+     * POST /api/loans/fines/assessment?asOf=2026-01-31
+     */
+    @PostMapping("/fines/assessment")
+    public ResponseEntity<FineAssessmentResponse> assessFines(
+            @RequestParam(required = false) LocalDate asOf) {
+        AssessFinesCommand command = asOf == null ? AssessFinesCommand.today() : AssessFinesCommand.of(asOf);
+
+        return ResponseEntity.ok(FineAssessmentResponse.from(assessFinesHandler.handle(command)));
+    }
+
     /**
      * Exception thrown when loan is not found.
      */
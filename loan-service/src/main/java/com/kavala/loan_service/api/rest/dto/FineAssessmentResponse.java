@@ -0,0 +1,45 @@
+package com.kavala.loan_service.api.rest.dto;
+
+import com.kavala.loan_service.domain.port.FineAssessmentPort.FineAssessmentSummary;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Response DTO for a bulk fine assessment.
+ */
+public record FineAssessmentResponse(
+        LocalDate asOf,
+        boolean skipped,
+        long assessedLoans,
+        long updatedLoans,
+        long members,
+        BigDecimal totalAmount,
+        String currency,
+        List<MemberFine> topMembers) {
+
+    public static FineAssessmentResponse from(FineAssessmentSummary summary) {
+        return new FineAssessmentResponse(
+                summary.asOf(),
+                summary.skipped(),
+                summary.assessedLoans(),
+                summary.updatedLoans(),
+                summary.members(),
+                summary.totalFine().getAmount(),
+                summary.totalFine().getCurrency(),
+                summary.topMembers().stream()
+                        .map(total -> new MemberFine(
+                                total.memberId().getValue(),
+                                total.overdueLoans(),
+                                total.total().getAmount()))
+                        .toList());
+    }
+
+    /**
+     * Fine total of a single member.
+     */
+    public record MemberFine(UUID memberId, long overdueLoans, BigDecimal amount) {
+    }
+}
@@ -1,18 +1,33 @@
 package com.kavala.loan_service.application.command.checkout;
 
+import com.kavala.loan_service.application.command.checkout.CheckoutPreconditions.Check;
 import com.kavala.loan_service.core.cqrs.CommandHandler;
 import com.kavala.loan_service.domain.model.BookCopyId;
 import com.kavala.loan_service.domain.model.Loan;
 import com.kavala.loan_service.domain.model.LoanId;
 import com.kavala.loan_service.domain.model.MemberId;
+import com.kavala.loan_service.domain.port.CatalogCheckoutPort;
 import com.kavala.loan_service.domain.port.EventPublisher;
 import com.kavala.loan_service.domain.port.InventoryCopyPort;
+import com.kavala.loan_service.domain.port.InventoryCopyPort.BookCopyNotAvailableException;
+import com.kavala.loan_service.domain.port.InventoryCopyPort.BookCopyNotFoundException;
+import com.kavala.loan_service.domain.port.InventoryCopyPort.CopyStatus;
 import com.kavala.loan_service.domain.port.LoanRepository;
 import com.kavala.loan_service.domain.port.MemberEligibilityPort;
+import com.kavala.loan_service.domain.port.MemberEligibilityPort.MemberEligibility;
+import com.kavala.loan_service.domain.port.MemberEligibilityPort.MemberNotEligibleException;
+import com.kavala.loan_service.domain.port.MemberEligibilityPort.MemberNotFoundException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.List;
 import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Handler for CheckoutLoanCommand.
@@ -20,6 +35,12 @@ import java.util.Objects;
  * 
  * Follows CQRS pattern by separating command handling from queries.
  * Uses domain events for eventual consistency with other bounded contexts.
+ *
+ * The member's active loan limit reported by member-service is only enforced
+ * when {@code loan-service.checkout.enforce-loan-limit} is true.
+ *
+ * Each committed checkout is reported to catalog-service for its popularity
+ * ranking, using the book id from the copy status response.
  */
 @Service
 @Transactional
@@ -29,17 +50,28 @@ public class CheckoutLoanHandler implements CommandHandler<CheckoutLoanCommand,
     private final MemberEligibilityPort memberEligibilityPort;
     private final InventoryCopyPort inventoryCopyPort;
     private final EventPublisher eventPublisher;
+    private final CheckoutPreconditions checkoutPreconditions;
+    private final CatalogCheckoutPort catalogCheckoutPort;
+    private final boolean enforceLoanLimit;
 
     public CheckoutLoanHandler(
             LoanRepository loanRepository,
             MemberEligibilityPort memberEligibilityPort,
             InventoryCopyPort inventoryCopyPort,
-            EventPublisher eventPublisher) {
+            EventPublisher eventPublisher,
+            CheckoutPreconditions checkoutPreconditions,
+            CatalogCheckoutPort catalogCheckoutPort,
+            @Value("${loan-service.checkout.enforce-loan-limit:false}") boolean enforceLoanLimit) {
         this.loanRepository = Objects.requireNonNull(loanRepository, "LoanRepository cannot be null");
         this.memberEligibilityPort = Objects.requireNonNull(memberEligibilityPort,
                 "MemberEligibilityPort cannot be null");
         this.inventoryCopyPort = Objects.requireNonNull(inventoryCopyPort, "InventoryCopyPort cannot be null");
         this.eventPublisher = Objects.requireNonNull(eventPublisher, "EventPublisher cannot be null");
+        this.checkoutPreconditions = Objects.requireNonNull(checkoutPreconditions,
+                "CheckoutPreconditions cannot be null");
+        this.catalogCheckoutPort = Objects.requireNonNull(catalogCheckoutPort,
+                "CatalogCheckoutPort cannot be null");
+        this.enforceLoanLimit = enforceLoanLimit;
     }
 
     @Override
@@ -50,11 +82,33 @@ public class CheckoutLoanHandler implements CommandHandler<CheckoutLoanCommand,
         MemberId memberId = MemberId.of(command.getMemberId());
         BookCopyId bookCopyId = BookCopyId.of(command.getBookCopyId());
 
-        // Validate member eligibility
-        memberEligibilityPort.validateEligibility(memberId);
-
-        // Validate book copy availability
-        inventoryCopyPort.validateAvailability(bookCopyId);
+        // Validate member eligibility and book copy availability concurrently,
+        // one status request per service. Failures are reported in the same
+        // precedence as the sequential checks.
+        AtomicReference<MemberEligibility> member = new AtomicReference<>();
+        AtomicLong activeLoans = new AtomicLong();
+        AtomicReference<CopyStatus> copy = new AtomicReference<>();
+        checkoutPreconditions.verify(List.of(
+                new Check("member-status",
+                        () -> {
+                            member.set(memberEligibilityPort.checkEligibility(memberId));
+                            if (!member.get().exists() || !member.get().canBorrow()) {
+                                return false;
+                            }
+                            if (!enforceLoanLimit) {
+                                return true;
+                            }
+                            // Overlaps with the copy check instead of delaying both
+                            activeLoans.set(loanRepository.countActiveByMemberId(memberId));
+                            return member.get().allowsAnotherLoan(activeLoans.get());
+                        },
+                        () -> memberFailure(memberId, member.get(), activeLoans.get())),
+                new Check("copy-status",
+                        () -> {
+                            copy.set(inventoryCopyPort.checkStatus(bookCopyId));
+                            return copy.get().exists() && copy.get().available();
+                        },
+                        () -> copyFailure(bookCopyId, copy.get()))));
 
         // Check if book is already on loan
         loanRepository.findActiveByBookCopyId(bookCopyId).ifPresent(existingLoan -> {
@@ -73,9 +127,39 @@ public class CheckoutLoanHandler implements CommandHandler<CheckoutLoanCommand,
         // Publish domain events
         eventPublisher.publishAll(savedLoan.pullDomainEvents());
 
+        // Count the checkout in the catalog only once the loan is committed
+        UUID bookId = copy.get().bookId();
+        if (bookId != null) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    catalogCheckoutPort.recordCheckout(bookId);
+                }
+            });
+        }
+
         return savedLoan.getId();
     }
 
+    private static RuntimeException memberFailure(MemberId memberId, MemberEligibility eligibility,
+            long activeLoans) {
+        if (!eligibility.exists()) {
+            return new MemberNotFoundException(memberId);
+        }
+        if (!eligibility.canBorrow()) {
+            return new MemberNotEligibleException(memberId, "Member is not eligible to borrow");
+        }
+        return new MemberNotEligibleException(memberId, String.format(
+                "Active loan limit reached (%d of %d)", activeLoans, eligibility.maxActiveLoans()));
+    }
+
+    private static RuntimeException copyFailure(BookCopyId bookCopyId, CopyStatus status) {
+        if (!status.exists()) {
+            return new BookCopyNotFoundException(bookCopyId);
+        }
+        return new BookCopyNotAvailableException(bookCopyId, "Copy is not available for loan");
+    }
+
     /**
      * Exception thrown when book is already on loan.
      */
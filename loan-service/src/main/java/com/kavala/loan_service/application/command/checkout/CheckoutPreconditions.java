@@ -0,0 +1,164 @@
+package com.kavala.loan_service.application.command.checkout;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Runs the remote preconditions of a checkout concurrently on virtual threads.
+ *
+ * Every check gets its own virtual thread, so the wait is close to the slowest
+ * single call instead of the sum of all calls. The executor is scoped to one
+ * {@link #verify} call and closed before it returns, so no check outlives the
+ * checkout that started it.
+ *
+ * The outcome is the same as running the checks one after another: the
+ * reported failure is always that of the first check in declaration order
+ * that fails or throws, whichever check finishes first. As soon as a check
+ * fails or throws, every later check is cancelled (interrupting its HTTP
+ * call) because it can no longer change the result.
+ *
+ * Each check runs inside its own observation parented to the caller's, so the
+ * overlapping calls show up as sibling spans in traces.
+ */
+@Component
+public class CheckoutPreconditions {
+
+    private static final ThreadFactory THREAD_FACTORY = Thread.ofVirtual().name("checkout-check-", 0).factory();
+
+    private final ObservationRegistry observationRegistry;
+
+    public CheckoutPreconditions(ObjectProvider<ObservationRegistry> observationRegistry) {
+        this.observationRegistry = observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP);
+    }
+
+    /**
+     * Runs all checks and returns normally only if every check passes.
+     *
+     * @param checks checks in precedence order
+     * @throws RuntimeException the failure of, or the exception thrown by, the
+     *                          first check that does not pass
+     */
+    public void verify(List<Check> checks) {
+        Objects.requireNonNull(checks, "Checks cannot be null");
+        Observation parent = observationRegistry.getCurrentObservation();
+
+        try (ExecutorService executor = Executors.newThreadPerTaskExecutor(THREAD_FACTORY)) {
+            CompletionService<Outcome> completion = new ExecutorCompletionService<>(executor);
+            List<Future<Outcome>> futures = new ArrayList<>(checks.size());
+            for (int i = 0; i < checks.size(); i++) {
+                int index = i;
+                Check check = checks.get(i);
+                futures.add(completion.submit(() -> run(index, check, parent)));
+            }
+
+            Outcome[] outcomes = new Outcome[checks.size()];
+            while (true) {
+                // Skip the prefix of checks that already passed
+                int first = 0;
+                while (first < outcomes.length && outcomes[first] != null && outcomes[first].passed()) {
+                    first++;
+                }
+                if (first == outcomes.length) {
+                    return;
+                }
+                if (outcomes[first] != null) {
+                    cancel(futures, 0);
+                    RuntimeException error = outcomes[first].error();
+                    throw error != null ? error : checks.get(first).failure().get();
+                }
+
+                Outcome outcome = next(completion, futures);
+                if (outcome == null) {
+                    continue;
+                }
+                outcomes[outcome.index()] = outcome;
+                if (!outcome.passed()) {
+                    cancel(futures, outcome.index() + 1);
+                }
+            }
+        }
+    }
+
+    /**
+     * Runs one check. An exception is recorded as the check's outcome, so it
+     * only wins over the failures of later checks.
+     */
+    private Outcome run(int index, Check check, Observation parent) {
+        try {
+            return new Outcome(index, observe(check, parent), null);
+        } catch (RuntimeException e) {
+            return new Outcome(index, false, e);
+        }
+    }
+
+    private boolean observe(Check check, Observation parent) {
+        return Observation.createNotStarted("loan.checkout.check", observationRegistry)
+                .contextualName(check.name())
+                .lowCardinalityKeyValue("check", check.name())
+                .parentObservation(parent)
+                .observe(() -> check.condition().getAsBoolean());
+    }
+
+    /**
+     * Waits for the next completed check. Returns null for a cancelled one.
+     * Only errors escape a check as an ExecutionException.
+     */
+    private static Outcome next(CompletionService<Outcome> completion, List<Future<Outcome>> futures) {
+        try {
+            return completion.take().get();
+        } catch (CancellationException e) {
+            return null;
+        } catch (ExecutionException e) {
+            cancel(futures, 0);
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Checkout precondition failed", e.getCause());
+        } catch (InterruptedException e) {
+            cancel(futures, 0);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while checking checkout preconditions", e);
+        }
+    }
+
+    private static void cancel(List<Future<Outcome>> futures, int fromIndex) {
+        for (int i = fromIndex; i < futures.size(); i++) {
+            futures.get(i).cancel(true);
+        }
+    }
+
+    /**
+     * A remote precondition of a checkout.
+     *
+     * @param name      name of the check in observations
+     * @param condition returns true if the precondition holds
+     * @param failure   exception to throw if it does not
+     */
+    public record Check(String name, BooleanSupplier condition, Supplier<? extends RuntimeException> failure) {
+
+        public Check {
+            Objects.requireNonNull(name, "Name cannot be null");
+            Objects.requireNonNull(condition, "Condition cannot be null");
+            Objects.requireNonNull(failure, "Failure cannot be null");
+        }
+    }
+
+    private record Outcome(int index, boolean passed, RuntimeException error) {
+    }
+}
@@ -0,0 +1,36 @@
+package com.kavala.loan_service.application.command.fine;
+
+import com.kavala.loan_service.core.cqrs.Command;
+import com.kavala.loan_service.domain.port.FineAssessmentPort.FineAssessmentSummary;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Command to recalculate the fines of all overdue loans.
+ */
+public class AssessFinesCommand implements Command<FineAssessmentSummary> {
+
+    private final LocalDate asOf;
+
+    private AssessFinesCommand(LocalDate asOf) {
+        this.asOf = Objects.requireNonNull(asOf, "AsOf cannot be null");
+    }
+
+    public static AssessFinesCommand of(LocalDate asOf) {
+        return new AssessFinesCommand(asOf);
+    }
+
+    public static AssessFinesCommand today() {
+        return new AssessFinesCommand(LocalDate.now());
+    }
+
+    public LocalDate getAsOf() {
+        return asOf;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("AssessFinesCommand{asOf=%s}", asOf);
+    }
+}
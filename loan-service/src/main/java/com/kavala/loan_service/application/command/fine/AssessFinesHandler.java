@@ -0,0 +1,50 @@
+package com.kavala.loan_service.application.command.fine;
+
+import com.kavala.loan_service.core.cqrs.CommandHandler;
+import com.kavala.loan_service.domain.port.FineAssessmentPort;
+import com.kavala.loan_service.domain.port.FineAssessmentPort.FineAssessmentSummary;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Objects;
+
+/**
+ * Handler for AssessFinesCommand.
+ * Implements the batch use case of recalculating fines for every overdue loan.
+ *
+ * Unlike the single-loan handlers this one is not transactional itself: the
+ * assessment port commits each chunk of the pass on its own.
+ */
+@Service
+public class AssessFinesHandler implements CommandHandler<AssessFinesCommand, FineAssessmentSummary> {
+
+    private static final Logger log = LoggerFactory.getLogger(AssessFinesHandler.class);
+
+    private final FineAssessmentPort fineAssessmentPort;
+
+    public AssessFinesHandler(FineAssessmentPort fineAssessmentPort) {
+        this.fineAssessmentPort = Objects.requireNonNull(fineAssessmentPort, "FineAssessmentPort cannot be null");
+    }
+
+    @Override
+    public FineAssessmentSummary handle(AssessFinesCommand command) {
+        Objects.requireNonNull(command, "Command cannot be null");
+
+        FineAssessmentSummary summary = fineAssessmentPort.assessOverdueFines(command.getAsOf());
+        if (summary.skipped()) {
+            log.info("Fine assessment for {} skipped, another assessment is running", command.getAsOf());
+        } else {
+            log.info("Assessed {} overdue loans of {} members as of {}, {} fines changed, total {}",
+                    summary.assessedLoans(), summary.members(), summary.asOf(), summary.updatedLoans(),
+                    summary.totalFine());
+        }
+        return summary;
+    }
+
+    @Scheduled(cron = "${loan-service.fine-assessment.cron:0 30 0 * * *}")
+    public void assessDaily() {
+        handle(AssessFinesCommand.today());
+    }
+}
@@ -0,0 +1,106 @@
+package com.kavala.loan_service.application.command.overdue;
+
+import com.kavala.loan_service.domain.event.DomainEvent;
+import com.kavala.loan_service.domain.event.LoanOverdue;
+import com.kavala.loan_service.domain.port.EventPublisher;
+import com.kavala.loan_service.domain.port.LoanRepository;
+import com.kavala.loan_service.domain.port.LoanRepository.OverdueTransition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Scheduled job that marks every OPEN loan past its due date as OVERDUE.
+ *
+ * Loans are processed in chunks walked in (due date, id) order. Each chunk is
+ * one set-based UPDATE in its own transaction, and its LoanOverdue events are
+ * published only after that transaction commits. Rows are claimed with
+ * SKIP LOCKED, so several loan-service instances can sweep at the same time
+ * and split the work without marking a loan twice.
+ *
+ * A loan skipped because another instance held its lock and then rolled back
+ * is picked up by the next sweep.
+ */
+@Component
+public class OverdueLoanSweeper {
+
+    private static final Logger log = LoggerFactory.getLogger(OverdueLoanSweeper.class);
+
+    private final LoanRepository loanRepository;
+    private final EventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public OverdueLoanSweeper(
+            LoanRepository loanRepository,
+            EventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            @Value("${loan-service.overdue-sweep.chunk-size:1000}") int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("loan-service.overdue-sweep.chunk-size must be positive");
+        }
+        this.loanRepository = Objects.requireNonNull(loanRepository, "LoanRepository cannot be null");
+        this.eventPublisher = Objects.requireNonNull(eventPublisher, "EventPublisher cannot be null");
+        this.transactionTemplate = new TransactionTemplate(
+                Objects.requireNonNull(transactionManager, "PlatformTransactionManager cannot be null"));
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(cron = "${loan-service.overdue-sweep.cron:0 5 0 * * *}")
+    public void sweep() {
+        sweep(LocalDate.now());
+    }
+
+    /**
+     * Marks all OPEN loans due before the given date as overdue.
+     *
+     * @param today the sweep date
+     * @return number of loans this instance marked
+     */
+    public int sweep(LocalDate today) {
+        Objects.requireNonNull(today, "Today cannot be null");
+
+        int marked = 0;
+        OverdueTransition cursor = null;
+        while (true) {
+            OverdueTransition after = cursor;
+            List<OverdueTransition> chunk = transactionTemplate.execute(
+                    status -> loanRepository.markOverdueBefore(today, after, chunkSize));
+            if (chunk == null || chunk.isEmpty()) {
+                break;
+            }
+
+            LocalDateTime occurredAt = LocalDateTime.now();
+            eventPublisher.publishAll(chunk.stream()
+                    .<DomainEvent>map(transition -> new LoanOverdue(
+                            transition.loanId(),
+                            transition.memberId(),
+                            transition.bookCopyId(),
+                            transition.dueDate(),
+                            ChronoUnit.DAYS.between(transition.dueDate().getValue(), today),
+                            occurredAt))
+                    .toList());
+
+            marked += chunk.size();
+            cursor = chunk.get(chunk.size() - 1);
+            if (chunk.size() < chunkSize) {
+                break;
+            }
+        }
+
+        if (marked > 0) {
+            log.info("Marked {} loans overdue as of {}", marked, today);
+        }
+        return marked;
+    }
+}
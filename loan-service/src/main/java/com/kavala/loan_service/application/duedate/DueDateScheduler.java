@@ -0,0 +1,271 @@
+package com.kavala.loan_service.application.duedate;
+
+import com.kavala.loan_service.application.duedate.HierarchicalTimingWheel.Timer;
+import com.kavala.loan_service.domain.event.DomainEvent;
+import com.kavala.loan_service.domain.event.LoanDueSoon;
+import com.kavala.loan_service.domain.event.LoanOpened;
+import com.kavala.loan_service.domain.event.LoanOverdue;
+import com.kavala.loan_service.domain.event.LoanReturned;
+import com.kavala.loan_service.domain.model.LoanId;
+import com.kavala.loan_service.domain.port.EventPublisher;
+import com.kavala.loan_service.domain.port.LoanRepository;
+import com.kavala.loan_service.domain.port.LoanRepository.DueLoan;
+import com.kavala.loan_service.domain.port.LoanRepository.OverdueTransition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Keeps the due dates of all open loans in a hierarchical timing wheel and
+ * acts on them when they pass, instead of polling the loans table.
+ *
+ * Two timers are kept per loan: a due-soon reminder at the start of the day
+ * {@code reminder-days} before the due date, which publishes LoanDueSoon, and
+ * an overdue timer at the start of the day after the due date, which marks
+ * the loan overdue and publishes LoanOverdue. The wheel is seeded at startup
+ * from a stream of open loans and kept current from LoanOpened, LoanReturned
+ * and LoanOverdue events after their transaction commits.
+ *
+ * Disabled unless {@code loan-service.due-date-wheel.enabled=true}. Overdue
+ * transitions use a conditional update, so running this on several instances
+ * never marks a loan twice, but reminders are published by every instance
+ * that runs it; enable it on one instance only. The nightly
+ * OverdueLoanSweeper remains the safety net for anything missed while no
+ * instance was running.
+ */
+@Component
+@ConditionalOnProperty(name = "loan-service.due-date-wheel.enabled", havingValue = "true")
+public class DueDateScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(DueDateScheduler.class);
+
+    private static final int OVERDUE_BATCH_SIZE = 1000;
+
+    private final LoanRepository loanRepository;
+    private final EventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final int reminderDays;
+    private final ZoneId zone = ZoneId.systemDefault();
+
+    // Guarded by this
+    private final HierarchicalTimingWheel<Alarm> wheel;
+    private final Map<LoanId, Timers> timersByLoan = new HashMap<>();
+    private Set<LoanId> closedWhileSeeding;
+
+    public DueDateScheduler(
+            LoanRepository loanRepository,
+            EventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            @Value("${loan-service.due-date-wheel.tick:PT1M}") Duration tick,
+            @Value("${loan-service.due-date-wheel.wheel-size:60}") int wheelSize,
+            @Value("${loan-service.due-date-wheel.reminder-days:1}") int reminderDays) {
+        if (reminderDays < 0) {
+            throw new IllegalArgumentException("loan-service.due-date-wheel.reminder-days cannot be negative");
+        }
+        this.loanRepository = Objects.requireNonNull(loanRepository, "LoanRepository cannot be null");
+        this.eventPublisher = Objects.requireNonNull(eventPublisher, "EventPublisher cannot be null");
+        Objects.requireNonNull(transactionManager, "PlatformTransactionManager cannot be null");
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.reminderDays = reminderDays;
+        this.wheel = new HierarchicalTimingWheel<>(tick.toMillis(), wheelSize, System.currentTimeMillis());
+    }
+
+    /**
+     * Seeds the wheel with all open loans. Loans are streamed, so only the
+     * timers themselves are held in memory.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        synchronized (this) {
+            closedWhileSeeding = new HashSet<>();
+        }
+        List<Alarm> expired = new ArrayList<>();
+        readOnlyTransactionTemplate.executeWithoutResult(status -> {
+            try (Stream<DueLoan> loans = loanRepository.streamOpenDueDates()) {
+                loans.forEach(loan -> {
+                    synchronized (this) {
+                        // Returned or overdue loans seen after the stream's snapshot
+                        if (!closedWhileSeeding.contains(loan.loanId())) {
+                            track(loan, expired);
+                        }
+                    }
+                });
+            }
+        });
+        int tracked;
+        synchronized (this) {
+            closedWhileSeeding = null;
+            tracked = timersByLoan.size();
+        }
+        log.info("Due date wheel seeded with {} open loans", tracked);
+        fire(expired);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(LoanOpened event) {
+        List<Alarm> expired = new ArrayList<>();
+        synchronized (this) {
+            track(new DueLoan(event.loanId(), event.memberId(), event.bookCopyId(), event.dueDate()), expired);
+        }
+        fire(expired);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(LoanReturned event) {
+        forget(event.loanId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(LoanOverdue event) {
+        forget(event.loanId());
+    }
+
+    @Scheduled(fixedDelayString = "${loan-service.due-date-wheel.tick:PT1M}")
+    public void tick() {
+        List<Alarm> expired;
+        synchronized (this) {
+            expired = wheel.advanceTo(System.currentTimeMillis());
+            for (Alarm alarm : expired) {
+                // The overdue timer is a loan's last one
+                if (alarm.kind() == Kind.OVERDUE) {
+                    timersByLoan.remove(alarm.loan().loanId());
+                }
+            }
+        }
+        fire(expired);
+    }
+
+    /**
+     * Number of loans currently tracked by the wheel.
+     */
+    public synchronized int trackedLoans() {
+        return timersByLoan.size();
+    }
+
+    private void track(DueLoan loan, List<Alarm> expired) {
+        cancel(timersByLoan.remove(loan.loanId()));
+
+        long now = System.currentTimeMillis();
+        Timer<Alarm> reminder = null;
+        long reminderAt = startOfDay(loan.dueDate().getValue().minusDays(reminderDays));
+        // A reminder whose time has already passed is not sent again, e.g. after a restart
+        if (reminderAt >= now) {
+            reminder = wheel.schedule(reminderAt, new Alarm(Kind.DUE_SOON, loan));
+            if (!reminder.isPending()) {
+                expired.add(reminder.payload());
+            }
+        }
+
+        Timer<Alarm> overdue = wheel.schedule(startOfDay(loan.dueDate().getValue().plusDays(1)),
+                new Alarm(Kind.OVERDUE, loan));
+        if (overdue.isPending()) {
+            timersByLoan.put(loan.loanId(), new Timers(reminder, overdue));
+        } else {
+            expired.add(overdue.payload());
+        }
+    }
+
+    private void forget(LoanId loanId) {
+        synchronized (this) {
+            cancel(timersByLoan.remove(loanId));
+            if (closedWhileSeeding != null) {
+                closedWhileSeeding.add(loanId);
+            }
+        }
+    }
+
+    private void cancel(Timers timers) {
+        if (timers == null) {
+            return;
+        }
+        if (timers.reminder() != null) {
+            wheel.cancel(timers.reminder());
+        }
+        wheel.cancel(timers.overdue());
+    }
+
+    private long startOfDay(LocalDate date) {
+        return date.atStartOfDay(zone).toInstant().toEpochMilli();
+    }
+
+    /**
+     * Acts on expired alarms outside the lock: reminders are published as
+     * events, overdue loans are marked in batches.
+     */
+    private void fire(List<Alarm> expired) {
+        if (expired.isEmpty()) {
+            return;
+        }
+        LocalDate today = LocalDate.now(zone);
+        LocalDateTime occurredAt = LocalDateTime.now();
+        List<LoanId> overdue = new ArrayList<>();
+        for (Alarm alarm : expired) {
+            if (alarm.kind() == Kind.DUE_SOON) {
+                DueLoan loan = alarm.loan();
+                eventPublisher.publish(new LoanDueSoon(loan.loanId(), loan.memberId(), loan.bookCopyId(),
+                        loan.dueDate(), ChronoUnit.DAYS.between(today, loan.dueDate().getValue()), occurredAt));
+            } else {
+                overdue.add(alarm.loan().loanId());
+            }
+        }
+
+        for (int from = 0; from < overdue.size(); from += OVERDUE_BATCH_SIZE) {
+            List<LoanId> batch = overdue.subList(from, Math.min(overdue.size(), from + OVERDUE_BATCH_SIZE));
+            try {
+                List<OverdueTransition> marked = transactionTemplate.execute(
+                        status -> loanRepository.markOverdue(batch, today));
+                if (marked == null || marked.isEmpty()) {
+                    continue;
+                }
+                eventPublisher.publishAll(marked.stream()
+                        .<DomainEvent>map(transition -> new LoanOverdue(
+                                transition.loanId(),
+                                transition.memberId(),
+                                transition.bookCopyId(),
+                                transition.dueDate(),
+                                ChronoUnit.DAYS.between(transition.dueDate().getValue(), today),
+                                occurredAt))
+                        .toList());
+            } catch (RuntimeException e) {
+                // The nightly sweep picks these loans up
+                log.warn("Failed to mark {} loans overdue: {}", batch.size(), e.getMessage());
+            }
+        }
+    }
+
+    private enum Kind {
+        DUE_SOON,
+        OVERDUE
+    }
+
+    private record Alarm(Kind kind, DueLoan loan) {
+    }
+
+    private record Timers(Timer<Alarm> reminder, Timer<Alarm> overdue) {
+    }
+}
@@ -0,0 +1,221 @@
+package com.kavala.loan_service.application.duedate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Hierarchical timing wheel keyed by epoch milliseconds.
+ *
+ * Level 0 has {@code wheelSize} buckets of one tick each; every further level
+ * has the same number of buckets, each as wide as the whole level below it.
+ * Levels are created on demand, so far deadlines cost one extra level per
+ * factor of {@code wheelSize}. Inserting and cancelling a timer is O(1).
+ * Advancing the clock costs O(1) per elapsed tick plus the timers that expire
+ * or move down a level.
+ *
+ * The wheel has tick resolution: a timer expires when the clock reaches the
+ * tick its deadline falls in.
+ *
+ * Not thread-safe; the owner serializes access.
+ *
+ * @param <T> payload carried by each timer
+ */
+final class HierarchicalTimingWheel<T> {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final List<Level<T>> levels = new ArrayList<>();
+    private long currentTime;
+    private int size;
+
+    HierarchicalTimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis < 1) {
+            throw new IllegalArgumentException("Tick must be positive");
+        }
+        if (wheelSize < 2) {
+            throw new IllegalArgumentException("Wheel size must be at least 2");
+        }
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.currentTime = startMillis - Math.floorMod(startMillis, tickMillis);
+        this.levels.add(new Level<>(tickMillis, wheelSize));
+    }
+
+    /**
+     * Schedules a payload. A deadline within the current tick is not stored
+     * and the returned timer is already expired; the caller fires it directly.
+     */
+    Timer<T> schedule(long deadlineMillis, T payload) {
+        Timer<T> timer = new Timer<>(deadlineMillis, Objects.requireNonNull(payload, "Payload cannot be null"));
+        if (place(timer)) {
+            size++;
+        }
+        return timer;
+    }
+
+    /**
+     * Removes a pending timer. Does nothing if it already expired or was cancelled.
+     */
+    void cancel(Timer<T> timer) {
+        if (timer.bucket != null) {
+            timer.bucket.remove(timer);
+            size--;
+        }
+    }
+
+    /**
+     * Advances the clock tick by tick up to the given time and returns the
+     * payloads whose tick has been reached, in tick order.
+     */
+    List<T> advanceTo(long nowMillis) {
+        List<T> expired = new ArrayList<>();
+        while (currentTime + tickMillis <= nowMillis) {
+            currentTime += tickMillis;
+            // Cascade from the top so timers can fall through several levels
+            for (int i = levels.size() - 1; i >= 1; i--) {
+                Level<T> level = levels.get(i);
+                if (Math.floorMod(currentTime, level.tickMillis) == 0) {
+                    for (Timer<T> timer : level.bucketAt(currentTime).drain()) {
+                        if (!place(timer)) {
+                            size--;
+                            expired.add(timer.payload);
+                        }
+                    }
+                }
+            }
+            for (Timer<T> timer : levels.get(0).bucketAt(currentTime).drain()) {
+                size--;
+                expired.add(timer.payload);
+            }
+        }
+        return expired;
+    }
+
+    int size() {
+        return size;
+    }
+
+    long currentTime() {
+        return currentTime;
+    }
+
+    /**
+     * Puts a timer into the lowest level whose window covers its deadline.
+     *
+     * @return false if the deadline falls within the current tick
+     */
+    private boolean place(Timer<T> timer) {
+        if (timer.deadline < currentTime + tickMillis) {
+            return false;
+        }
+        for (int i = 0;; i++) {
+            if (i == levels.size()) {
+                Level<T> top = levels.get(i - 1);
+                levels.add(new Level<>(Math.multiplyExact(top.tickMillis, wheelSize), wheelSize));
+            }
+            Level<T> level = levels.get(i);
+            long levelStart = currentTime - Math.floorMod(currentTime, level.tickMillis);
+            if (timer.deadline < levelStart + level.intervalMillis) {
+                level.bucketAt(timer.deadline).add(timer);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * A scheduled payload. Belongs to at most one bucket at a time.
+     */
+    static final class Timer<T> {
+
+        private final long deadline;
+        private final T payload;
+        private Bucket<T> bucket;
+        private Timer<T> previous;
+        private Timer<T> next;
+
+        private Timer(long deadline, T payload) {
+            this.deadline = deadline;
+            this.payload = payload;
+        }
+
+        long deadline() {
+            return deadline;
+        }
+
+        T payload() {
+            return payload;
+        }
+
+        boolean isPending() {
+            return bucket != null;
+        }
+    }
+
+    private static final class Level<T> {
+
+        private final long tickMillis;
+        private final long intervalMillis;
+        private final Bucket<T>[] buckets;
+
+        @SuppressWarnings("unchecked")
+        Level(long tickMillis, int wheelSize) {
+            this.tickMillis = tickMillis;
+            this.intervalMillis = Math.multiplyExact(tickMillis, wheelSize);
+            this.buckets = new Bucket[wheelSize];
+            for (int i = 0; i < wheelSize; i++) {
+                buckets[i] = new Bucket<>();
+            }
+        }
+
+        Bucket<T> bucketAt(long time) {
+            return buckets[(int) Math.floorMod(Math.floorDiv(time, tickMillis), (long) buckets.length)];
+        }
+    }
+
+    /**
+     * Intrusive doubly linked list so a timer can be unlinked in O(1).
+     */
+    private static final class Bucket<T> {
+
+        private Timer<T> head;
+
+        void add(Timer<T> timer) {
+            timer.bucket = this;
+            timer.previous = null;
+            timer.next = head;
+            if (head != null) {
+                head.previous = timer;
+            }
+            head = timer;
+        }
+
+        void remove(Timer<T> timer) {
+            if (timer.previous != null) {
+                timer.previous.next = timer.next;
+            } else {
+                head = timer.next;
+            }
+            if (timer.next != null) {
+                timer.next.previous = timer.previous;
+            }
+            timer.bucket = null;
+            timer.previous = null;
+            timer.next = null;
+        }
+
+        List<Timer<T>> drain() {
+            List<Timer<T>> timers = new ArrayList<>();
+            for (Timer<T> timer = head; timer != null;) {
+                Timer<T> next = timer.next;
+                timer.bucket = null;
+                timer.previous = null;
+                timer.next = null;
+                timers.add(timer);
+                timer = next;
+            }
+            head = null;
+            return timers;
+        }
+    }
+}
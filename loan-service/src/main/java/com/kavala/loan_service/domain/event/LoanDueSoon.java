@@ -0,0 +1,20 @@
+package com.kavala.loan_service.domain.event;
+
+import com.kavala.loan_service.domain.model.BookCopyId;
+import com.kavala.loan_service.domain.model.DueDate;
+import com.kavala.loan_service.domain.model.LoanId;
+import com.kavala.loan_service.domain.model.MemberId;
+
+import java.time.LocalDateTime;
+
+/**
+ * Event fired when an open loan is about to reach its due date.
+ */
+public record LoanDueSoon(
+        LoanId loanId,
+        MemberId memberId,
+        BookCopyId bookCopyId,
+        DueDate dueDate,
+        long daysUntilDue,
+        LocalDateTime occurredAt) implements DomainEvent {
+}
@@ -0,0 +1,22 @@
+package com.kavala.loan_service.domain.port;
+
+import java.util.UUID;
+
+/**
+ * Driven port for reporting checkouts to catalog-service, which ranks books
+ * by how often they are loaned.
+ *
+ * Following Hexagonal Architecture:
+ * - Domain layer defines this interface
+ * - Infrastructure layer provides HTTP client implementation
+ */
+public interface CatalogCheckoutPort {
+
+    /**
+     * Reports one checkout of a catalog book. Best-effort: a failure is not
+     * reported to the caller and the checkout is not counted.
+     *
+     * @param bookId the catalog book that was checked out
+     */
+    void recordCheckout(UUID bookId);
+}
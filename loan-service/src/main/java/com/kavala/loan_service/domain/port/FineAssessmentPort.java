@@ -0,0 +1,69 @@
+package com.kavala.loan_service.domain.port;
+
+import com.kavala.loan_service.domain.model.FineAmount;
+import com.kavala.loan_service.domain.model.MemberId;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Driven port for assessing fines of all overdue loans in one pass.
+ *
+ * Following Hexagonal Architecture:
+ * - Domain layer defines this interface and the fine rule ({@link FineAmount})
+ * - Infrastructure layer streams the loans and writes the fines in bulk
+ */
+public interface FineAssessmentPort {
+
+    /**
+     * Recalculates and stores the fine of every overdue loan as of the given
+     * date. Only one assessment runs at a time across all instances; a call
+     * that cannot acquire the assessment lock returns a skipped summary.
+     *
+     * @param asOf the date fines are calculated for
+     * @return totals of the assessment
+     */
+    FineAssessmentSummary assessOverdueFines(LocalDate asOf);
+
+    /**
+     * Result of a fine assessment.
+     *
+     * @param asOf          the date fines were calculated for
+     * @param skipped       true if another assessment was already running
+     * @param assessedLoans number of overdue loans assessed
+     * @param updatedLoans  number of loans whose stored fine changed
+     * @param members       number of distinct members with overdue loans
+     * @param totalFine     sum of all assessed fines
+     * @param topMembers    members with the highest fine totals, highest first
+     */
+    record FineAssessmentSummary(
+            LocalDate asOf,
+            boolean skipped,
+            long assessedLoans,
+            long updatedLoans,
+            long members,
+            FineAmount totalFine,
+            List<MemberFineTotal> topMembers) {
+
+        public FineAssessmentSummary {
+            Objects.requireNonNull(asOf, "AsOf cannot be null");
+            Objects.requireNonNull(totalFine, "TotalFine cannot be null");
+            topMembers = List.copyOf(topMembers);
+        }
+
+        public static FineAssessmentSummary skipped(LocalDate asOf) {
+            return new FineAssessmentSummary(asOf, true, 0, 0, 0, FineAmount.zero(), List.of());
+        }
+    }
+
+    /**
+     * Fine total of one member across all of their overdue loans.
+     *
+     * @param memberId     the member
+     * @param overdueLoans number of overdue loans of the member
+     * @param total        sum of the fines of those loans
+     */
+    record MemberFineTotal(MemberId memberId, long overdueLoans, FineAmount total) {
+    }
+}
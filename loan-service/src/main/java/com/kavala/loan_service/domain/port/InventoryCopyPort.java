@@ -2,6 +2,8 @@ package com.kavala.loan_service.domain.port;
 
 import com.kavala.loan_service.domain.model.BookCopyId;
 
+import java.util.UUID;
+
 /**
  * Driven port for inventory copy operations.
  * This port abstracts the communication with inventory-service.
@@ -28,6 +30,16 @@ public interface InventoryCopyPort {
      */
     boolean isAvailable(BookCopyId bookCopyId);
 
+    /**
+     * Fetches existence, status and location of a book copy in a single
+     * round trip.
+     *
+     * @param bookCopyId the book copy ID to check
+     * @return the copy's status; {@link CopyStatus#unknown()} if
+     *         inventory-service cannot answer
+     */
+    CopyStatus checkStatus(BookCopyId bookCopyId);
+
     /**
      * Validates that a book copy exists and is available.
      *
@@ -51,6 +63,22 @@ public interface InventoryCopyPort {
      */
     void markAsReturned(BookCopyId bookCopyId);
 
+    /**
+     * Combined answer of inventory-service for one copy.
+     *
+     * @param exists        true if the copy exists
+     * @param bookId        catalog book the copy belongs to, null if the copy does not exist
+     * @param status        inventory status name, null if the copy does not exist
+     * @param shelfLocation shelf location, null if not shelved
+     * @param available     true if the copy can be loaned
+     */
+    record CopyStatus(boolean exists, UUID bookId, String status, String shelfLocation, boolean available) {
+
+        public static CopyStatus unknown() {
+            return new CopyStatus(false, null, null, null, false);
+        }
+    }
+
     /**
      * Exception thrown when book copy is not found.
      */
@@ -1,13 +1,17 @@
 package com.kavala.loan_service.domain.port;
 
 import com.kavala.loan_service.domain.model.BookCopyId;
+import com.kavala.loan_service.domain.model.DueDate;
 import com.kavala.loan_service.domain.model.Loan;
 import com.kavala.loan_service.domain.model.LoanId;
 import com.kavala.loan_service.domain.model.LoanStatus;
 import com.kavala.loan_service.domain.model.MemberId;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository port for Loan aggregate.
@@ -67,6 +71,14 @@ public interface LoanRepository {
      */
     List<Loan> findAllOpen();
 
+    /**
+     * Streams the due dates of all OPEN loans without loading whole aggregates.
+     * The stream must be consumed inside a transaction and closed afterwards.
+     *
+     * @return stream of open loans with their due dates
+     */
+    Stream<DueLoan> streamOpenDueDates();
+
     /**
      * Finds all overdue loans.
      *
@@ -90,6 +102,31 @@ public interface LoanRepository {
      */
     long countActiveByMemberId(MemberId memberId);
 
+    /**
+     * Marks the next chunk of OPEN loans due before the given date as OVERDUE
+     * with a single set-based update.
+     * Loans are taken in (due date, id) order after the given position. Loans
+     * locked by a concurrent sweep are skipped instead of waited for, so
+     * several instances can sweep at the same time without overlapping.
+     *
+     * @param today the sweep date; loans due strictly before it are overdue
+     * @param after the last loan of the previous chunk, or null for the first chunk
+     * @param limit maximum number of loans to mark
+     * @return the marked loans in (due date, id) order
+     */
+    List<OverdueTransition> markOverdueBefore(LocalDate today, OverdueTransition after, int limit);
+
+    /**
+     * Marks the given loans as OVERDUE with a single set-based update, skipping
+     * loans that are no longer OPEN or not yet past due. Concurrent callers
+     * never mark the same loan twice.
+     *
+     * @param loanIds the loans to mark
+     * @param today   the current date; loans due strictly before it are overdue
+     * @return the loans actually marked
+     */
+    List<OverdueTransition> markOverdue(Collection<LoanId> loanIds, LocalDate today);
+
     /**
      * Finds all loans in the system.
      *
@@ -111,4 +148,16 @@ public interface LoanRepository {
      * @param id the loan ID to delete
      */
     void deleteById(LoanId id);
+
+    /**
+     * An open loan and its due date.
+     */
+    record DueLoan(LoanId loanId, MemberId memberId, BookCopyId bookCopyId, DueDate dueDate) {
+    }
+
+    /**
+     * A loan moved from OPEN to OVERDUE by a bulk update.
+     */
+    record OverdueTransition(LoanId loanId, MemberId memberId, BookCopyId bookCopyId, DueDate dueDate) {
+    }
 }
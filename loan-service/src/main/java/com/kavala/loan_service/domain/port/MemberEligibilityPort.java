@@ -32,6 +32,16 @@ public interface MemberEligibilityPort {
      */
     boolean canBorrow(MemberId memberId);
 
+    /**
+     * Fetches existence, eligibility and the active loan limit of a member
+     * in a single round trip.
+     *
+     * @param memberId the member ID to check
+     * @return the member's eligibility; {@link MemberEligibility#unknown()}
+     *         if member-service cannot answer
+     */
+    MemberEligibility checkEligibility(MemberId memberId);
+
     /**
      * Validates that a member exists and is eligible.
      *
@@ -41,6 +51,27 @@ public interface MemberEligibilityPort {
      */
     void validateEligibility(MemberId memberId);
 
+    /**
+     * Combined answer of member-service for one member.
+     *
+     * @param exists         true if the member exists
+     * @param canBorrow      true if the membership allows borrowing
+     * @param maxActiveLoans maximum number of loans the member may hold at once
+     */
+    record MemberEligibility(boolean exists, boolean canBorrow, int maxActiveLoans) {
+
+        public static MemberEligibility unknown() {
+            return new MemberEligibility(false, false, 0);
+        }
+
+        /**
+         * Checks whether one more loan stays within the member's limit.
+         */
+        public boolean allowsAnotherLoan(long activeLoans) {
+            return activeLoans < maxActiveLoans;
+        }
+    }
+
     /**
      * Exception thrown when member is not found.
      */
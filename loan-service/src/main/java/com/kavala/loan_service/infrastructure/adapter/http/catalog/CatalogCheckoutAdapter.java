@@ -0,0 +1,29 @@
+package com.kavala.loan_service.infrastructure.adapter.http.catalog;
+
+import com.kavala.loan_service.domain.port.CatalogCheckoutPort;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Adapter implementing CatalogCheckoutPort using HTTP client.
+ */
+@Component
+public class CatalogCheckoutAdapter implements CatalogCheckoutPort {
+
+    private final CatalogClient catalogClient;
+
+    public CatalogCheckoutAdapter(CatalogClient catalogClient) {
+        this.catalogClient = Objects.requireNonNull(catalogClient, "CatalogClient cannot be null");
+    }
+
+    @Override
+    public void recordCheckout(UUID bookId) {
+        try {
+            catalogClient.recordCheckout(bookId);
+        } catch (Exception e) {
+            // Log error but don't throw - popularity is a best-effort signal
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.kavala.loan_service.infrastructure.adapter.http.catalog;
+
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.service.annotation.HttpExchange;
+import org.springframework.web.service.annotation.PostExchange;
+
+import java.util.UUID;
+
+/**
+ * HTTP client for catalog-service.
+ */
+@HttpExchange("/api/v1/books")
+public interface CatalogClient {
+
+    /**
+     * Adds one checkout to a book's popularity counter.
+     */
+    @PostExchange("/{bookId}/checkouts")
+    void recordCheckout(@PathVariable UUID bookId);
+}
@@ -0,0 +1,30 @@
+package com.kavala.loan_service.infrastructure.adapter.http.catalog;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.support.RestClientAdapter;
+import org.springframework.web.service.invoker.HttpServiceProxyFactory;
+
+/**
+ * Configuration for CatalogClient.
+ */
+@Configuration
+public class CatalogClientConfig {
+
+    @Value("${loan-service.catalog-service.url:http://catalog-service}")
+    private String catalogServiceUrl;
+
+    @Bean
+    public CatalogClient catalogClient() {
+        RestClient restClient = RestClient.builder()
+                .baseUrl(catalogServiceUrl)
+                .build();
+
+        RestClientAdapter adapter = RestClientAdapter.create(restClient);
+        HttpServiceProxyFactory factory = HttpServiceProxyFactory.builderFor(adapter).build();
+
+        return factory.createClient(CatalogClient.class);
+    }
+}
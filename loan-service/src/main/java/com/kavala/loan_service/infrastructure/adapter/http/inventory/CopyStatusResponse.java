@@ -0,0 +1,10 @@
+package com.kavala.loan_service.infrastructure.adapter.http.inventory;
+
+import java.util.UUID;
+
+/**
+ * Response of inventory-service's combined status endpoint.
+ */
+public record CopyStatusResponse(UUID id, boolean exists, UUID bookId, String status, String shelfLocation,
+        boolean available) {
+}
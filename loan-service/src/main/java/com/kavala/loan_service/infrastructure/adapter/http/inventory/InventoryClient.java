@@ -10,20 +10,15 @@ import java.util.UUID;
 /**
  * HTTP client for inventory-service.
  */
-@HttpExchange("/api/book-copies")
+@HttpExchange("/api/v1/book-copies")
 public interface InventoryClient {
 
     /**
-     * Checks if a book copy exists.
+     * Returns existence, status and location of a book copy.
+     * An unknown copy is answered with exists=false rather than 404.
      */
-    @GetExchange("/{copyId}/exists")
-    boolean copyExists(@PathVariable UUID copyId);
-
-    /**
-     * Checks if a book copy is available for loan.
-     */
-    @GetExchange("/{copyId}/available")
-    boolean isAvailable(@PathVariable UUID copyId);
+    @GetExchange("/{copyId}/status")
+    CopyStatusResponse getStatus(@PathVariable UUID copyId);
 
     /**
      * Marks a book copy as loaned.
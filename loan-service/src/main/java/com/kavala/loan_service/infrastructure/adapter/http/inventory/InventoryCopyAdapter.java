@@ -19,31 +19,37 @@ public class InventoryCopyAdapter implements InventoryCopyPort {
     }
 
     @Override
-    public boolean copyExists(BookCopyId bookCopyId) {
+    public CopyStatus checkStatus(BookCopyId bookCopyId) {
         try {
-            return inventoryClient.copyExists(bookCopyId.getValue());
+            CopyStatusResponse response = inventoryClient.getStatus(bookCopyId.getValue());
+            if (response == null) {
+                return CopyStatus.unknown();
+            }
+            return new CopyStatus(response.exists(), response.bookId(), response.status(),
+                    response.shelfLocation(), response.available());
         } catch (Exception e) {
-            // Log and return false on error
-            return false;
+            // Log and treat as unknown copy on error
+            return CopyStatus.unknown();
         }
     }
 
+    @Override
+    public boolean copyExists(BookCopyId bookCopyId) {
+        return checkStatus(bookCopyId).exists();
+    }
+
     @Override
     public boolean isAvailable(BookCopyId bookCopyId) {
-        try {
-            return inventoryClient.isAvailable(bookCopyId.getValue());
-        } catch (Exception e) {
-            // Log and return false on error
-            return false;
-        }
+        return checkStatus(bookCopyId).available();
     }
 
     @Override
     public void validateAvailability(BookCopyId bookCopyId) {
-        if (!copyExists(bookCopyId)) {
+        CopyStatus status = checkStatus(bookCopyId);
+        if (!status.exists()) {
             throw new BookCopyNotFoundException(bookCopyId);
         }
-        if (!isAvailable(bookCopyId)) {
+        if (!status.available()) {
             throw new BookCopyNotAvailableException(bookCopyId, "Copy is not available for loan");
         }
     }
@@ -9,18 +9,13 @@ import java.util.UUID;
 /**
  * HTTP client for member-service.
  */
-@HttpExchange("/api/members")
+@HttpExchange("/api/v1/members")
 public interface MemberClient {
 
     /**
-     * Checks if a member exists.
+     * Returns existence, eligibility and the active loan limit of a member.
+     * An unknown member is answered with exists=false rather than 404.
      */
-    @GetExchange("/{memberId}/exists")
-    boolean memberExists(@PathVariable UUID memberId);
-
-    /**
-     * Checks if a member can borrow books.
-     */
-    @GetExchange("/{memberId}/can-borrow")
-    boolean canBorrow(@PathVariable UUID memberId);
+    @GetExchange("/{memberId}/status")
+    MemberStatusResponse getStatus(@PathVariable UUID memberId);
 }
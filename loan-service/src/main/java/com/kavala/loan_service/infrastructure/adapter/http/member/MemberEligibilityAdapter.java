@@ -19,31 +19,36 @@ public class MemberEligibilityAdapter implements MemberEligibilityPort {
     }
 
     @Override
-    public boolean memberExists(MemberId memberId) {
+    public MemberEligibility checkEligibility(MemberId memberId) {
         try {
-            return memberClient.memberExists(memberId.getValue());
+            MemberStatusResponse response = memberClient.getStatus(memberId.getValue());
+            if (response == null) {
+                return MemberEligibility.unknown();
+            }
+            return new MemberEligibility(response.exists(), response.canBorrow(), response.maxActiveLoans());
         } catch (Exception e) {
-            // Log and return false on error
-            return false;
+            // Log and treat as unknown member on error
+            return MemberEligibility.unknown();
         }
     }
 
+    @Override
+    public boolean memberExists(MemberId memberId) {
+        return checkEligibility(memberId).exists();
+    }
+
     @Override
     public boolean canBorrow(MemberId memberId) {
-        try {
-            return memberClient.canBorrow(memberId.getValue());
-        } catch (Exception e) {
-            // Log and return false on error
-            return false;
-        }
+        return checkEligibility(memberId).canBorrow();
     }
 
     @Override
     public void validateEligibility(MemberId memberId) {
-        if (!memberExists(memberId)) {
+        MemberEligibility eligibility = checkEligibility(memberId);
+        if (!eligibility.exists()) {
             throw new MemberNotFoundException(memberId);
         }
-        if (!canBorrow(memberId)) {
+        if (!eligibility.canBorrow()) {
             throw new MemberNotEligibleException(memberId, "Member is not eligible to borrow");
         }
     }
@@ -0,0 +1,9 @@
+package com.kavala.loan_service.infrastructure.adapter.http.member;
+
+import java.util.UUID;
+
+/**
+ * Response of member-service's combined status endpoint.
+ */
+public record MemberStatusResponse(UUID id, boolean exists, String status, boolean canBorrow, int maxActiveLoans) {
+}
@@ -0,0 +1,344 @@
+package com.kavala.loan_service.infrastructure.adapter.persistence;
+
+import com.kavala.loan_service.domain.model.FineAmount;
+import com.kavala.loan_service.domain.model.MemberId;
+import com.kavala.loan_service.domain.port.FineAssessmentPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Implementation of FineAssessmentPort using plain JDBC.
+ *
+ * Overdue loans are read through a server-side cursor ordered by member, cut
+ * into fixed-size chunks and priced on a fork-join pool while the cursor keeps
+ * reading. Priced chunks are written back with JDBC batch updates in the order
+ * they were read, so per-member totals can be closed as soon as the cursor
+ * moves past a member. Memory is bounded by the chunk size, the number of
+ * chunks in flight and the size of the top-members list, not by the number of
+ * loans.
+ *
+ * The cursor lives on its own read-only connection, which also holds a
+ * session-level PostgreSQL advisory lock for the whole run, so only one
+ * instance assesses fines at a time. Each written chunk is committed in its
+ * own transaction on a second connection: a failed run keeps the chunks
+ * already written, and the next run recomputes the rest. A run therefore uses
+ * two pooled connections.
+ */
+@Component
+public class JdbcFineAssessmentAdapter implements FineAssessmentPort {
+
+    private static final long ASSESSMENT_LOCK_KEY = 0x6C6F616E46696E65L; // "loanFine"
+
+    private static final String SELECT_OVERDUE = "SELECT id, member_id, due_date FROM loans "
+            + "WHERE status IN ('OPEN', 'OVERDUE') AND due_date < ? ORDER BY member_id, id";
+
+    private static final String UPDATE_FINE = "UPDATE loans SET fine_amount = ?, fine_currency = ?, updated_at = ? "
+            + "WHERE id = ? AND (fine_amount IS DISTINCT FROM ? OR fine_currency IS DISTINCT FROM ?)";
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int parallelism;
+    private final int topMembers;
+
+    public JdbcFineAssessmentAdapter(
+            DataSource dataSource,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${loan-service.fine-assessment.chunk-size:1000}") int chunkSize,
+            @Value("${loan-service.fine-assessment.parallelism:0}") int parallelism,
+            @Value("${loan-service.fine-assessment.top-members:100}") int topMembers) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("loan-service.fine-assessment.chunk-size must be positive");
+        }
+        this.dataSource = Objects.requireNonNull(dataSource, "DataSource cannot be null");
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate, "JdbcTemplate cannot be null");
+        this.transactionTemplate = new TransactionTemplate(
+                Objects.requireNonNull(transactionManager, "PlatformTransactionManager cannot be null"));
+        // Chunks commit on their own even if a caller has a transaction open
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.topMembers = Math.max(0, topMembers);
+    }
+
+    @Override
+    public FineAssessmentSummary assessOverdueFines(LocalDate asOf) {
+        Objects.requireNonNull(asOf, "AsOf cannot be null");
+        // Taken from the pool directly so it is never a caller's transactional connection
+        try (Connection connection = dataSource.getConnection()) {
+            if (!advisoryLock(connection, "SELECT pg_try_advisory_lock(?)")) {
+                return FineAssessmentSummary.skipped(asOf);
+            }
+            try (ForkJoinPool pool = new ForkJoinPool(parallelism)) {
+                return new Run(asOf, pool).execute(connection);
+            } finally {
+                advisoryLock(connection, "SELECT pg_advisory_unlock(?)");
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Fine assessment failed", e);
+        }
+    }
+
+    private static boolean advisoryLock(Connection connection, String sql) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setLong(1, ASSESSMENT_LOCK_KEY);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getBoolean(1);
+            }
+        }
+    }
+
+    /**
+     * State of a single assessment run. Only the calling thread touches it;
+     * the pool only prices chunks.
+     */
+    private final class Run {
+
+        private final LocalDate asOf;
+        private final ForkJoinPool pool;
+        private final int maxInFlight;
+        private final Timestamp updatedAt = Timestamp.valueOf(LocalDateTime.now());
+        private final Deque<ForkJoinTask<PricedChunk>> inFlight = new ArrayDeque<>();
+        private final PriorityQueue<MemberFineTotal> top = new PriorityQueue<>(
+                Comparator.comparing((MemberFineTotal total) -> total.total().getAmount()));
+
+        private List<OverdueRow> chunk;
+        private MemberSubtotal openMember;
+        private long assessedLoans;
+        private long updatedLoans;
+        private long members;
+        private BigDecimal totalFine = BigDecimal.ZERO;
+
+        Run(LocalDate asOf, ForkJoinPool pool) {
+            this.asOf = asOf;
+            this.pool = pool;
+            this.maxInFlight = pool.getParallelism() * 2;
+            this.chunk = new ArrayList<>(chunkSize);
+        }
+
+        FineAssessmentSummary execute(Connection connection) throws SQLException {
+            read(connection);
+
+            submit();
+            while (!inFlight.isEmpty()) {
+                write(inFlight.poll().join());
+            }
+            closeOpenMember();
+
+            List<MemberFineTotal> ranked = new ArrayList<>(top);
+            ranked.sort(Comparator.comparing((MemberFineTotal total) -> total.total().getAmount()).reversed());
+            return new FineAssessmentSummary(asOf, false, assessedLoans, updatedLoans, members,
+                    FineAmount.of(totalFine), ranked);
+        }
+
+        /**
+         * Streams overdue loans through a server-side cursor, which
+         * PostgreSQL only uses with auto-commit off. The read-only
+         * transaction is rolled back afterwards; the advisory lock is
+         * session-level and survives it.
+         */
+        private void read(Connection connection) throws SQLException {
+            boolean autoCommit = connection.getAutoCommit();
+            boolean readOnly = connection.isReadOnly();
+            connection.setAutoCommit(false);
+            connection.setReadOnly(true);
+            try (PreparedStatement statement = connection.prepareStatement(SELECT_OVERDUE,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                statement.setFetchSize(chunkSize);
+                statement.setDate(1, Date.valueOf(asOf));
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        chunk.add(new OverdueRow(
+                                resultSet.getObject("id", UUID.class),
+                                resultSet.getObject("member_id", UUID.class),
+                                resultSet.getObject("due_date", LocalDate.class)));
+                        if (chunk.size() == chunkSize) {
+                            submit();
+                        }
+                    }
+                }
+            } finally {
+                connection.rollback();
+                connection.setReadOnly(readOnly);
+                connection.setAutoCommit(autoCommit);
+            }
+        }
+
+        private void submit() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            // Back-pressure: never keep more than maxInFlight chunks in memory
+            if (inFlight.size() >= maxInFlight) {
+                write(inFlight.poll().join());
+            }
+            inFlight.add(pool.submit(new PriceTask(chunk, asOf, 0, chunk.size())));
+            chunk = new ArrayList<>(chunkSize);
+        }
+
+        private void write(PricedChunk priced) {
+            int[][] counts = transactionTemplate.execute(status -> jdbcTemplate.batchUpdate(UPDATE_FINE,
+                    priced.rows(), priced.rows().size(), (statement, row) -> {
+                        statement.setBigDecimal(1, row.fine().getAmount());
+                        statement.setString(2, row.fine().getCurrency());
+                        statement.setTimestamp(3, updatedAt);
+                        statement.setObject(4, row.loanId());
+                        statement.setBigDecimal(5, row.fine().getAmount());
+                        statement.setString(6, row.fine().getCurrency());
+                    }));
+            for (int[] batch : counts) {
+                for (int count : batch) {
+                    // Drivers may report SUCCESS_NO_INFO (-2); count it as changed
+                    if (count != 0) {
+                        updatedLoans++;
+                    }
+                }
+            }
+
+            assessedLoans += priced.rows().size();
+            for (MemberSubtotal subtotal : priced.members()) {
+                totalFine = totalFine.add(subtotal.amount());
+                if (openMember != null && openMember.memberId().equals(subtotal.memberId())) {
+                    openMember = openMember.plus(subtotal);
+                } else {
+                    closeOpenMember();
+                    openMember = subtotal;
+                }
+            }
+        }
+
+        private void closeOpenMember() {
+            if (openMember == null) {
+                return;
+            }
+            members++;
+            if (topMembers > 0) {
+                top.add(new MemberFineTotal(MemberId.of(openMember.memberId()), openMember.loans(),
+                        FineAmount.of(openMember.amount())));
+                if (top.size() > topMembers) {
+                    top.poll();
+                }
+            }
+            openMember = null;
+        }
+    }
+
+    /**
+     * Prices a slice of a chunk, splitting it in halves until it is small
+     * enough. Because rows are ordered by member, the member subtotals of
+     * adjacent slices only need merging at the boundary.
+     */
+    private static final class PriceTask extends RecursiveTask<PricedChunk> {
+
+        private static final int THRESHOLD = 256;
+
+        private final List<OverdueRow> rows;
+        private final LocalDate asOf;
+        private final int from;
+        private final int to;
+
+        PriceTask(List<OverdueRow> rows, LocalDate asOf, int from, int to) {
+            this.rows = rows;
+            this.asOf = asOf;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected PricedChunk compute() {
+            if (to - from <= THRESHOLD) {
+                return price();
+            }
+            int middle = (from + to) >>> 1;
+            PriceTask left = new PriceTask(rows, asOf, from, middle);
+            PriceTask right = new PriceTask(rows, asOf, middle, to);
+            left.fork();
+            PricedChunk rightResult = right.compute();
+            return left.join().append(rightResult);
+        }
+
+        private PricedChunk price() {
+            List<PricedRow> priced = new ArrayList<>(to - from);
+            List<MemberSubtotal> members = new ArrayList<>();
+            for (int i = from; i < to; i++) {
+                OverdueRow row = rows.get(i);
+                FineAmount fine = FineAmount.calculateFromDaysOverdue(
+                        ChronoUnit.DAYS.between(row.dueDate(), asOf));
+                priced.add(new PricedRow(row.loanId(), fine));
+
+                MemberSubtotal subtotal = new MemberSubtotal(row.memberId(), 1, fine.getAmount());
+                int last = members.size() - 1;
+                if (last >= 0 && members.get(last).memberId().equals(row.memberId())) {
+                    members.set(last, members.get(last).plus(subtotal));
+                } else {
+                    members.add(subtotal);
+                }
+            }
+            return new PricedChunk(priced, members);
+        }
+    }
+
+    private record OverdueRow(UUID loanId, UUID memberId, LocalDate dueDate) {
+    }
+
+    private record PricedRow(UUID loanId, FineAmount fine) {
+    }
+
+    private record MemberSubtotal(UUID memberId, long loans, BigDecimal amount) {
+
+        MemberSubtotal plus(MemberSubtotal other) {
+            return new MemberSubtotal(memberId, loans + other.loans, amount.add(other.amount));
+        }
+    }
+
+    private record PricedChunk(List<PricedRow> rows, List<MemberSubtotal> members) {
+
+        PricedChunk append(PricedChunk next) {
+            List<PricedRow> mergedRows = new ArrayList<>(rows.size() + next.rows.size());
+            mergedRows.addAll(rows);
+            mergedRows.addAll(next.rows);
+
+            List<MemberSubtotal> mergedMembers = new ArrayList<>(members.size() + next.members.size());
+            mergedMembers.addAll(members);
+            int start = 0;
+            if (!mergedMembers.isEmpty() && !next.members.isEmpty()) {
+                int last = mergedMembers.size() - 1;
+                if (mergedMembers.get(last).memberId().equals(next.members.get(0).memberId())) {
+                    mergedMembers.set(last, mergedMembers.get(last).plus(next.members.get(0)));
+                    start = 1;
+                }
+            }
+            mergedMembers.addAll(next.members.subList(start, next.members.size()));
+            return new PricedChunk(mergedRows, mergedMembers);
+        }
+    }
+}
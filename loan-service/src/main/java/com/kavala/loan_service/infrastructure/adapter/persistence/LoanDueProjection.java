@@ -0,0 +1,18 @@
+package com.kavala.loan_service.infrastructure.adapter.persistence;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Due date row of a loan, returned by bulk overdue updates and the open loan stream.
+ */
+public interface LoanDueProjection {
+
+    UUID getId();
+
+    UUID getMemberId();
+
+    UUID getBookCopyId();
+
+    LocalDate getDueDate();
+}
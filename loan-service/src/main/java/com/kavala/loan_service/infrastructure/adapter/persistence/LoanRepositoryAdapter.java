@@ -4,9 +4,15 @@ import com.kavala.loan_service.domain.model.*;
 import com.kavala.loan_service.domain.port.LoanRepository;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Implementation of LoanRepository using Spring Data JPA.
@@ -14,6 +20,14 @@ import java.util.Optional;
 @Component
 public class LoanRepositoryAdapter implements LoanRepository {
 
+    /**
+     * PostgreSQL orders uuid values bytewise, which matches the order of their
+     * lowercase hex strings but not {@link java.util.UUID#compareTo}.
+     */
+    private static final Comparator<OverdueTransition> KEYSET_ORDER = Comparator
+            .comparing((OverdueTransition transition) -> transition.dueDate().getValue())
+            .thenComparing(transition -> transition.loanId().getValue().toString());
+
     private final SpringDataLoanJpaRepository jpaRepository;
 
     public LoanRepositoryAdapter(SpringDataLoanJpaRepository jpaRepository) {
@@ -70,6 +84,16 @@ public class LoanRepositoryAdapter implements LoanRepository {
                 .toList();
     }
 
+    @Override
+    public Stream<DueLoan> streamOpenDueDates() {
+        return jpaRepository.streamOpenDueDates()
+                .map(row -> new DueLoan(
+                        LoanId.of(row.getId()),
+                        MemberId.of(row.getMemberId()),
+                        BookCopyId.of(row.getBookCopyId()),
+                        DueDate.of(row.getDueDate())));
+    }
+
     @Override
     public List<Loan> findAllOverdue() {
         return jpaRepository.findAllOverdue()
@@ -89,6 +113,39 @@ public class LoanRepositoryAdapter implements LoanRepository {
         return jpaRepository.countActiveByMemberId(memberId.getValue());
     }
 
+    @Override
+    public List<OverdueTransition> markOverdueBefore(LocalDate today, OverdueTransition after, int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<LoanDueProjection> rows = after == null
+                ? jpaRepository.markOverdueBefore(today, now, limit)
+                : jpaRepository.markOverdueBeforeAfter(today, after.dueDate().getValue(),
+                        after.loanId().getValue(), now, limit);
+        return rows.stream()
+                .map(LoanRepositoryAdapter::toOverdueTransition)
+                .sorted(KEYSET_ORDER)
+                .toList();
+    }
+
+    @Override
+    public List<OverdueTransition> markOverdue(Collection<LoanId> loanIds, LocalDate today) {
+        if (loanIds.isEmpty()) {
+            return List.of();
+        }
+        List<UUID> ids = loanIds.stream().map(LoanId::getValue).toList();
+        return jpaRepository.markOverdue(ids, today, LocalDateTime.now())
+                .stream()
+                .map(LoanRepositoryAdapter::toOverdueTransition)
+                .toList();
+    }
+
+    private static OverdueTransition toOverdueTransition(LoanDueProjection row) {
+        return new OverdueTransition(
+                LoanId.of(row.getId()),
+                MemberId.of(row.getMemberId()),
+                BookCopyId.of(row.getBookCopyId()),
+                DueDate.of(row.getDueDate()));
+    }
+
     @Override
     public List<Loan> findAll() {
         return jpaRepository.findAll()
@@ -2,12 +2,20 @@ package com.kavala.loan_service.infrastructure.adapter.persistence;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+
+import jakarta.persistence.QueryHint;
 
 /**
  * Spring Data JPA repository for JpaLoanEntity.
@@ -24,6 +32,15 @@ public interface SpringDataLoanJpaRepository extends JpaRepository<JpaLoanEntity
     @Query("SELECT l FROM JpaLoanEntity l WHERE l.status IN ('OPEN', 'OVERDUE')")
     List<JpaLoanEntity> findAllOpen();
 
+    /**
+     * Streams due dates of OPEN loans as unmanaged projections, so the
+     * persistence context does not grow with the number of rows read.
+     */
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query("SELECT l.id AS id, l.memberId AS memberId, l.bookCopyId AS bookCopyId, l.dueDate AS dueDate "
+            + "FROM JpaLoanEntity l WHERE l.status = 'OPEN'")
+    Stream<LoanDueProjection> streamOpenDueDates();
+
     @Query("SELECT l FROM JpaLoanEntity l WHERE l.status = 'OVERDUE'")
     List<JpaLoanEntity> findAllOverdue();
 
@@ -32,4 +49,51 @@ public interface SpringDataLoanJpaRepository extends JpaRepository<JpaLoanEntity
 
     @Query("SELECT COUNT(l) FROM JpaLoanEntity l WHERE l.memberId = :memberId AND l.status IN ('OPEN', 'OVERDUE')")
     long countActiveByMemberId(@Param("memberId") UUID memberId);
+
+    /**
+     * Marks the first chunk of OPEN loans due before the given date as OVERDUE.
+     * The rows are locked with SKIP LOCKED, so concurrent sweeps partition the
+     * work instead of blocking on each other. RETURNING order is unspecified.
+     */
+    @Transactional
+    @Query(value = "WITH batch AS ("
+            + "SELECT id FROM loans "
+            + "WHERE status = 'OPEN' AND due_date < :today "
+            + "ORDER BY due_date, id LIMIT :limit FOR UPDATE SKIP LOCKED) "
+            + "UPDATE loans l SET status = 'OVERDUE', updated_at = :now FROM batch WHERE l.id = batch.id "
+            + "RETURNING l.id AS \"id\", l.member_id AS \"memberId\", l.book_copy_id AS \"bookCopyId\", "
+            + "l.due_date AS \"dueDate\"", nativeQuery = true)
+    List<LoanDueProjection> markOverdueBefore(@Param("today") LocalDate today, @Param("now") LocalDateTime now,
+            @Param("limit") int limit);
+
+    /**
+     * Same as {@link #markOverdueBefore} but continues after the given
+     * (due_date, id) position. The extra due_date lower bound lets the planner
+     * range-scan idx_loan_due_date instead of filtering the row comparison.
+     */
+    @Transactional
+    @Query(value = "WITH batch AS ("
+            + "SELECT id FROM loans "
+            + "WHERE status = 'OPEN' AND due_date < :today "
+            + "AND due_date >= :afterDueDate AND (due_date, id) > (:afterDueDate, :afterId) "
+            + "ORDER BY due_date, id LIMIT :limit FOR UPDATE SKIP LOCKED) "
+            + "UPDATE loans l SET status = 'OVERDUE', updated_at = :now FROM batch WHERE l.id = batch.id "
+            + "RETURNING l.id AS \"id\", l.member_id AS \"memberId\", l.book_copy_id AS \"bookCopyId\", "
+            + "l.due_date AS \"dueDate\"", nativeQuery = true)
+    List<LoanDueProjection> markOverdueBeforeAfter(@Param("today") LocalDate today,
+            @Param("afterDueDate") LocalDate afterDueDate, @Param("afterId") UUID afterId,
+            @Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * Marks the given loans as OVERDUE if they are still OPEN and past due.
+     * Under READ COMMITTED a concurrent update of the same row makes the
+     * second statement re-check the condition and skip it.
+     */
+    @Transactional
+    @Query(value = "UPDATE loans SET status = 'OVERDUE', updated_at = :now "
+            + "WHERE id IN (:ids) AND status = 'OPEN' AND due_date < :today "
+            + "RETURNING id AS \"id\", member_id AS \"memberId\", book_copy_id AS \"bookCopyId\", "
+            + "due_date AS \"dueDate\"", nativeQuery = true)
+    List<LoanDueProjection> markOverdue(@Param("ids") Collection<UUID> ids, @Param("today") LocalDate today,
+            @Param("now") LocalDateTime now);
 }
@@ -0,0 +1,136 @@
+package com.kavala.loan_service.application.command.checkout;
+
+import com.kavala.loan_service.application.command.checkout.CheckoutPreconditions.Check;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CheckoutPreconditionsTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private final CheckoutPreconditions preconditions = new CheckoutPreconditions(
+            new StaticListableBeanFactory().getBeanProvider(ObservationRegistry.class));
+
+    @Test
+    void passesWhenEveryCheckPasses() {
+        AtomicInteger ran = new AtomicInteger();
+        List<Check> checks = List.of(
+                check("first", () -> ran.incrementAndGet() > 0, new IllegalStateException("first")),
+                check("second", () -> ran.incrementAndGet() > 0, new IllegalStateException("second")),
+                check("third", () -> ran.incrementAndGet() > 0, new IllegalStateException("third")));
+
+        assertTimeoutPreemptively(TIMEOUT, () -> assertDoesNotThrow(() -> preconditions.verify(checks)));
+        assertEquals(3, ran.get());
+    }
+
+    @Test
+    void earlierFailureWinsOverLaterExceptionThatFinishesFirst() {
+        IllegalStateException memberSuspended = new IllegalStateException("member suspended");
+        CountDownLatch laterFinished = new CountDownLatch(1);
+        List<Check> checks = List.of(
+                check("member", () -> {
+                    await(laterFinished);
+                    return false;
+                }, memberSuspended),
+                new Check("copy", () -> {
+                    try {
+                        throw new IllegalArgumentException("inventory unavailable");
+                    } finally {
+                        laterFinished.countDown();
+                    }
+                }, () -> new IllegalStateException("copy not available")));
+
+        RuntimeException thrown = assertTimeoutPreemptively(TIMEOUT,
+                () -> assertThrows(RuntimeException.class, () -> preconditions.verify(checks)));
+        assertSame(memberSuspended, thrown);
+    }
+
+    @Test
+    void earlierExceptionWinsOverLaterFailureThatFinishesFirst() {
+        IllegalArgumentException memberServiceDown = new IllegalArgumentException("member service down");
+        CountDownLatch laterFinished = new CountDownLatch(1);
+        List<Check> checks = List.of(
+                check("member", () -> {
+                    await(laterFinished);
+                    throw memberServiceDown;
+                }, new IllegalStateException("member suspended")),
+                check("copy", () -> {
+                    laterFinished.countDown();
+                    return false;
+                }, new IllegalStateException("copy not available")));
+
+        RuntimeException thrown = assertTimeoutPreemptively(TIMEOUT,
+                () -> assertThrows(RuntimeException.class, () -> preconditions.verify(checks)));
+        assertSame(memberServiceDown, thrown);
+    }
+
+    @Test
+    void laterFailureIsReportedWhenEarlierChecksPass() {
+        IllegalStateException copyNotAvailable = new IllegalStateException("copy not available");
+        List<Check> checks = List.of(
+                check("member", () -> true, new IllegalStateException("member suspended")),
+                check("copy", () -> false, copyNotAvailable));
+
+        RuntimeException thrown = assertTimeoutPreemptively(TIMEOUT,
+                () -> assertThrows(RuntimeException.class, () -> preconditions.verify(checks)));
+        assertSame(copyNotAvailable, thrown);
+    }
+
+    @Test
+    void failureCancelsLaterChecks() {
+        IllegalStateException memberSuspended = new IllegalStateException("member suspended");
+        CountDownLatch laterStarted = new CountDownLatch(1);
+        AtomicBoolean laterInterrupted = new AtomicBoolean();
+        List<Check> checks = List.of(
+                check("member", () -> {
+                    await(laterStarted);
+                    return false;
+                }, memberSuspended),
+                check("copy", () -> {
+                    laterStarted.countDown();
+                    try {
+                        // Never completes on its own
+                        new CountDownLatch(1).await();
+                    } catch (InterruptedException e) {
+                        laterInterrupted.set(true);
+                    }
+                    return true;
+                }, new IllegalStateException("copy not available")));
+
+        RuntimeException thrown = assertTimeoutPreemptively(TIMEOUT,
+                () -> assertThrows(RuntimeException.class, () -> preconditions.verify(checks)));
+        assertSame(memberSuspended, thrown);
+        assertTrue(laterInterrupted.get());
+    }
+
+    private static Check check(String name, BooleanSupplier condition, RuntimeException failure) {
+        return new Check(name, condition, () -> failure);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new IllegalStateException("Timed out waiting for another check");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
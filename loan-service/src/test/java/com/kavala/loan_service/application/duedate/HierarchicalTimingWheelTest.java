@@ -0,0 +1,124 @@
+package com.kavala.loan_service.application.duedate;
+
+import com.kavala.loan_service.application.duedate.HierarchicalTimingWheel.Timer;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HierarchicalTimingWheelTest {
+
+    private static final long TICK = 10;
+    private static final int WHEEL_SIZE = 4;
+    private static final long START = 1_000;
+
+    // Level 0 spans 40 ms, level 1 160 ms, level 2 640 ms
+    private final HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(TICK, WHEEL_SIZE, START);
+
+    @Test
+    void deadlineWithinCurrentTickIsNotStored() {
+        Timer<String> inTick = wheel.schedule(START + TICK - 1, "in-tick");
+        Timer<String> past = wheel.schedule(START - 500, "past");
+        Timer<String> nextTick = wheel.schedule(START + TICK, "next-tick");
+
+        assertFalse(inTick.isPending());
+        assertFalse(past.isPending());
+        assertTrue(nextTick.isPending());
+        assertEquals(1, wheel.size());
+    }
+
+    @Test
+    void timerExpiresWhenClockReachesItsTick() {
+        wheel.schedule(START + 3 * TICK + 5, "due");
+
+        assertEquals(List.of(), wheel.advanceTo(START + 3 * TICK - 1));
+        assertEquals(List.of("due"), wheel.advanceTo(START + 3 * TICK));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void timersCascadeDownToTheTickTheyAreDueIn() {
+        long[] deadlines = {START + 30, START + 100, START + 155, START + 500, START + 505, START + 2_000};
+        for (long deadline : deadlines) {
+            wheel.schedule(deadline, Long.toString(deadline));
+        }
+
+        Map<String, Long> firedAt = new HashMap<>();
+        for (long now = START; now <= START + 2_000; now += TICK) {
+            for (String payload : wheel.advanceTo(now)) {
+                firedAt.put(payload, now);
+            }
+        }
+
+        assertEquals(deadlines.length, firedAt.size());
+        for (long deadline : deadlines) {
+            assertEquals(deadline - deadline % TICK, firedAt.get(Long.toString(deadline)),
+                    "deadline " + deadline);
+        }
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void cancelledTimersNeverExpire() {
+        Timer<String> near = wheel.schedule(START + 20, "near");
+        Timer<String> sameBucket = wheel.schedule(START + 25, "same-bucket");
+        Timer<String> far = wheel.schedule(START + 600, "far");
+        wheel.schedule(START + 610, "kept");
+
+        wheel.cancel(near);
+        wheel.cancel(far);
+        // Cancelling twice is a no-op
+        wheel.cancel(far);
+
+        assertFalse(near.isPending());
+        assertFalse(far.isPending());
+        assertEquals(2, wheel.size());
+        assertEquals(List.of("same-bucket"), wheel.advanceTo(START + 100));
+
+        // Cancelling an expired timer is a no-op
+        wheel.cancel(sameBucket);
+        assertEquals(1, wheel.size());
+        assertEquals(List.of("kept"), wheel.advanceTo(START + 1_000));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void advanceToCanJumpManyTicksAtOnce() {
+        Random random = new Random(42);
+        long horizon = 100_000;
+        Map<String, Long> deadlines = new HashMap<>();
+        for (int i = 0; i < 1_000; i++) {
+            long deadline = START + TICK + random.nextLong(horizon);
+            String payload = "timer-" + i;
+            deadlines.put(payload, deadline);
+            assertTrue(wheel.schedule(deadline, payload).isPending());
+        }
+
+        long middle = START + horizon / 2;
+        List<String> firstHalf = wheel.advanceTo(middle);
+        long expectedFirstHalf = deadlines.values().stream().filter(deadline -> deadline < middle + TICK).count();
+        assertEquals(expectedFirstHalf, firstHalf.size());
+        assertEquals(deadlines.size() - expectedFirstHalf, wheel.size());
+        assertEquals(middle - middle % TICK, wheel.currentTime());
+
+        List<String> all = new ArrayList<>(firstHalf);
+        all.addAll(wheel.advanceTo(START + horizon + TICK));
+        assertEquals(deadlines.size(), all.size());
+        assertEquals(0, wheel.size());
+
+        // Expired in tick order
+        long previousTick = Long.MIN_VALUE;
+        for (String payload : all) {
+            long tick = deadlines.get(payload) / TICK;
+            assertTrue(tick >= previousTick, payload + " expired out of order");
+            previousTick = tick;
+        }
+    }
+}
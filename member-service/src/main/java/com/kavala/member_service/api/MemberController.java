@@ -20,6 +20,7 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.kavala.member_service.application.dto.CreateMemberCommand;
 import com.kavala.member_service.application.dto.MemberResponse;
+import com.kavala.member_service.application.dto.MemberStatusResponse;
 import com.kavala.member_service.application.dto.UpdateMemberCommand;
 import com.kavala.member_service.application.service.MemberService;
 import com.kavala.member_service.domain.model.Member;
@@ -65,6 +66,15 @@ public class MemberController {
         return ResponseEntity.ok(MemberResponse.fromMember(member));
     }
 
+    /**
+     * Existence, eligibility and loan limit in a single call for loan-service.
+     * An unknown id answers 200 with exists=false so callers need no second request.
+     */
+    @GetMapping("/{id}/status")
+    public ResponseEntity<MemberStatusResponse> getMemberStatus(@PathVariable UUID id) {
+        return ResponseEntity.ok(memberService.getMemberStatus(new MemberId(id)));
+    }
+
     @GetMapping
     public ResponseEntity<List<MemberResponse>> getAllMembers() {
         List<Member> members = memberService.getAllMembers();
@@ -0,0 +1,18 @@
+package com.kavala.member_service.application.dto;
+
+import java.util.UUID;
+
+import com.kavala.member_service.domain.model.Member;
+
+public record MemberStatusResponse(UUID id, boolean exists, String status, boolean canBorrow, int maxActiveLoans) {
+
+    public static MemberStatusResponse fromMember(Member member, int maxActiveLoans) {
+        return new MemberStatusResponse(member.getId().value(), true, member.getStatus().name(),
+                member.canBorrow(), maxActiveLoans);
+    }
+
+    public static MemberStatusResponse notFound(UUID id) {
+        return new MemberStatusResponse(id, false, null, false, 0);
+    }
+
+}
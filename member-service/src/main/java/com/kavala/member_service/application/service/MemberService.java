@@ -3,6 +3,7 @@ package com.kavala.member_service.application.service;
 import java.util.List;
 
 import com.kavala.member_service.application.dto.CreateMemberCommand;
+import com.kavala.member_service.application.dto.MemberStatusResponse;
 import com.kavala.member_service.application.dto.UpdateMemberCommand;
 import com.kavala.member_service.domain.model.Member;
 import com.kavala.member_service.domain.model.MemberId;
@@ -21,5 +22,7 @@ public interface MemberService {
 
     Member getMemberById(MemberId id);
 
+    MemberStatusResponse getMemberStatus(MemberId id);
+
     List<Member> getAllMembers();
 }
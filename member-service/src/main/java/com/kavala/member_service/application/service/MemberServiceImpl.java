@@ -3,6 +3,7 @@ package com.kavala.member_service.application.service;
 import java.util.List;
 
 import com.kavala.member_service.application.dto.CreateMemberCommand;
+import com.kavala.member_service.application.dto.MemberStatusResponse;
 import com.kavala.member_service.application.dto.UpdateMemberCommand;
 import com.kavala.member_service.domain.event.MemberCreatedEvent;
 import com.kavala.member_service.domain.event.MemberDeletedEvent;
@@ -13,6 +14,7 @@ import com.kavala.member_service.domain.model.Member;
 import com.kavala.member_service.domain.model.Name;
 import com.kavala.member_service.domain.model.MemberId;
 import com.kavala.member_service.domain.port.MemberRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,10 +24,13 @@ public class MemberServiceImpl implements MemberService {
 
     private final MemberRepository memberRepository;
     private final ApplicationEventPublisher eventPublisher;
+    private final int maxActiveLoans;
 
-    public MemberServiceImpl(MemberRepository memberRepository, ApplicationEventPublisher eventPublisher) {
+    public MemberServiceImpl(MemberRepository memberRepository, ApplicationEventPublisher eventPublisher,
+            @Value("${member.loans.max-active:5}") int maxActiveLoans) {
         this.memberRepository = memberRepository;
         this.eventPublisher = eventPublisher;
+        this.maxActiveLoans = maxActiveLoans;
     }
 
     @Override
@@ -87,6 +92,14 @@ public class MemberServiceImpl implements MemberService {
         return memberRepository.findById(id).orElseThrow(() -> new MemberNotFoundException(id));
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public MemberStatusResponse getMemberStatus(MemberId id) {
+        return memberRepository.findById(id)
+                .map(member -> MemberStatusResponse.fromMember(member, maxActiveLoans))
+                .orElseGet(() -> MemberStatusResponse.notFound(id.value()));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<Member> getAllMembers() {
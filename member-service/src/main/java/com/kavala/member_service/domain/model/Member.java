@@ -84,6 +84,10 @@ public class Member {
         return new Member(id, name, email, phone, MemberStatus.DELETED, createdAt, Instant.now());
     }
 
+    public boolean canBorrow() {
+        return this.status == MemberStatus.ACTIVE;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o)